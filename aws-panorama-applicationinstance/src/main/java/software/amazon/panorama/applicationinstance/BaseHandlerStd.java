@@ -1,26 +1,70 @@
 package software.amazon.panorama.applicationinstance;
 
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.AdaptiveRateLimiter;
+import software.amazon.panorama.common.ApiCallMetrics;
+import software.amazon.panorama.common.ApiRecording;
+import software.amazon.panorama.common.ClientBuilder;
+import software.amazon.panorama.common.MetricsProxyClient;
+import software.amazon.panorama.common.Priming;
+import software.amazon.panorama.common.RateLimitedProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    // the HandlerWrapper builds the handlers in the Lambda init phase, so priming happens before the first invocation
+    if (Priming.isEnabled()) {
+      Primer.prime();
+    }
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
           final AmazonWebServicesClientProxy proxy,
           final ResourceHandlerRequest<ResourceModel> request,
           final CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+    final ApiCallMetrics metrics = new ApiCallMetrics(ResourceModel.TYPE_NAME);
+    final AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.forAccount(request.getAwsAccountId(), request.getRegion());
+    try {
+      return handleRequest(
+              proxy,
+              request,
+              callbackContext != null ? callbackContext : new CallbackContext(),
+              new RateLimitedProxyClient<>(
+                      new MetricsProxyClient<>(
+                              ApiRecording.recordIfEnabled(proxy.newProxy(() -> ClientBuilder.getClient(request.getRegion()))),
+                              metrics),
+                      rateLimiter),
+              new RateLimitedProxyClient<>(
+                      new MetricsProxyClient<>(
+                              ApiRecording.recordIfEnabled(proxy.newProxy(() -> ClientBuilder.getAsyncClient(request.getRegion()))),
+                              metrics),
+                      rateLimiter),
+              logger
+      );
+    } finally {
+      metrics.publish(logger);
+    }
+  }
+
+  /**
+   * Handlers which can issue independent Panorama calls concurrently override this to make use of the async client.
+   * The async client may be null, in which case handlers fall back to the synchronous client.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+          final AmazonWebServicesClientProxy proxy,
+          final ResourceHandlerRequest<ResourceModel> request,
+          final CallbackContext callbackContext,
+          final ProxyClient<PanoramaClient> proxyClient,
+          final ProxyClient<PanoramaAsyncClient> asyncProxyClient,
+          final Logger logger) {
+    return handleRequest(proxy, request, callbackContext, proxyClient, logger);
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
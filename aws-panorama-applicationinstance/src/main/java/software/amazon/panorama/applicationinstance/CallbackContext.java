@@ -2,9 +2,32 @@ package software.amazon.panorama.applicationinstance;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.Map;
+import java.util.Set;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // last ApplicationInstanceStatus observed while stabilizing
+    private String applicationInstanceStatus;
+
+    // status and interval of the last delay chosen by the StabilizationScheduler
+    private String lastDelayStatus;
+    private int lastDelaySeconds;
+
+    // total seconds spent waiting for stabilization, and its breakdown per status
+    private int stabilizationElapsedSeconds;
+    private Map<String, Integer> stabilizationDelays;
+
+    // Create deployed the payloads of the model, or Update carried the create-only ones over: the final read returns
+    // them as submitted instead of calling DescribeApplicationInstanceDetails
+    private boolean payloadsSubmitted;
+
+    // fleet mode: the ApplicationInstance created on each device, the last status listed for each of them and the
+    // ones whose removal was requested
+    private Map<String, String> fleetApplicationInstanceIds;
+    private Map<String, String> fleetStatuses;
+    private Set<String> fleetRemovalsRequested;
 }
@@ -1,5 +1,6 @@
 package software.amazon.panorama.applicationinstance;
 
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
@@ -15,8 +16,11 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
 
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 public class CreateHandler extends BaseHandlerStd {
@@ -31,9 +35,31 @@ public class CreateHandler extends BaseHandlerStd {
             final CallbackContext callbackContext,
             final ProxyClient<PanoramaClient> proxyClient,
             final Logger logger
+    ) {
+        return handleRequest(proxy, request, callbackContext, proxyClient, null, logger);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<PanoramaClient> proxyClient,
+            final ProxyClient<PanoramaAsyncClient> asyncProxyClient,
+            final Logger logger
     ) {
         this.logger = new LoggerWrapper(logger);
         final ResourceModel model = request.getDesiredResourceState();
+        final StatusPoller statusPoller = StatusPoller.forAccount(request.getAwsAccountId(), request.getRegion());
+
+        if (FleetDeployment.isFleet(model)) {
+            final FleetDeployment fleet = new FleetDeployment(proxyClient, asyncProxyClient, statusPoller, this.logger);
+            return ProgressEvent.progress(model, callbackContext)
+                    .then(fleet::deploy)
+                    .then(progress -> stabilize(proxy, proxyClient, progress, () ->
+                            fleet.isStabilized(progress.getResourceModel(), progress.getCallbackContext(), StatusPoller.Phase.DEPLOYMENT)))
+                    .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, asyncProxyClient, logger));
+        }
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
@@ -42,8 +68,10 @@ public class CreateHandler extends BaseHandlerStd {
                                 .makeServiceCall(this::createApplicationInstance)
                                 .done(this::setApplicationInstanceId)
                 )
-                .then(progress -> stabilize(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> stabilize(proxy, proxyClient, progress, () ->
+                        isStabilized(proxyClient, progress.getResourceModel(), progress.getCallbackContext(),
+                                StatusPoller.isEnabled() ? statusPoller : null)))
+                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, asyncProxyClient, logger));
     }
 
     /**
@@ -64,42 +92,60 @@ public class CreateHandler extends BaseHandlerStd {
             createApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(request,
                     proxyClient.client()::createApplicationInstance);
         } catch (final PanoramaException e) {
-            logger.error(String.format("API Exception is thrown from Panorama service. Request: %s", request.toString()));
+            logger.error("API Exception is thrown from Panorama service", "Request", request);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     "CreateApplicationInstance",
                     ResourceModel.TYPE_NAME,
                     String.format("ApplicationInstanceName: %s, Device to deploy: %s", request.name(), request.defaultRuntimeContextDevice()),
-                    request.toString());
+                    request);
         } catch (final AwsServiceException e) {
-            logger.error(String.format("Exception happened when deploying ApplicationInstance. Request: %s", request.toString()));
+            logger.error("Exception happened when deploying ApplicationInstance", "Request", request);
             throw new CfnGeneralServiceException("CreateApplicationInstance", e);
         }
 
-        logger.info(String.format("%s successfully deployed to Device %s with ApplicationInstanceName: %s.", ResourceModel.TYPE_NAME,
-                request.defaultRuntimeContextDevice(), request.name()));
+        logger.info("ApplicationInstance successfully deployed",
+                "Device", request.defaultRuntimeContextDevice(),
+                "ApplicationInstanceName", request.name());
         return createApplicationInstanceResponse;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> stabilize(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<PanoramaClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final BooleanSupplier stabilized) {
         return proxy.initiate("AWS-Panorama-ApplicationInstance::stabilize", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
+                .backoffDelay(new StabilizationScheduler(progress.getCallbackContext()))
                 .makeServiceCall(EMPTY_CALL)
-                .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                        isStabilized(proxyInvocation, model)).progress();
+                .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) -> stabilized.getAsBoolean())
+                .progress();
     }
 
-    private boolean isStabilized(final ProxyClient<PanoramaClient> proxyClient, final ResourceModel model) {
-        DescribeApplicationInstanceRequest describeApplicationInstanceRequest = Translator.translateToReadRequest(model);
-        DescribeApplicationInstanceResponse describeApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest,
-                proxyClient.client()::describeApplicationInstance);
+    /**
+     * @param statusPoller polls the status together with the other instances stabilizing in the container, null to
+     *                     describe the instance
+     */
+    private boolean isStabilized(final ProxyClient<PanoramaClient> proxyClient,
+                                 final ResourceModel model,
+                                 final CallbackContext callbackContext,
+                                 final StatusPoller statusPoller) {
+        String status = statusPoller == null ? null
+                : statusPoller.status(proxyClient, model.getApplicationInstanceId(), StatusPoller.Phase.DEPLOYMENT, logger);
+        if (status == null) {
+            DescribeApplicationInstanceRequest describeApplicationInstanceRequest = Translator.translateToReadRequest(model);
+            DescribeApplicationInstanceResponse describeApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest,
+                    proxyClient.client()::describeApplicationInstance);
+            status = describeApplicationInstanceResponse.statusAsString();
+        }
 
-        ApplicationInstanceStatus applicationInstanceStatus = describeApplicationInstanceResponse.status();
+        ApplicationInstanceStatus applicationInstanceStatus = ApplicationInstanceStatus.fromValue(status);
+        // the StabilizationScheduler picks the next polling interval from the status observed here
+        callbackContext.setApplicationInstanceStatus(status);
         if (applicationInstanceStatus.equals(ApplicationInstanceStatus.DEPLOYMENT_ERROR)) {
-            logger.error(String.format("ApplicationInstance deployment failed with ApplicationInstanceId: %s", model.getApplicationInstanceId()));
+            logger.error("ApplicationInstance deployment failed",
+                    "ApplicationInstanceId", model.getApplicationInstanceId());
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getApplicationInstanceId());
         }
 
@@ -113,7 +159,8 @@ public class CreateHandler extends BaseHandlerStd {
                                                                                    CallbackContext callbackContext
     ) {
         resourceModel.setApplicationInstanceId(createApplicationInstanceResponse.applicationInstanceId());
-        logger.info(String.format("ApplicationInstance deployed with Id: %s", resourceModel.getApplicationInstanceId()));
+        callbackContext.setPayloadsSubmitted(true);
+        logger.info("ApplicationInstance deployed", "ApplicationInstanceId", resourceModel.getApplicationInstanceId());
 
         return ProgressEvent.progress(resourceModel, callbackContext);
     }
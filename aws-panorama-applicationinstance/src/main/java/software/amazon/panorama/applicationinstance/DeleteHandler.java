@@ -1,6 +1,7 @@
 package software.amazon.panorama.applicationinstance;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
@@ -20,22 +21,23 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
 
-import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private static final Constant STABILIZATION_DELAY = Constant.of()
-            .timeout(Duration.ofDays(1L))
-            .delay(Duration.ofMinutes(1))
-            .build();
-
     private LoggerWrapper logger;
-    private Delay delay;
+    private final Function<CallbackContext, Delay> delayFactory;
 
     public DeleteHandler() {
+        this(RemovalBackoffDelay::new);
+    }
+
+    DeleteHandler(final Function<CallbackContext, Delay> delayFactory) {
         super();
-        delay = STABILIZATION_DELAY;
+        this.delayFactory = delayFactory;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -44,21 +46,64 @@ public class DeleteHandler extends BaseHandlerStd {
             final CallbackContext callbackContext,
             final ProxyClient<PanoramaClient> proxyClient,
             final Logger logger
+    ) {
+        return handleRequest(proxy, request, callbackContext, proxyClient, null, logger);
+    }
+
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<PanoramaClient> proxyClient,
+            final ProxyClient<PanoramaAsyncClient> asyncProxyClient,
+            final Logger logger
     ) {
         this.logger = new LoggerWrapper(logger);
         final ResourceModel model = request.getDesiredResourceState();
+        final StatusPoller statusPoller = StatusPoller.forAccount(request.getAwsAccountId(), request.getRegion());
+
+        if (FleetDeployment.hasFleetInstances(model)) {
+            return removeFleet(proxy, proxyClient, new FleetDeployment(proxyClient, asyncProxyClient, statusPoller, this.logger),
+                    model, callbackContext);
+        }
+        final StatusPoller instancePoller = StatusPoller.isEnabled() ? statusPoller : null;
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
                         proxy.initiate("AWS-Panorama-ApplicationInstance::Remove", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .backoffDelay(delay)
+                                .backoffDelay(delayFactory.apply(callbackContext))
                                 .makeServiceCall(this::deleteApplicationInstance)
-                                .stabilize(this::stabilizedOnDelete)
+                                .stabilize((removeApplicationInstanceRequest, removeApplicationInstanceResponse, proxyInvocation, resourceModel, context) ->
+                                        stabilizedOnDelete(removeApplicationInstanceRequest, proxyInvocation, resourceModel, context, instancePoller))
                                 .done(this::setResourceModelToNullAndReturnSuccess)
                 );
     }
 
+    /**
+     * Remove every ApplicationInstance of a fleet, and wait for all of them to be removed.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> removeFleet(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<PanoramaClient> proxyClient,
+            final FleetDeployment fleet,
+            final ResourceModel model,
+            final CallbackContext callbackContext
+    ) {
+        final BooleanSupplier removed = () -> fleet.isStabilized(model, callbackContext, StatusPoller.Phase.REMOVAL);
+
+        return ProgressEvent.progress(model, callbackContext)
+                .then(fleet::remove)
+                .then(progress -> proxy.initiate("AWS-Panorama-ApplicationInstance::RemoveFleet", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Function.identity())
+                        .backoffDelay(delayFactory.apply(callbackContext))
+                        .makeServiceCall((resourceModel, client) -> resourceModel)
+                        .stabilize((request, response, proxyInvocation, resourceModel, context) -> removed.getAsBoolean())
+                        .progress())
+                .then(progress -> ProgressEvent.defaultSuccessHandler(null));
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> setResourceModelToNullAndReturnSuccess(
             RemoveApplicationInstanceRequest removeApplicationInstanceRequest,
             RemoveApplicationInstanceResponse removeApplicationInstanceResponse,
@@ -99,20 +144,20 @@ public class DeleteHandler extends BaseHandlerStd {
                     throw new CfnNotFoundException(ResourceModel.TYPE_NAME, removeApplicationInstanceRequest.applicationInstanceId(), e);
                 }
             }
-            logger.error(String.format("Exception happened when removing ApplicationInstance. ApplicationInstanceId: %s",
-                    removeApplicationInstanceRequest.applicationInstanceId()));
+            logger.error("Exception happened when removing ApplicationInstance",
+                    "ApplicationInstanceId", removeApplicationInstanceRequest.applicationInstanceId());
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     "RemoveApplicationInstance",
                     ResourceModel.TYPE_NAME,
                     removeApplicationInstanceRequest.applicationInstanceId(),
-                    removeApplicationInstanceRequest.toString());
+                    removeApplicationInstanceRequest);
         }  catch (final AwsServiceException e) {
-            logger.error(String.format("Exception happened when removing ApplicationInstance. ApplicationInstanceId: %s",
-                    removeApplicationInstanceRequest.applicationInstanceId()));
+            logger.error("Exception happened when removing ApplicationInstance",
+                    "ApplicationInstanceId", removeApplicationInstanceRequest.applicationInstanceId());
             throw new CfnGeneralServiceException("RemoveApplicationInstance", e);
         }
 
-        logger.info(String.format("%s successfully removed with ApplicationInstanceId: %s.", ResourceModel.TYPE_NAME, removeApplicationInstanceRequest.applicationInstanceId()));
+        logger.info("ApplicationInstance successfully removed", "ApplicationInstanceId", removeApplicationInstanceRequest.applicationInstanceId());
         return removeApplicationInstanceResponse;
     }
 
@@ -120,18 +165,19 @@ public class DeleteHandler extends BaseHandlerStd {
      * Stabilize removing ApplicationInstance
      *
      * @param removeApplicationInstanceRequest the aws service request to delete a resource
-     * @param removeApplicationInstanceResponse the aws service response to delete a resource
      * @param proxyClient the aws service client to make the call
      * @param model resource model
      * @param callbackContext callback context
+     * @param statusPoller polls the status together with the other instances stabilizing in the container, null to
+     *                     describe the instance
      * @return boolean state of stabilized or not
      */
     private boolean stabilizedOnDelete(
             final RemoveApplicationInstanceRequest removeApplicationInstanceRequest,
-            final RemoveApplicationInstanceResponse removeApplicationInstanceResponse,
             final ProxyClient<PanoramaClient> proxyClient,
             final ResourceModel model,
-            final CallbackContext callbackContext
+            final CallbackContext callbackContext,
+            final StatusPoller statusPoller
     ) {
         DescribeApplicationInstanceRequest describeApplicationInstanceRequest = DescribeApplicationInstanceRequest.builder()
                 .applicationInstanceId(model.getApplicationInstanceId())
@@ -139,10 +185,18 @@ public class DeleteHandler extends BaseHandlerStd {
 
         boolean stabilized = false;
         try {
-            DescribeApplicationInstanceResponse describeApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest, proxyClient.client()::describeApplicationInstance);
-            ApplicationInstanceStatus applicationInstanceStatus = describeApplicationInstanceResponse.status();
+            String status = statusPoller == null ? null
+                    : statusPoller.status(proxyClient, model.getApplicationInstanceId(), StatusPoller.Phase.REMOVAL, logger);
+            if (status == null) {
+                DescribeApplicationInstanceResponse describeApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest, proxyClient.client()::describeApplicationInstance);
+                status = describeApplicationInstanceResponse.statusAsString();
+            }
+            ApplicationInstanceStatus applicationInstanceStatus = ApplicationInstanceStatus.fromValue(status);
+            // the removal delay is tuned on the status observed here
+            callbackContext.setApplicationInstanceStatus(status);
             if (applicationInstanceStatus.equals(ApplicationInstanceStatus.REMOVAL_FAILED)) {
-                logger.error(String.format("ApplicationInstance removal failed with ApplicationInstanceId: %s", removeApplicationInstanceRequest.applicationInstanceId()));
+                logger.error("ApplicationInstance removal failed",
+                        "ApplicationInstanceId", removeApplicationInstanceRequest.applicationInstanceId());
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getApplicationInstanceId());
             }
 
@@ -153,7 +207,7 @@ public class DeleteHandler extends BaseHandlerStd {
             stabilized = true;
         }
 
-        logger.info(String.format("%s deletion with ApplicationInstanceId %s has stabilized", ResourceModel.TYPE_NAME, model.getApplicationInstanceId()));
+        logger.info("ApplicationInstance deletion has stabilized", "ApplicationInstanceId", model.getApplicationInstanceId());
         return stabilized;
     }
 }
@@ -0,0 +1,366 @@
+package software.amazon.panorama.applicationinstance;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.PanoramaException;
+import software.amazon.awssdk.services.panorama.model.RemoveApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.RemoveApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Fleet mode of the ApplicationInstance resource: the application is deployed to the DefaultRuntimeContextDevice and
+ * to every device in FleetDevices, each device getting an ApplicationInstance of its own. The instance of the
+ * DefaultRuntimeContextDevice is the ApplicationInstanceId of the resource, the instance of each device is listed in
+ * FleetApplicationInstances.
+ *
+ * Creates and removals are issued BATCH_SIZE at a time through the async client. The fleet is then stabilized by a
+ * single polling loop, which gets the statuses of all the instances still pending from the StatusPoller instead of
+ * describing every instance. The instances created, their last listed statuses and the
+ * removals requested are kept in the CallbackContext, so a re-invocation carries on where the previous one stopped.
+ */
+class FleetDeployment {
+    static final int BATCH_SIZE = 10;
+
+    private final ProxyClient<PanoramaClient> proxyClient;
+    private final ProxyClient<PanoramaAsyncClient> asyncProxyClient;
+    private final StatusPoller statusPoller;
+    private final LoggerWrapper logger;
+
+    /**
+     * @param asyncProxyClient may be null, in which case the calls of a batch are made one after the other
+     */
+    FleetDeployment(final ProxyClient<PanoramaClient> proxyClient,
+                    final ProxyClient<PanoramaAsyncClient> asyncProxyClient,
+                    final StatusPoller statusPoller,
+                    final LoggerWrapper logger) {
+        this.proxyClient = proxyClient;
+        this.asyncProxyClient = asyncProxyClient;
+        this.statusPoller = statusPoller;
+        this.logger = logger;
+    }
+
+    static boolean isFleet(final ResourceModel model) {
+        return model.getFleetDevices() != null && !model.getFleetDevices().isEmpty();
+    }
+
+    static boolean hasFleetInstances(final ResourceModel model) {
+        return model.getFleetApplicationInstances() != null && !model.getFleetApplicationInstances().isEmpty();
+    }
+
+    /**
+     * The devices of the fleet, the DefaultRuntimeContextDevice first, each one once.
+     */
+    static List<String> devices(final ResourceModel model) {
+        final Set<String> devices = new LinkedHashSet<>();
+        devices.add(model.getDefaultRuntimeContextDevice());
+        devices.addAll(model.getFleetDevices());
+        return new ArrayList<>(devices);
+    }
+
+    /**
+     * Create an ApplicationInstance on each device of the fleet which has none yet, and set the instances in the model.
+     * When a create fails, the instances created so far are removed before the failure is thrown: CloudFormation keeps
+     * neither the model nor the CallbackContext of a failed create, so nothing would delete them afterwards.
+     */
+    ProgressEvent<ResourceModel, CallbackContext> deploy(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getFleetApplicationInstanceIds() == null) {
+            callbackContext.setFleetApplicationInstanceIds(new LinkedHashMap<>());
+        }
+        final Map<String, String> applicationInstanceIds = callbackContext.getFleetApplicationInstanceIds();
+
+        final List<CreateApplicationInstanceRequest> requests = devices(model).stream()
+                .filter(device -> !applicationInstanceIds.containsKey(device))
+                .map(device -> Translator.translateToCreateRequest(model, device))
+                .collect(Collectors.toList());
+        try {
+            inBatches("CreateApplicationInstance", requests,
+                    CreateApplicationInstanceRequest::defaultRuntimeContextDevice,
+                    request -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::createApplicationInstance),
+                    request -> asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncProxyClient.client()::createApplicationInstance),
+                    (CreateApplicationInstanceRequest request, CreateApplicationInstanceResponse response) ->
+                            applicationInstanceIds.put(request.defaultRuntimeContextDevice(), response.applicationInstanceId()),
+                    null);
+        } catch (final RuntimeException e) {
+            rollBack(applicationInstanceIds.values(), callbackContext);
+            throw e;
+        }
+
+        final List<FleetApplicationInstance> fleetApplicationInstances = devices(model).stream()
+                .map(device -> FleetApplicationInstance.builder()
+                        .device(device)
+                        .applicationInstanceId(applicationInstanceIds.get(device))
+                        .build())
+                .collect(Collectors.toList());
+        model.setApplicationInstanceId(applicationInstanceIds.get(model.getDefaultRuntimeContextDevice()));
+        model.setFleetApplicationInstances(fleetApplicationInstances);
+        callbackContext.setPayloadsSubmitted(true);
+        logger.info("ApplicationInstances deployed to the fleet",
+                "ApplicationInstanceId", model.getApplicationInstanceId(),
+                "Devices", fleetApplicationInstances.size());
+
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    /**
+     * Remove each ApplicationInstance of the fleet whose removal was not requested yet.
+     */
+    ProgressEvent<ResourceModel, CallbackContext> remove(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getFleetRemovalsRequested() == null) {
+            callbackContext.setFleetRemovalsRequested(new LinkedHashSet<>());
+        }
+        final Set<String> removalsRequested = callbackContext.getFleetRemovalsRequested();
+
+        requestRemovals(applicationInstanceIds(model), callbackContext);
+        logger.info("ApplicationInstances of the fleet removed",
+                "ApplicationInstanceId", model.getApplicationInstanceId(),
+                "Devices", removalsRequested.size());
+
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    /**
+     * Remove the instances a failed deploy created. A removal failing as well is logged with the instances left
+     * behind, the failure of the deploy is the one thrown.
+     */
+    private void rollBack(final Collection<String> applicationInstanceIds, final CallbackContext callbackContext) {
+        if (callbackContext.getFleetRemovalsRequested() == null) {
+            callbackContext.setFleetRemovalsRequested(new LinkedHashSet<>());
+        }
+        try {
+            requestRemovals(applicationInstanceIds, callbackContext);
+        } catch (final RuntimeException e) {
+            logger.error("ApplicationInstances of a failed fleet deployment could not be removed",
+                    "ApplicationInstanceIds", applicationInstanceIds.stream()
+                            .filter(applicationInstanceId -> !callbackContext.getFleetRemovalsRequested().contains(applicationInstanceId))
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Issue the removals not requested yet. An instance which is not found is taken as removed.
+     */
+    private void requestRemovals(final Collection<String> applicationInstanceIds, final CallbackContext callbackContext) {
+        final Set<String> removalsRequested = callbackContext.getFleetRemovalsRequested();
+        final List<RemoveApplicationInstanceRequest> requests = applicationInstanceIds.stream()
+                .distinct()
+                .filter(applicationInstanceId -> !removalsRequested.contains(applicationInstanceId))
+                .map(applicationInstanceId -> RemoveApplicationInstanceRequest.builder()
+                        .applicationInstanceId(applicationInstanceId)
+                        .build())
+                .collect(Collectors.toList());
+        inBatches("RemoveApplicationInstance", requests,
+                RemoveApplicationInstanceRequest::applicationInstanceId,
+                request -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::removeApplicationInstance),
+                request -> asyncProxyClient.injectCredentialsAndInvokeV2Async(request, asyncProxyClient.client()::removeApplicationInstance),
+                (RemoveApplicationInstanceRequest request, RemoveApplicationInstanceResponse response) ->
+                        removalsRequested.add(request.applicationInstanceId()),
+                request -> {
+                    removalsRequested.add(request.applicationInstanceId());
+                    statuses(callbackContext).put(request.applicationInstanceId(), ApplicationInstanceStatus.REMOVAL_SUCCEEDED.toString());
+                });
+    }
+
+    /**
+     * Whether every ApplicationInstance of the fleet reached the end status of the phase. The instances not there yet
+     * are looked up through the StatusPoller, in the lists of ApplicationInstances per status of the phase, or
+     * described one by one when there are too few of them to list.
+     *
+     * The least advanced status is kept as the ApplicationInstanceStatus of the CallbackContext, for the delay to pick
+     * the next polling interval from.
+     */
+    boolean isStabilized(final ResourceModel model, final CallbackContext callbackContext, final StatusPoller.Phase phase) {
+        final Map<String, String> statuses = statuses(callbackContext);
+        final Set<String> pending = applicationInstanceIds(model).stream()
+                .filter(applicationInstanceId -> !phase.getSucceeded().toString().equals(statuses.get(applicationInstanceId)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        final Map<String, String> listed = statusPoller.statuses(proxyClient, pending, phase, logger);
+        for (final String applicationInstanceId : pending) {
+            if (listed == null) {
+                statuses.put(applicationInstanceId, describeStatus(applicationInstanceId, phase));
+            } else if (listed.containsKey(applicationInstanceId)) {
+                statuses.put(applicationInstanceId, listed.get(applicationInstanceId));
+            }
+        }
+
+        final List<String> failed = pending.stream()
+                .filter(applicationInstanceId -> phase.getFailed().toString().equals(statuses.get(applicationInstanceId)))
+                .collect(Collectors.toList());
+        if (!failed.isEmpty()) {
+            logger.error("ApplicationInstances of the fleet failed", "ApplicationInstanceIds", failed);
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, String.join(",", failed));
+        }
+
+        // an instance not listed yet, as listing is eventually consistent, has not left the first status of the phase
+        callbackContext.setApplicationInstanceStatus(pending.stream()
+                .map(applicationInstanceId -> statuses.getOrDefault(applicationInstanceId, phase.getPending().toString()))
+                .filter(status -> !phase.getSucceeded().toString().equals(status))
+                .min(Comparator.comparing(status -> ApplicationInstanceStatus.fromValue(status).ordinal()))
+                .orElse(phase.getSucceeded().toString()));
+        return phase.getSucceeded().toString().equals(callbackContext.getApplicationInstanceStatus());
+    }
+
+    /**
+     * The status of a single instance. An instance which is not found any more is removed.
+     */
+    private String describeStatus(final String applicationInstanceId, final StatusPoller.Phase phase) {
+        final DescribeApplicationInstanceRequest request = DescribeApplicationInstanceRequest.builder()
+                .applicationInstanceId(applicationInstanceId)
+                .build();
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeApplicationInstance)
+                    .statusAsString();
+        } catch (final ResourceNotFoundException e) {
+            if (phase == StatusPoller.Phase.REMOVAL) {
+                return ApplicationInstanceStatus.REMOVAL_SUCCEEDED.toString();
+            }
+            throw translate(e, "DescribeApplicationInstance", applicationInstanceId, request);
+        } catch (final AwsServiceException e) {
+            throw translate(e, "DescribeApplicationInstance", applicationInstanceId, request);
+        }
+    }
+
+    /**
+     * Issue the calls BATCH_SIZE at a time, concurrently through the async client or one after the other without it.
+     * Every call of a batch is waited for, so the responses that came back are recorded even when another call failed,
+     * before the first failure is thrown. This holds for any failure of a call, such as a CfnThrottlingException of the
+     * rate limiter, not only for the exceptions of the service.
+     *
+     * @param onNotFound handles a ResourceNotFoundException in place of a response, null to fail the call
+     */
+    private <RequestT extends SdkPojo, ResponseT> void inBatches(
+            final String operation,
+            final List<RequestT> requests,
+            final Function<RequestT, String> identifier,
+            final Function<RequestT, ResponseT> call,
+            final Function<RequestT, CompletableFuture<ResponseT>> asyncCall,
+            final BiConsumer<RequestT, ResponseT> onResponse,
+            final Consumer<RequestT> onNotFound) {
+        for (int from = 0; from < requests.size(); from += BATCH_SIZE) {
+            final List<RequestT> batch = requests.subList(from, Math.min(from + BATCH_SIZE, requests.size()));
+            final List<Supplier<ResponseT>> responses = new ArrayList<>(batch.size());
+            for (final RequestT request : batch) {
+                if (asyncProxyClient == null) {
+                    responses.add(() -> call.apply(request));
+                } else {
+                    // a call refused before it is sent, e.g. by the rate limiter, must not keep the calls already
+                    // issued in the batch from being waited for
+                    CompletableFuture<ResponseT> future;
+                    try {
+                        future = asyncCall.apply(request);
+                    } catch (final RuntimeException e) {
+                        future = new CompletableFuture<>();
+                        future.completeExceptionally(e);
+                    }
+                    final CompletableFuture<ResponseT> issued = future;
+                    responses.add(() -> join(issued));
+                }
+            }
+
+            RuntimeException failure = null;
+            for (int i = 0; i < batch.size(); i++) {
+                final RequestT request = batch.get(i);
+                try {
+                    onResponse.accept(request, responses.get(i).get());
+                } catch (final ResourceNotFoundException e) {
+                    if (onNotFound != null) {
+                        onNotFound.accept(request);
+                    } else if (failure == null) {
+                        failure = translate(e, operation, identifier.apply(request), request);
+                    }
+                } catch (final AwsServiceException e) {
+                    if (failure == null) {
+                        failure = translate(e, operation, identifier.apply(request), request);
+                    }
+                } catch (final RuntimeException e) {
+                    logger.error("Exception happened in a batch of calls", "Operation", operation,
+                            "Identifier", identifier.apply(request));
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private RuntimeException translate(final AwsServiceException e,
+                                       final String operation,
+                                       final String identifier,
+                                       final SdkPojo request) {
+        logger.error("Exception happened in a batch of calls", "Operation", operation, "Identifier", identifier);
+        if (e instanceof PanoramaException) {
+            return PanoramaExceptionTranslator.translateForAPIException((PanoramaException) e,
+                    operation,
+                    ResourceModel.TYPE_NAME,
+                    identifier,
+                    request);
+        }
+        return new CfnGeneralServiceException(operation, e);
+    }
+
+    private static List<String> applicationInstanceIds(final ResourceModel model) {
+        return model.getFleetApplicationInstances().stream()
+                .map(FleetApplicationInstance::getApplicationInstanceId)
+                .filter(applicationInstanceId -> applicationInstanceId != null)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, String> statuses(final CallbackContext callbackContext) {
+        if (callbackContext.getFleetStatuses() == null) {
+            callbackContext.setFleetStatuses(new HashMap<>());
+        }
+        return callbackContext.getFleetStatuses();
+    }
+
+    /**
+     * Wait for an async Panorama call and rethrow its failure as-is, so it goes through the same error mapping as a
+     * synchronous call.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package software.amazon.panorama.applicationinstance;
 
 import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
 import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesRequest;
 import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.StatusFilter;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -10,7 +12,38 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Lists the ApplicationInstances a page at a time, leaving out the removed ones the service keeps listing for a while.
+ *
+ * The service pages are read until the page holds PAGE_SIZE ApplicationInstances or LIST_BUDGET is spent, so a run of
+ * removed instances does not come back as short or empty pages. The nextToken returned is the service's nextToken of
+ * the page being read along with the number of its items already read, which lets the next call resume in the middle
+ * of a service page; the service returns the same page for the same token. A nextToken which is not one of these is
+ * taken as a service nextToken.
+ */
 public class ListHandler extends BaseHandlerStd {
+    // largest page ListApplicationInstances accepts
+    static final int PAGE_SIZE = 25;
+    static final long LIST_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+    private final LongSupplier nanoTime;
+
+    public ListHandler() {
+        this(System::nanoTime);
+    }
+
+    ListHandler(final LongSupplier nanoTime) {
+        super();
+        this.nanoTime = nanoTime;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,18 +57,94 @@ public class ListHandler extends BaseHandlerStd {
         final String deviceId = model.getDeviceId();
         final String statusFilter = model.getStatusFilter();
 
-        final ListApplicationInstancesRequest listApplicationInstancesRequest =
-                Translator.translateToListRequest(deviceId, statusFilter, request.getNextToken());
+        if (StatusFilter.REMOVAL_SUCCEEDED.toString().equals(statusFilter)) {
+            // every instance of that status is left out
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModels(Collections.emptyList())
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
 
-        ListApplicationInstancesResponse listApplicationInstancesResponse = proxy.injectCredentialsAndInvokeV2(listApplicationInstancesRequest,
-                proxyClient.client()::listApplicationInstances);
+        final long deadline = nanoTime.getAsLong() + LIST_BUDGET_NANOS;
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        PageToken position = PageToken.decode(request.getNextToken());
+        String nextToken;
+        while (true) {
+            final ListApplicationInstancesRequest listApplicationInstancesRequest =
+                    Translator.translateToListRequest(deviceId, statusFilter, position.getServiceToken(), PAGE_SIZE);
+            final ListApplicationInstancesResponse listApplicationInstancesResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    listApplicationInstancesRequest, proxyClient.client()::listApplicationInstances);
+            final List<ApplicationInstance> applicationInstances = listApplicationInstancesResponse.hasApplicationInstances()
+                    ? listApplicationInstancesResponse.applicationInstances() : Collections.emptyList();
 
-        String nextToken = listApplicationInstancesResponse.nextToken();
+            int read = position.getRead();
+            for (; read < applicationInstances.size() && resourceModels.size() < PAGE_SIZE; read++) {
+                if (!Translator.isRemoved(applicationInstances.get(read))) {
+                    resourceModels.add(Translator.translateFromListItem(applicationInstances.get(read)));
+                }
+            }
+            // the removed instances ending the page need not be read again
+            while (read < applicationInstances.size() && Translator.isRemoved(applicationInstances.get(read))) {
+                read++;
+            }
+
+            if (read < applicationInstances.size()) {
+                nextToken = new PageToken(position.getServiceToken(), read).encode();
+                break;
+            }
+            if (listApplicationInstancesResponse.nextToken() == null) {
+                nextToken = null;
+                break;
+            }
+            position = new PageToken(listApplicationInstancesResponse.nextToken(), 0);
+            if (resourceModels.size() >= PAGE_SIZE || nanoTime.getAsLong() - deadline >= 0) {
+                nextToken = position.encode();
+                break;
+            }
+        }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(Translator.translateFromListResponse(listApplicationInstancesResponse))
+                .resourceModels(resourceModels)
                 .nextToken(nextToken)
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
+
+    /**
+     * Where a page starts: the service nextToken of the page to read and the number of its items read already.
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    static class PageToken {
+        private static final String PREFIX = "page.";
+
+        private final String serviceToken;
+        private final int read;
+
+        String encode() {
+            final String position = read + ":" + (serviceToken == null ? "" : serviceToken);
+            return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static PageToken decode(final String nextToken) {
+            if (nextToken == null) {
+                return new PageToken(null, 0);
+            }
+            if (nextToken.startsWith(PREFIX)) {
+                try {
+                    final String position = new String(Base64.getUrlDecoder().decode(nextToken.substring(PREFIX.length())),
+                            StandardCharsets.UTF_8);
+                    final int separator = position.indexOf(':');
+                    final String serviceToken = position.substring(separator + 1);
+                    final int read = Integer.parseInt(position.substring(0, separator));
+                    if (read >= 0) {
+                        return new PageToken(serviceToken.isEmpty() ? null : serviceToken, read);
+                    }
+                } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+                    // not one of ours after all
+                }
+            }
+            return new PageToken(nextToken, 0);
+        }
+    }
 }
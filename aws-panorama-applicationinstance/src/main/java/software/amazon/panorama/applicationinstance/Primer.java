@@ -0,0 +1,85 @@
+package software.amazon.panorama.applicationinstance;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsResponse;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.panorama.common.ClientBuilder;
+import software.amazon.panorama.common.Priming;
+
+import java.util.Collections;
+
+/**
+ * Cold start priming for the ApplicationInstance handlers, see {@link Priming}. It runs from the static initializer
+ * of {@link BaseHandlerStd}, and {@link #main} runs it on its own, e.g. to record the class list of a
+ * class-data-sharing archive.
+ */
+public class Primer {
+    // answer of the local client to both DescribeApplicationInstance and DescribeApplicationInstanceDetails, the
+    // unmarshallers skip the members of the other response
+    static final String DESCRIBE_APPLICATION_INSTANCE_RESPONSE = "{\"Name\":\"priming\",\"Description\":\"priming\","
+            + "\"ApplicationInstanceId\":\"applicationInstance-priming\",\"DefaultRuntimeContextDevice\":\"device-priming\","
+            + "\"DefaultRuntimeContextDeviceName\":\"device\",\"RuntimeRoleArn\":\"arn:aws:iam::123456789012:role/priming\","
+            + "\"Status\":\"DEPLOYMENT_SUCCEEDED\",\"HealthStatus\":\"RUNNING\",\"StatusDescription\":\"priming\","
+            + "\"CreatedTime\":1600000000,\"LastUpdatedTime\":1600000000,"
+            + "\"Arn\":\"arn:aws:panorama:us-east-1:123456789012:applicationInstance/applicationInstance-priming\","
+            + "\"Tags\":{\"key\":\"value\"},"
+            + "\"ManifestPayload\":{\"PayloadData\":\"{\\\"nodeGraph\\\":{}}\"},"
+            + "\"ManifestOverridesPayload\":{\"PayloadData\":\"{\\\"nodeGraphOverrides\\\":{}}\"}}";
+
+    private static final ResourceModel MODEL = ResourceModel.builder()
+            .name("priming")
+            .description("priming")
+            .applicationInstanceId("applicationInstance-priming")
+            .defaultRuntimeContextDevice("device-priming")
+            .manifestPayload(ManifestPayload.builder().payloadData("{\"nodeGraph\":{}}").build())
+            .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData("{\"nodeGraphOverrides\":{}}").build())
+            .tags(Collections.singleton(Tag.builder().key("key").value("value").build()))
+            .build();
+
+    public static void prime() {
+        Priming.prime(steps());
+    }
+
+    static Priming.Step[] steps() {
+        return new Priming.Step[]{
+                Primer::translateRequests,
+                Primer::describeLocally,
+                () -> Priming.serializerRoundTrip(MODEL, new TypeReference<ResourceModel>() {}),
+                Primer::buildClient
+        };
+    }
+
+    private static void translateRequests() {
+        Translator.translateToCreateRequest(MODEL);
+        Translator.translateToDeleteRequest(MODEL);
+        Translator.translateToListRequest(null, null, null);
+        Translator.translateToTagResourceRequest(MODEL.getTags(), "arn");
+        Translator.translateToUntagResourceRequest(MODEL.getTags(), "arn");
+    }
+
+    private static void describeLocally() {
+        try (PanoramaClient client = Priming.localClient(DESCRIBE_APPLICATION_INSTANCE_RESPONSE)) {
+            final DescribeApplicationInstanceResponse response =
+                    client.describeApplicationInstance(Translator.translateToReadRequest(MODEL));
+            final DescribeApplicationInstanceDetailsResponse detailsResponse =
+                    client.describeApplicationInstanceDetails(Translator.translateToDescribeApplicationInstanceDetails(MODEL));
+            Translator.translateFromReadResponse(response, detailsResponse);
+        }
+    }
+
+    private static void buildClient() {
+        // the handlers run in the region of the stack, which is the region of the function
+        final String region = System.getenv("AWS_REGION");
+        if (region != null) {
+            ClientBuilder.getClient(region);
+        }
+    }
+
+    /**
+     * Prime outside of a handler. Unlike the init phase, a failing step fails the run.
+     */
+    public static void main(final String[] args) throws Exception {
+        Priming.check(steps());
+    }
+}
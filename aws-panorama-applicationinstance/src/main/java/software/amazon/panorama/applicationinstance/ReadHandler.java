@@ -1,6 +1,7 @@
 package software.amazon.panorama.applicationinstance;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsRequest;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsResponse;
@@ -15,6 +16,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 public class ReadHandler extends BaseHandlerStd {
     private LoggerWrapper logger;
@@ -31,49 +38,186 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         final DescribeApplicationInstanceRequest describeApplicationInstanceRequest = Translator.translateToReadRequest(model);
+        final DescribeApplicationInstanceResponse describeApplicationInstanceResponse = describeApplicationInstance(
+                describeApplicationInstanceRequest,
+                () -> proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest,
+                        proxyClient.client()::describeApplicationInstance));
+
+        return readFromDescribeResponse(model, callbackContext, proxyClient, describeApplicationInstanceResponse, logger);
+    }
+
+    /**
+     * Complete a read from a DescribeApplicationInstance response the caller already holds, so only the payloads
+     * still have to be fetched, and not even those when they are known.
+     */
+    ProgressEvent<ResourceModel, CallbackContext> readFromDescribeResponse(
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final ProxyClient<PanoramaClient> proxyClient,
+            final DescribeApplicationInstanceResponse describeApplicationInstanceResponse,
+            final Logger logger
+    ) {
+        this.logger = new LoggerWrapper(logger);
+
+        if (hasKnownPayloads(model, callbackContext)) {
+            return ProgressEvent.defaultSuccessHandler(withFleet(model, Translator.translateFromReadResponse(describeApplicationInstanceResponse, model)));
+        }
+
+        final DescribeApplicationInstanceDetailsRequest describeApplicationInstanceDetailsRequest =
+                Translator.translateToDescribeApplicationInstanceDetails(model);
+        final DescribeApplicationInstanceDetailsResponse describeApplicationInstanceDetailsResponse = describeApplicationInstanceDetails(
+                describeApplicationInstanceDetailsRequest,
+                () -> proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceDetailsRequest,
+                        proxyClient.client()::describeApplicationInstanceDetails));
+
+        return ProgressEvent.defaultSuccessHandler(withFleet(model, Translator.translateFromReadResponse(describeApplicationInstanceResponse, describeApplicationInstanceDetailsResponse)));
+    }
+
+    /**
+     * Issue DescribeApplicationInstance and DescribeApplicationInstanceDetails concurrently through the async client and
+     * join both responses, so a read costs a single round trip. Falls back to sequential calls without an async client.
+     */
+    @Override
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<PanoramaClient> proxyClient,
+            final ProxyClient<PanoramaAsyncClient> asyncProxyClient,
+            final Logger logger
+    ) {
+        if (asyncProxyClient == null) {
+            return handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
+        this.logger = new LoggerWrapper(logger);
+
+        final ResourceModel model = request.getDesiredResourceState();
+
+        final DescribeApplicationInstanceRequest describeApplicationInstanceRequest = Translator.translateToReadRequest(model);
+
+        if (hasKnownPayloads(model, callbackContext)) {
+            final DescribeApplicationInstanceResponse describeApplicationInstanceResponse = describeApplicationInstance(
+                    describeApplicationInstanceRequest,
+                    () -> join(asyncProxyClient.injectCredentialsAndInvokeV2Async(describeApplicationInstanceRequest,
+                            asyncProxyClient.client()::describeApplicationInstance)));
+            return ProgressEvent.defaultSuccessHandler(withFleet(model, Translator.translateFromReadResponse(describeApplicationInstanceResponse, model)));
+        }
+
+        final DescribeApplicationInstanceDetailsRequest describeApplicationInstanceDetailsRequest =
+                Translator.translateToDescribeApplicationInstanceDetails(model);
+
+        final CompletableFuture<DescribeApplicationInstanceResponse> describeApplicationInstanceFuture =
+                asyncProxyClient.injectCredentialsAndInvokeV2Async(describeApplicationInstanceRequest,
+                        asyncProxyClient.client()::describeApplicationInstance);
+        final CompletableFuture<DescribeApplicationInstanceDetailsResponse> describeApplicationInstanceDetailsFuture =
+                asyncProxyClient.injectCredentialsAndInvokeV2Async(describeApplicationInstanceDetailsRequest,
+                        asyncProxyClient.client()::describeApplicationInstanceDetails);
+
+        // describe is joined first so its failures take precedence, exactly as in the sequential path
+        final DescribeApplicationInstanceResponse describeApplicationInstanceResponse;
+        try {
+            describeApplicationInstanceResponse = describeApplicationInstance(describeApplicationInstanceRequest,
+                    () -> join(describeApplicationInstanceFuture));
+        } catch (RuntimeException e) {
+            describeApplicationInstanceDetailsFuture.cancel(true);
+            throw e;
+        }
+
+        final DescribeApplicationInstanceDetailsResponse describeApplicationInstanceDetailsResponse = describeApplicationInstanceDetails(
+                describeApplicationInstanceDetailsRequest,
+                () -> join(describeApplicationInstanceDetailsFuture));
+
+        return ProgressEvent.defaultSuccessHandler(withFleet(model, Translator.translateFromReadResponse(describeApplicationInstanceResponse, describeApplicationInstanceDetailsResponse)));
+    }
+
+    /**
+     * Carry the devices and the ApplicationInstances of a fleet over from the model, only the instance of the
+     * DefaultRuntimeContextDevice being described.
+     */
+    private static ResourceModel withFleet(final ResourceModel model, final ResourceModel readModel) {
+        readModel.setFleetDevices(model.getFleetDevices());
+        readModel.setFleetApplicationInstances(model.getFleetApplicationInstances());
+        return readModel;
+    }
+
+    /**
+     * Whether this is the final read of a Create or Update which submitted the payloads in the model, in which case the
+     * DescribeApplicationInstanceDetails call, and its potentially large response, is skipped. The service does not
+     * return anything to check the payloads against short of that call, so they are trusted to be the deployed ones:
+     * they are create-only and CreateApplicationInstance succeeded with them. A read on its own always describes them.
+     */
+    private boolean hasKnownPayloads(final ResourceModel model, final CallbackContext callbackContext) {
+        return callbackContext != null
+                && callbackContext.isPayloadsSubmitted()
+                && model.getManifestPayload() != null;
+    }
+
+    private DescribeApplicationInstanceResponse describeApplicationInstance(
+            final DescribeApplicationInstanceRequest describeApplicationInstanceRequest,
+            final Supplier<DescribeApplicationInstanceResponse> serviceCall
+    ) {
         DescribeApplicationInstanceResponse describeApplicationInstanceResponse;
 
         try {
-            describeApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest,
-                    proxyClient.client()::describeApplicationInstance);
+            describeApplicationInstanceResponse = serviceCall.get();
             if (ApplicationInstanceStatus.REMOVAL_SUCCEEDED.equals(describeApplicationInstanceResponse.status())) {
                 throw new CfnNotFoundException(ResourceModel.TYPE_NAME, describeApplicationInstanceResponse.applicationInstanceId());
             }
         } catch (PanoramaException e) {
-            this.logger.error(String.format("Exception happened when reading ApplicationInstance. ApplicationInstanceId: %s",
-                    describeApplicationInstanceRequest.applicationInstanceId()));
+            this.logger.error("Exception happened when reading ApplicationInstance",
+                    "ApplicationInstanceId", describeApplicationInstanceRequest.applicationInstanceId());
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     "DescribeApplicationInstance",
                     ResourceModel.TYPE_NAME,
                     describeApplicationInstanceRequest.applicationInstanceId(),
-                    describeApplicationInstanceRequest.toString());
+                    describeApplicationInstanceRequest);
         }  catch (AwsServiceException e) {
-            this.logger.error(String.format("Exception happened when reading ApplicationInstance. ApplicationInstanceId: %s",
-                    describeApplicationInstanceRequest.applicationInstanceId()));
+            this.logger.error("Exception happened when reading ApplicationInstance",
+                    "ApplicationInstanceId", describeApplicationInstanceRequest.applicationInstanceId());
             throw new CfnGeneralServiceException("DescribeApplicationInstance", e);
         }
 
-        DescribeApplicationInstanceDetailsRequest describeApplicationInstanceDetailsRequest =
-                Translator.translateToDescribeApplicationInstanceDetails(model);
+        return describeApplicationInstanceResponse;
+    }
+
+    private DescribeApplicationInstanceDetailsResponse describeApplicationInstanceDetails(
+            final DescribeApplicationInstanceDetailsRequest describeApplicationInstanceDetailsRequest,
+            final Supplier<DescribeApplicationInstanceDetailsResponse> serviceCall
+    ) {
         DescribeApplicationInstanceDetailsResponse describeApplicationInstanceDetailsResponse;
 
         try {
-            describeApplicationInstanceDetailsResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceDetailsRequest,
-                    proxyClient.client()::describeApplicationInstanceDetails);
+            describeApplicationInstanceDetailsResponse = serviceCall.get();
         } catch (PanoramaException e) {
-            this.logger.error(String.format("Exception happened when reading ApplicationInstance details. ApplicationInstanceId: %s",
-                    describeApplicationInstanceDetailsRequest.applicationInstanceId()));
+            this.logger.error("Exception happened when reading ApplicationInstance details",
+                    "ApplicationInstanceId", describeApplicationInstanceDetailsRequest.applicationInstanceId());
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     "DescribeApplicationInstanceDetails",
                     ResourceModel.TYPE_NAME,
                     describeApplicationInstanceDetailsRequest.applicationInstanceId(),
-                    describeApplicationInstanceDetailsRequest.toString());
+                    describeApplicationInstanceDetailsRequest);
         }  catch (AwsServiceException e) {
-            this.logger.error(String.format("Exception happened when reading ApplicationInstance details. ApplicationInstanceId: %s",
-                    describeApplicationInstanceDetailsRequest.applicationInstanceId()));
+            this.logger.error("Exception happened when reading ApplicationInstance details",
+                    "ApplicationInstanceId", describeApplicationInstanceDetailsRequest.applicationInstanceId());
             throw new CfnGeneralServiceException("describeApplicationInstanceDetails", e);
         }
 
-        return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(describeApplicationInstanceResponse, describeApplicationInstanceDetailsResponse));
+        return describeApplicationInstanceDetailsResponse;
+    }
+
+    /**
+     * Wait for an async Panorama call and rethrow its failure as-is, so it goes through the same error mapping as a
+     * synchronous call.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 }
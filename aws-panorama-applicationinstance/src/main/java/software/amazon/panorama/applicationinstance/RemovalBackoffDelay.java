@@ -0,0 +1,76 @@
+package software.amazon.panorama.applicationinstance;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Delay for ApplicationInstance removal stabilization using exponential backoff with decorrelated jitter,
+ * i.e. next = min(cap, random(base, previous * 3)), with base and cap tuned per REMOVAL_* status.
+ *
+ * The jitter keeps concurrent stack teardowns from polling in lockstep. The last delay, the status it was chosen
+ * for and the elapsed stabilization time are kept in the CallbackContext so they survive re-invocations.
+ */
+public class RemovalBackoffDelay implements Delay {
+    static final Duration TIMEOUT = Duration.ofDays(1L);
+    static final Phase DEFAULT_PHASE = new Phase(Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+    static final Map<String, Phase> PHASES = ImmutableMap.of(
+            ApplicationInstanceStatus.REMOVAL_PENDING.toString(),
+            new Phase(Duration.ofSeconds(5), Duration.ofSeconds(30)),
+            ApplicationInstanceStatus.REMOVAL_REQUESTED.toString(),
+            new Phase(Duration.ofSeconds(5), Duration.ofSeconds(20)),
+            ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString(),
+            new Phase(Duration.ofSeconds(2), Duration.ofSeconds(10))
+    );
+
+    private static final Random RANDOM = new Random();
+
+    private final CallbackContext callbackContext;
+    private final Random random;
+
+    public RemovalBackoffDelay(final CallbackContext callbackContext) {
+        this(callbackContext, RANDOM);
+    }
+
+    RemovalBackoffDelay(final CallbackContext callbackContext, final Random random) {
+        this.callbackContext = callbackContext;
+        this.random = random;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (callbackContext.getStabilizationElapsedSeconds() >= TIMEOUT.getSeconds()) {
+            return Duration.ZERO;
+        }
+
+        final String status = callbackContext.getApplicationInstanceStatus();
+        final Phase phase = PHASES.getOrDefault(status, DEFAULT_PHASE);
+        final long base = phase.getBase().getSeconds();
+        final long cap = phase.getCap().getSeconds();
+
+        // decorrelate from the previous delay within a phase, start over from the base on a status transition
+        long previous = base;
+        if (status != null && status.equals(callbackContext.getLastDelayStatus())) {
+            previous = Math.max(base, callbackContext.getLastDelaySeconds());
+        }
+        final long upper = Math.max(base, previous * 3);
+        final long delaySeconds = Math.min(cap, base + random.nextInt((int) (upper - base) + 1));
+
+        callbackContext.setLastDelayStatus(status);
+        callbackContext.setLastDelaySeconds((int) delaySeconds);
+        callbackContext.setStabilizationElapsedSeconds(callbackContext.getStabilizationElapsedSeconds() + (int) delaySeconds);
+        return Duration.ofSeconds(delaySeconds);
+    }
+
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    static class Phase {
+        private final Duration base;
+        private final Duration cap;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.panorama.applicationinstance;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Delay for ApplicationInstance deployment stabilization that picks the next polling interval from the last
+ * ApplicationInstanceStatus observed by the stabilizer.
+ *
+ * A deployment can sit in DEPLOYMENT_PENDING / DEPLOYMENT_REQUESTED for minutes before the device picks it up, so
+ * those phases back off exponentially, while DEPLOYMENT_IN_PROGRESS is polled tightly to notice completion quickly.
+ * Chosen intervals and elapsed stabilization time are kept in the CallbackContext so they survive re-invocations.
+ */
+public class StabilizationScheduler implements Delay {
+    static final Duration TIMEOUT = Duration.ofDays(1L);
+    static final Interval DEFAULT_INTERVAL = new Interval(Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+    private static final Map<String, Interval> INTERVALS = ImmutableMap.of(
+            ApplicationInstanceStatus.DEPLOYMENT_PENDING.toString(),
+            new Interval(Duration.ofSeconds(15), Duration.ofSeconds(60)),
+            ApplicationInstanceStatus.DEPLOYMENT_REQUESTED.toString(),
+            new Interval(Duration.ofSeconds(10), Duration.ofSeconds(30)),
+            ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString(),
+            new Interval(Duration.ofSeconds(5), Duration.ofSeconds(5))
+    );
+
+    private final CallbackContext callbackContext;
+
+    public StabilizationScheduler(final CallbackContext callbackContext) {
+        this.callbackContext = callbackContext;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (callbackContext.getStabilizationElapsedSeconds() >= TIMEOUT.getSeconds()) {
+            return Duration.ZERO;
+        }
+
+        final String status = callbackContext.getApplicationInstanceStatus();
+        final Interval interval = INTERVALS.getOrDefault(status, DEFAULT_INTERVAL);
+
+        // keep backing off while the status is unchanged, start over from the base interval on a transition
+        long delaySeconds = interval.getBase().getSeconds();
+        if (status != null && status.equals(callbackContext.getLastDelayStatus())) {
+            delaySeconds = Math.min(callbackContext.getLastDelaySeconds() * 2L, interval.getMax().getSeconds());
+        }
+
+        record(status, (int) delaySeconds);
+        return Duration.ofSeconds(delaySeconds);
+    }
+
+    private void record(final String status, final int delaySeconds) {
+        callbackContext.setLastDelayStatus(status);
+        callbackContext.setLastDelaySeconds(delaySeconds);
+        callbackContext.setStabilizationElapsedSeconds(callbackContext.getStabilizationElapsedSeconds() + delaySeconds);
+
+        if (callbackContext.getStabilizationDelays() == null) {
+            callbackContext.setStabilizationDelays(new HashMap<>());
+        }
+        callbackContext.getStabilizationDelays().merge(String.valueOf(status), delaySeconds, Integer::sum);
+    }
+
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    static class Interval {
+        private final Duration base;
+        private final Duration max;
+    }
+}
@@ -0,0 +1,271 @@
+package software.amazon.panorama.applicationinstance;
+
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.StatusFilter;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.panorama.common.LoggerWrapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Polls the statuses of the ApplicationInstances stabilizing in the container together, shared by every handler
+ * invocation of an account and region.
+ *
+ * A handler asks for the statuses of its instances, which registers them as pending. The statuses are refreshed in
+ * bulk: a single caller at a time lists the ApplicationInstances per status filter of their phase, paginating only
+ * until every pending instance is found, while the other callers wait for its result. A status listed at most
+ * MAX_AGE ago is handed out again without a call. Listing only pays off for enough pending instances: with fewer than
+ * MIN_LISTED, or for a while after a listing failed, the caller is told to describe its instances instead.
+ *
+ * Fleets always poll through it. Single instances do so when the PANORAMA_STATUS_POLLING environment variable is
+ * "batched", which is worth it where many handlers run in one JVM; a Lambda container runs a single invocation at a
+ * time.
+ */
+class StatusPoller {
+    static final int MIN_LISTED = 3;
+    static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    static final long PENDING_NANOS = TimeUnit.MINUTES.toNanos(2L);
+    static final long FAILURE_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(1L);
+
+    private static final boolean ENABLED = "batched".equalsIgnoreCase(System.getenv("PANORAMA_STATUS_POLLING"));
+    private static final Map<String, StatusPoller> POLLERS = new ConcurrentHashMap<>();
+
+    private final LongSupplier nanoTime;
+    // guarded by this
+    private final Map<String, Entry> entries = new HashMap<>();
+    private CompletableFuture<Void> refresh;
+    private Long listingFailedAt;
+
+    StatusPoller(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static StatusPoller forAccount(final String awsAccountId, final String region) {
+        return POLLERS.computeIfAbsent(awsAccountId + "/" + region, key -> new StatusPoller(System::nanoTime));
+    }
+
+    /**
+     * The status of a single instance, null when it is to be described.
+     */
+    String status(final ProxyClient<PanoramaClient> proxyClient,
+                  final String applicationInstanceId,
+                  final Phase phase,
+                  final LoggerWrapper logger) {
+        final Map<String, String> statuses = statuses(proxyClient, Collections.singleton(applicationInstanceId), phase, logger);
+        return statuses == null ? null : statuses.get(applicationInstanceId);
+    }
+
+    /**
+     * The statuses of the given instances, listed at most MAX_AGE before the call. An instance missing from the map
+     * was not found in the lists of the phase, which are eventually consistent.
+     *
+     * @return null when the instances are not listed, for the caller to describe them
+     */
+    Map<String, String> statuses(final ProxyClient<PanoramaClient> proxyClient,
+                                 final Collection<String> applicationInstanceIds,
+                                 final Phase phase,
+                                 final LoggerWrapper logger) {
+        final long since = register(applicationInstanceIds, phase) - MAX_AGE_NANOS;
+        while (true) {
+            final CompletableFuture<Void> awaited;
+            final CompletableFuture<Void> leading;
+            final Map<String, Phase> pending;
+            final long startedAt;
+            synchronized (this) {
+                final Map<String, String> fresh = fresh(applicationInstanceIds, since);
+                if (fresh != null) {
+                    return fresh;
+                }
+                startedAt = nanoTime.getAsLong();
+                pending = pending(startedAt);
+                if (pending.size() < MIN_LISTED || isBackingOff(startedAt)) {
+                    return null;
+                }
+                if (refresh != null) {
+                    awaited = refresh;
+                    leading = null;
+                } else {
+                    awaited = null;
+                    leading = refresh = new CompletableFuture<>();
+                }
+            }
+
+            if (leading == null) {
+                // the refresh in flight may have started before these instances were registered, check again after it
+                awaited.join();
+                continue;
+            }
+            try {
+                refresh(proxyClient, pending, startedAt, logger);
+            } finally {
+                synchronized (this) {
+                    refresh = null;
+                }
+                leading.complete(null);
+            }
+        }
+    }
+
+    private synchronized long register(final Collection<String> applicationInstanceIds, final Phase phase) {
+        final long now = nanoTime.getAsLong();
+        entries.values().removeIf(entry -> now - entry.askedAt > PENDING_NANOS);
+        for (final String applicationInstanceId : applicationInstanceIds) {
+            Entry entry = entries.get(applicationInstanceId);
+            if (entry == null || entry.phase != phase) {
+                // a status listed for another phase says nothing of whether the instance is listed in this one
+                entry = new Entry(phase);
+                entries.put(applicationInstanceId, entry);
+            }
+            entry.askedAt = now;
+        }
+        return now;
+    }
+
+    private Map<String, String> fresh(final Collection<String> applicationInstanceIds, final long since) {
+        final Map<String, String> statuses = new HashMap<>();
+        for (final String applicationInstanceId : applicationInstanceIds) {
+            final Entry entry = entries.get(applicationInstanceId);
+            if (entry == null || entry.refreshedAt == null || entry.refreshedAt - since < 0) {
+                return null;
+            }
+            if (entry.status != null) {
+                statuses.put(applicationInstanceId, entry.status);
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * The instances asked for lately which did not reach the end of their phase yet.
+     */
+    private Map<String, Phase> pending(final long now) {
+        final Map<String, Phase> pending = new HashMap<>();
+        for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (now - entry.getValue().askedAt <= PENDING_NANOS && !entry.getValue().isDone()) {
+                pending.put(entry.getKey(), entry.getValue().phase);
+            }
+        }
+        return pending;
+    }
+
+    private boolean isBackingOff(final long now) {
+        return listingFailedAt != null && now - listingFailedAt < FAILURE_BACKOFF_NANOS;
+    }
+
+    private void refresh(final ProxyClient<PanoramaClient> proxyClient,
+                         final Map<String, Phase> pending,
+                         final long startedAt,
+                         final LoggerWrapper logger) {
+        final Map<String, String> listed = new HashMap<>();
+        final Set<String> unlisted = new HashSet<>(pending.keySet());
+        try {
+            for (final Phase phase : EnumSet.copyOf(pending.values())) {
+                for (final StatusFilter statusFilter : phase.getStatusFilters()) {
+                    String nextToken = null;
+                    do {
+                        if (unlisted.stream().noneMatch(applicationInstanceId -> pending.get(applicationInstanceId) == phase)) {
+                            break;
+                        }
+                        final ListApplicationInstancesResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.translateToListRequest(null, statusFilter.toString(), nextToken),
+                                proxyClient.client()::listApplicationInstances);
+                        if (response.hasApplicationInstances()) {
+                            for (final ApplicationInstance applicationInstance : response.applicationInstances()) {
+                                if (unlisted.remove(applicationInstance.applicationInstanceId())) {
+                                    listed.put(applicationInstance.applicationInstanceId(), applicationInstance.statusAsString());
+                                }
+                            }
+                        }
+                        nextToken = response.nextToken();
+                    } while (nextToken != null);
+                }
+            }
+        } catch (final RuntimeException e) {
+            // not only the exceptions of the service: the rate limiter fails a call with a CfnThrottlingException
+            logger.error("Listing ApplicationInstances failed, describing them instead",
+                    "Pending", pending.size(),
+                    "Exception", e.getMessage());
+            synchronized (this) {
+                listingFailedAt = startedAt;
+            }
+            return;
+        }
+
+        logger.info("ApplicationInstance statuses refreshed",
+                "Pending", pending.size(),
+                "Unlisted", unlisted.size());
+        synchronized (this) {
+            for (final Map.Entry<String, Phase> refreshed : pending.entrySet()) {
+                final Entry entry = entries.get(refreshed.getKey());
+                if (entry != null && entry.phase == refreshed.getValue()) {
+                    entry.refreshedAt = startedAt;
+                    entry.status = listed.get(refreshed.getKey());
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+        private final Phase phase;
+        private long askedAt;
+        private Long refreshedAt;
+        private String status;
+
+        Entry(final Phase phase) {
+            this.phase = phase;
+        }
+
+        boolean isDone() {
+            return phase.getSucceeded().toString().equals(status) || phase.getFailed().toString().equals(status);
+        }
+    }
+
+    /**
+     * The statuses an ApplicationInstance goes through while deployed or removed, and the filters to list them by.
+     */
+    @lombok.Getter
+    enum Phase {
+        DEPLOYMENT(ApplicationInstanceStatus.DEPLOYMENT_PENDING,
+                ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED,
+                ApplicationInstanceStatus.DEPLOYMENT_ERROR,
+                StatusFilter.PROCESSING_DEPLOYMENT, StatusFilter.DEPLOYMENT_ERROR, StatusFilter.DEPLOYMENT_SUCCEEDED),
+        REMOVAL(ApplicationInstanceStatus.REMOVAL_PENDING,
+                ApplicationInstanceStatus.REMOVAL_SUCCEEDED,
+                ApplicationInstanceStatus.REMOVAL_FAILED,
+                StatusFilter.PROCESSING_REMOVAL, StatusFilter.REMOVAL_FAILED, StatusFilter.REMOVAL_SUCCEEDED);
+
+        private final ApplicationInstanceStatus pending;
+        private final ApplicationInstanceStatus succeeded;
+        private final ApplicationInstanceStatus failed;
+        private final List<StatusFilter> statusFilters;
+
+        Phase(final ApplicationInstanceStatus pending,
+              final ApplicationInstanceStatus succeeded,
+              final ApplicationInstanceStatus failed,
+              final StatusFilter... statusFilters) {
+            this.pending = pending;
+            this.succeeded = succeeded;
+            this.failed = failed;
+            this.statusFilters = Arrays.asList(statusFilters);
+        }
+    }
+}
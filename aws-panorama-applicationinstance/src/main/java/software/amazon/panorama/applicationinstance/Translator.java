@@ -1,5 +1,6 @@
 package software.amazon.panorama.applicationinstance;
 
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
 import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
 import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsRequest;
@@ -7,7 +8,6 @@ import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanc
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
 import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesRequest;
-import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
 import software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload;
 import software.amazon.awssdk.services.panorama.model.ManifestPayload;
 import software.amazon.awssdk.services.panorama.model.RemoveApplicationInstanceRequest;
@@ -15,14 +15,10 @@ import software.amazon.awssdk.services.panorama.model.StatusFilter;
 import software.amazon.awssdk.services.panorama.model.TagResourceRequest;
 import software.amazon.awssdk.services.panorama.model.UntagResourceRequest;
 
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * This class is a centralized placeholder for
@@ -77,6 +73,24 @@ public class Translator {
     return builder.build();
   }
 
+  /**
+   * Request to create the ApplicationInstance of one device of a fleet, the one to replace only applying to the
+   * DefaultRuntimeContextDevice
+   * @param model resource model
+   * @param device device of the fleet
+   * @return CreateApplicationInstanceRequest the aws service request to create the ApplicationInstance of the device
+   */
+  static CreateApplicationInstanceRequest translateToCreateRequest(final ResourceModel model, final String device) {
+    final CreateApplicationInstanceRequest.Builder builder = translateToCreateRequest(model).toBuilder()
+            .defaultRuntimeContextDevice(device);
+
+    if (!device.equals(model.getDefaultRuntimeContextDevice())) {
+      builder.applicationInstanceIdToReplace(null);
+    }
+
+    return builder.build();
+  }
+
   /**
    * Request to read ApplicationInstance
    * @param model resource model
@@ -107,6 +121,39 @@ public class Translator {
    */
   static ResourceModel translateFromReadResponse(final DescribeApplicationInstanceResponse response,
                                                  final DescribeApplicationInstanceDetailsResponse detailsResponse) {
+    ResourceModel.ResourceModelBuilder builder = translateFromDescribeResponse(response);
+
+    if (detailsResponse.manifestPayload() != null) {
+      builder.manifestPayload(software.amazon.panorama.applicationinstance.ManifestPayload.builder()
+              .payloadData(detailsResponse.manifestPayload().payloadData())
+              .build());
+    }
+
+    if (detailsResponse.manifestOverridesPayload() != null) {
+      builder.manifestOverridesPayload(software.amazon.panorama.applicationinstance.ManifestOverridesPayload.builder()
+              .payloadData(detailsResponse.manifestOverridesPayload().payloadData())
+              .build());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Translates resource object from sdk into a resource model, reusing payloads already known to the handler instead
+   * of the ones from DescribeApplicationInstanceDetails
+   * @param response the aws service describe resource response
+   * @param knownPayloads resource model holding the payloads submitted to the service
+   * @return resource model
+   */
+  static ResourceModel translateFromReadResponse(final DescribeApplicationInstanceResponse response,
+                                                 final ResourceModel knownPayloads) {
+    return translateFromDescribeResponse(response)
+            .manifestPayload(knownPayloads.getManifestPayload())
+            .manifestOverridesPayload(knownPayloads.getManifestOverridesPayload())
+            .build();
+  }
+
+  private static ResourceModel.ResourceModelBuilder translateFromDescribeResponse(final DescribeApplicationInstanceResponse response) {
     ResourceModel.ResourceModelBuilder builder = ResourceModel.builder()
             .name(response.name())
             .description(response.description())
@@ -134,19 +181,7 @@ public class Translator {
               .collect(Collectors.toSet()));
     }
 
-    if (detailsResponse.manifestPayload() != null) {
-      builder.manifestPayload(software.amazon.panorama.applicationinstance.ManifestPayload.builder()
-              .payloadData(detailsResponse.manifestPayload().payloadData())
-              .build());
-    }
-
-    if (detailsResponse.manifestOverridesPayload() != null) {
-      builder.manifestOverridesPayload(software.amazon.panorama.applicationinstance.ManifestOverridesPayload.builder()
-              .payloadData(detailsResponse.manifestOverridesPayload().payloadData())
-              .build());
-    }
-
-    return builder.build();
+    return builder;
   }
 
   /**
@@ -172,9 +207,28 @@ public class Translator {
           final String deviceId,
           final String statusFilter,
           final String nextToken
+  ) {
+    return translateToListRequest(deviceId, statusFilter, nextToken, null);
+  }
+
+  /**
+   * Request to list a page of ApplicationInstances
+   *
+   * @param deviceId device id to filter the ApplicationInstances
+   * @param statusFilter status to filter the ApplicationInstances
+   * @param nextToken nextToken to start list ApplicationInstances
+   * @param maxResults size of the page, null for the service's default
+   * @return ListApplicationInstancesRequest to list ApplicationInstances
+   */
+  static ListApplicationInstancesRequest translateToListRequest(
+          final String deviceId,
+          final String statusFilter,
+          final String nextToken,
+          final Integer maxResults
   ) {
     final ListApplicationInstancesRequest.Builder builder = ListApplicationInstancesRequest.builder()
-            .nextToken(nextToken);
+            .nextToken(nextToken)
+            .maxResults(maxResults);
 
     if (deviceId != null) {
       builder.deviceId(deviceId);
@@ -188,32 +242,32 @@ public class Translator {
   }
 
   /**
-   * Translates resource objects from Panorama response into a resource model (primary identifier only)
-   * @param listApplicationInstancesResponse Panorama ListApplicationInstancesResponse
-   * @return list of resource models
+   * Whether a listed ApplicationInstance is a removed one, which the service keeps listing for a while
+   * @param applicationInstance Panorama ApplicationInstance
+   * @return whether its removal succeeded
    */
-  static List<ResourceModel> translateFromListResponse(final ListApplicationInstancesResponse listApplicationInstancesResponse) {
-    return streamOfOrEmpty(listApplicationInstancesResponse.applicationInstances())
-            .filter(applicationInstance -> !ApplicationInstanceStatus.REMOVAL_SUCCEEDED.equals(applicationInstance.status()))
-            .map(applicationInstance -> ResourceModel.builder()
-                    .name(applicationInstance.name())
-                    .description(applicationInstance.description())
-                    .applicationInstanceId(applicationInstance.applicationInstanceId())
-                    .defaultRuntimeContextDevice(applicationInstance.defaultRuntimeContextDevice())
-                    .defaultRuntimeContextDeviceName(applicationInstance.defaultRuntimeContextDeviceName())
-                    .status(applicationInstance.statusAsString())
-                    .healthStatus(applicationInstance.healthStatusAsString())
-                    .statusDescription(applicationInstance.statusDescription())
-                    .createdTime(Long.valueOf(applicationInstance.createdTime().getEpochSecond()).intValue())
-                    .arn(applicationInstance.arn())
-                    .build()
-            ).collect(Collectors.toList());
+  static boolean isRemoved(final ApplicationInstance applicationInstance) {
+    return ApplicationInstanceStatus.REMOVAL_SUCCEEDED.equals(applicationInstance.status());
   }
 
-  private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-    return Optional.ofNullable(collection)
-            .map(Collection::stream)
-            .orElseGet(Stream::empty);
+  /**
+   * Translates a listed ApplicationInstance into a resource model
+   * @param applicationInstance Panorama ApplicationInstance
+   * @return resource model
+   */
+  static ResourceModel translateFromListItem(final ApplicationInstance applicationInstance) {
+    return ResourceModel.builder()
+            .name(applicationInstance.name())
+            .description(applicationInstance.description())
+            .applicationInstanceId(applicationInstance.applicationInstanceId())
+            .defaultRuntimeContextDevice(applicationInstance.defaultRuntimeContextDevice())
+            .defaultRuntimeContextDeviceName(applicationInstance.defaultRuntimeContextDeviceName())
+            .status(applicationInstance.statusAsString())
+            .healthStatus(applicationInstance.healthStatusAsString())
+            .statusDescription(applicationInstance.statusDescription())
+            .createdTime(Long.valueOf(applicationInstance.createdTime().getEpochSecond()).intValue())
+            .arn(applicationInstance.arn())
+            .build();
   }
 
   static UntagResourceRequest translateToUntagResourceRequest(Set<Tag> tags, String arn) {
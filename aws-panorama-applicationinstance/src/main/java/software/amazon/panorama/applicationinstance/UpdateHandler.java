@@ -1,7 +1,7 @@
 package software.amazon.panorama.applicationinstance;
 
-import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
 import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
@@ -15,10 +15,11 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.TagDiff;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class UpdateHandler extends BaseHandlerStd {
     private LoggerWrapper logger;
@@ -28,21 +29,36 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<PanoramaClient> proxyClient,
-            final Logger logger) {
-
+            final Logger logger
+    ) {
         this.logger = new LoggerWrapper(logger);
 
         final ResourceModel model = request.getDesiredResourceState();
 
+        // payloads are create-only, so the final read can return the ones submitted at create time
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (model.getManifestPayload() != null && previousModel != null
+                && Objects.equals(model.getManifestPayload(), previousModel.getManifestPayload())
+                && Objects.equals(model.getManifestOverridesPayload(), previousModel.getManifestOverridesPayload())) {
+            callbackContext.setPayloadsSubmitted(true);
+        }
+
+        // the one DescribeApplicationInstance of this update: existence check, tagging ARN and the returned model
+        final AtomicReference<DescribeApplicationInstanceResponse> describeApplicationInstanceResponse = new AtomicReference<>();
+
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
                         proxy.initiate("AWS-Panorama-ApplicationInstance::ValidateResourceExists", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToReadRequest)
                                 .makeServiceCall(this::validateResourceExists)
-                                .progress()
+                                .done(response -> {
+                                    describeApplicationInstanceResponse.set(response);
+                                    return ProgressEvent.progress(model, callbackContext);
+                                })
                 )
-                .then(progress -> updateTags(proxyClient, progress, request))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> updateTags(proxyClient, progress, request, describeApplicationInstanceResponse.get().arn()))
+                .then(progress -> withDesiredTags(new ReadHandler().readFromDescribeResponse(
+                        model, callbackContext, proxyClient, describeApplicationInstanceResponse.get(), logger), request));
     }
 
     private DescribeApplicationInstanceResponse validateResourceExists(DescribeApplicationInstanceRequest describeApplicationInstanceRequest, ProxyClient<PanoramaClient> proxyClient) {
@@ -53,36 +69,39 @@ public class UpdateHandler extends BaseHandlerStd {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME,
                     String.format("ApplicationInstanceId:%s", describeApplicationInstanceRequest.applicationInstanceId()), e);
         }
+        if (ApplicationInstanceStatus.REMOVAL_SUCCEEDED.equals(describeApplicationInstanceResponse.status())) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME,
+                    String.format("ApplicationInstanceId:%s", describeApplicationInstanceRequest.applicationInstanceId()));
+        }
         return describeApplicationInstanceResponse;
     }
 
+    /**
+     * The describe response predates the tag changes of this update, so report the tags that were just applied.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> withDesiredTags(final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                          final ResourceHandlerRequest<ResourceModel> request) {
+        if (progress.getResourceModel() != null) {
+            progress.getResourceModel().setTags(request.getDesiredResourceState().getTags());
+        }
+        return progress;
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(final ProxyClient<PanoramaClient> proxyClient,
                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                     final ResourceHandlerRequest<ResourceModel> request) {
+                                                                     final ResourceHandlerRequest<ResourceModel> request,
+                                                                     final String arn) {
         ResourceModel currResourceModel = request.getDesiredResourceState();
         ResourceModel prevResourceModel = request.getPreviousResourceState();
 
         CallbackContext callbackContext = progress.getCallbackContext();
-        Set<Tag> currentTags;
-        if (currResourceModel.getTags() != null) {
-            currentTags = currResourceModel.getTags().stream().collect(Collectors.toSet());
-        } else {
-            currentTags = new HashSet<>();
-        }
-
-        Set<Tag> existingTags = new HashSet<>();
-        if (prevResourceModel != null && prevResourceModel.getTags() != null) {
-            existingTags = prevResourceModel.getTags().stream().collect(Collectors.toSet());
-        }
-
-        final DescribeApplicationInstanceRequest describeApplicationInstanceRequest = Translator.translateToReadRequest(currResourceModel);
-        DescribeApplicationInstanceResponse describeApplicationInstanceResponse = proxyClient.injectCredentialsAndInvokeV2(describeApplicationInstanceRequest,
-                proxyClient.client()::describeApplicationInstance);
-        String arn = describeApplicationInstanceResponse.arn();
+        final TagDiff<Tag> tagDiff = TagDiff.of(
+                prevResourceModel == null ? null : prevResourceModel.getTags(),
+                currResourceModel.getTags(),
+                Tag::getKey);
 
-        final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-        if (!tagsToAdd.isEmpty()) {
-            TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAdd, arn);
+        if (!tagDiff.getTagsToAdd().isEmpty()) {
+            TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagDiff.getTagsToAdd(), arn);
             try {
                 proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource);
             } catch (ValidationException e) {
@@ -90,9 +109,8 @@ public class UpdateHandler extends BaseHandlerStd {
             }
         }
 
-        final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-        if (!tagsToRemove.isEmpty()) {
-            UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, arn);
+        if (!tagDiff.getTagsToRemove().isEmpty()) {
+            UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagDiff.getTagsToRemove(), arn);
             try {
                 proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource);
             } catch (ValidationException e) {
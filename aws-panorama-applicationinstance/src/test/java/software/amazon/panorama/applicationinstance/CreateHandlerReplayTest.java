@@ -0,0 +1,135 @@
+package software.amazon.panorama.applicationinstance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.panorama.common.ApiInteraction;
+import software.amazon.panorama.common.ApiRecording;
+import software.amazon.panorama.common.ReplayProxyClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static software.amazon.panorama.applicationinstance.Constants.APPLICATION_INSTANCE_NAME;
+import static software.amazon.panorama.applicationinstance.Constants.DEVICE_ARN;
+import static software.amazon.panorama.applicationinstance.Constants.MANIFEST_PAYLOAD;
+import static software.amazon.panorama.applicationinstance.Constants.RUNTIME_ROLE_ARN;
+
+/**
+ * Replays a recorded deployment, 40 polls of DEPLOYMENT_IN_PROGRESS included, through the CreateHandler, to pin down
+ * how many Panorama calls and how much stabilization time a create costs.
+ */
+public class CreateHandlerReplayTest extends AbstractTestBase {
+    private static final String RECORDING = "/recordings/create-application-instance.jsonl";
+
+    private List<ApiInteraction> recording;
+    private ReplayProxyClient<PanoramaClient> replay;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(RECORDING)) {
+            recording = ApiRecording.read(in);
+        }
+        replay = new ReplayProxyClient<>(recording, mock(PanoramaClient.class), 0);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                new WaitStrategy() {
+                    @Override
+                    public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> await(
+                            final long operationElapsedTime,
+                            final Duration nextAttempt,
+                            final CallbackT context,
+                            final ModelT model) {
+                        // stabilization waits move the replay's clock instead of sleeping, all in one invocation
+                        replay.advance(nextAttempt);
+                        return null;
+                    }
+                });
+    }
+
+    @Test
+    public void handleRequest_ReplayedDeployment() {
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new CreateHandler().handleRequest(proxy, request(model()), new CallbackContext(), replay, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getApplicationInstanceId())
+                .isEqualTo("applicationInstance-5d2kq7gbxyqzm4rnkwbm6fnc5a");
+        assertThat(response.getResourceModel().getStatus()).isEqualTo("DEPLOYMENT_SUCCEEDED");
+
+        // one poll per recorded state plus the final read, which skips DescribeApplicationInstanceDetails
+        assertThat(replay.getCalls())
+                .containsEntry("CreateApplicationInstance", 1)
+                .containsEntry("DescribeApplicationInstance", 47)
+                .hasSize(2);
+        // the backoff schedule replays the recorded run exactly
+        final ApiInteraction last = recording.get(recording.size() - 1);
+        assertThat(replay.getElapsed()).isEqualTo(
+                Duration.ofMillis(last.getStartedAt() + last.getLatencyMillis() - recording.get(0).getStartedAt()));
+    }
+
+    /**
+     * The same deployment through the proxy the rpdk wrapper builds, whose wait strategy hands every wait back to
+     * CloudFormation as callbackDelaySeconds. Only the Panorama calls are spent in the invocations.
+     */
+    @Test
+    public void handleRequest_ReplayedDeploymentThroughCallbacks() {
+        final AmazonWebServicesClientProxy callbackProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+
+        ProgressEvent<ResourceModel, CallbackContext> response = ProgressEvent.defaultInProgressHandler(new CallbackContext(), 0, model());
+        Duration billed = Duration.ZERO;
+        int invocations = 0;
+        do {
+            // CloudFormation waits for the callback delay, then invokes the handler with the returned model and context
+            replay.advance(Duration.ofSeconds(response.getCallbackDelaySeconds()));
+            final Duration invokedAt = replay.getElapsed();
+            response = new CreateHandler().handleRequest(callbackProxy, request(response.getResourceModel()),
+                    response.getCallbackContext(), replay, logger);
+            billed = billed.plus(replay.getElapsed().minus(invokedAt));
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getApplicationInstanceId())
+                .isEqualTo("applicationInstance-5d2kq7gbxyqzm4rnkwbm6fnc5a");
+        assertThat(invocations).isGreaterThan(1);
+
+        // the instance is created once and polled on the same schedule as in a single invocation
+        assertThat(replay.getCalls())
+                .containsEntry("CreateApplicationInstance", 1)
+                .containsEntry("DescribeApplicationInstance", 47)
+                .hasSize(2);
+        final ApiInteraction last = recording.get(recording.size() - 1);
+        assertThat(replay.getElapsed()).isEqualTo(
+                Duration.ofMillis(last.getStartedAt() + last.getLatencyMillis() - recording.get(0).getStartedAt()));
+
+        // no wait is spent in an invocation, only the calls, which took 1.6 s of the 336 s recorded
+        assertThat(billed).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel.builder()
+                .name(APPLICATION_INSTANCE_NAME)
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .runtimeRoleArn(RUNTIME_ROLE_ARN)
+                .defaultRuntimeContextDevice(DEVICE_ARN)
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+    }
+}
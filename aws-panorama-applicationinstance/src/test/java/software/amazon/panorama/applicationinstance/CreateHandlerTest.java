@@ -13,7 +13,6 @@ import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
 import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
 import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceResponse;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsRequest;
-import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsResponse;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
 import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
 import software.amazon.awssdk.services.panorama.model.InternalServerException;
@@ -38,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -113,16 +113,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .createdTime(Instant.ofEpochSecond(CREATED_TIME))
                         .lastUpdatedTime(Instant.ofEpochSecond(LAST_UPDATED_TIME))
                         .build());
-        when(proxyClient.client().describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
-                .thenReturn(DescribeApplicationInstanceDetailsResponse.builder()
-                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
-                        .manifestPayload(software.amazon.awssdk.services.panorama.model.ManifestPayload.builder()
-                                .payloadData(MANIFEST_PAYLOAD)
-                                .build())
-                        .manifestOverridesPayload(software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload.builder()
-                                .payloadData(MANIFEST_PAYLOAD_OVERRIDES)
-                                .build())
-                        .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -151,6 +141,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1)).createApplicationInstance(any(CreateApplicationInstanceRequest.class));
         verify(proxyClient.client(), times(2)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), never()).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
     }
 
     @Test
@@ -189,16 +180,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .lastUpdatedTime(Instant.ofEpochSecond(LAST_UPDATED_TIME))
                         .tags(ImmutableMap.of(key, value))
                         .build());
-        when(proxyClient.client().describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
-                .thenReturn(DescribeApplicationInstanceDetailsResponse.builder()
-                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
-                        .manifestPayload(software.amazon.awssdk.services.panorama.model.ManifestPayload.builder()
-                                .payloadData(MANIFEST_PAYLOAD)
-                                .build())
-                        .manifestOverridesPayload(software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload.builder()
-                                .payloadData(MANIFEST_PAYLOAD_OVERRIDES)
-                                .build())
-                        .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -229,6 +210,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1)).createApplicationInstance(any(CreateApplicationInstanceRequest.class));
         verify(proxyClient.client(), times(2)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), never()).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
     }
 
     @Test
@@ -1,6 +1,8 @@
 package software.amazon.panorama.applicationinstance;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.awssdk.services.panorama.model.AccessDeniedException;
 import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
@@ -18,10 +20,12 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,6 +107,97 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
     }
 
+    @Test
+    public void handleRequest_StabilizesThroughRemovalPhases() {
+        final List<ApplicationInstanceStatus> observedStatuses = new ArrayList<>();
+        final DeleteHandler handler = new DeleteHandler(callbackContext -> attempt -> {
+            observedStatuses.add(ApplicationInstanceStatus.fromValue(callbackContext.getApplicationInstanceStatus()));
+            return Duration.ofMillis(1);
+        });
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        when(proxyClient.client().removeApplicationInstance(any(RemoveApplicationInstanceRequest.class)))
+                .thenReturn(RemoveApplicationInstanceResponse.builder().build());
+
+        when(proxyClient.client().describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .status(ApplicationInstanceStatus.REMOVAL_PENDING)
+                        .build())
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .status(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS)
+                        .build())
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .status(ApplicationInstanceStatus.REMOVAL_SUCCEEDED)
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(observedStatuses).containsExactly(ApplicationInstanceStatus.REMOVAL_PENDING, ApplicationInstanceStatus.REMOVAL_IN_PROGRESS);
+        assertThat(callbackContext.getApplicationInstanceStatus()).isEqualTo(ApplicationInstanceStatus.REMOVAL_SUCCEEDED.toString());
+
+        verify(proxyClient.client(), times(1)).removeApplicationInstance(any(RemoveApplicationInstanceRequest.class));
+        verify(proxyClient.client(), times(3)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CallbackStabilization() {
+        final DeleteHandler handler = new DeleteHandler(callbackContext -> attempt -> Duration.ofSeconds(30));
+        // the wait strategy of the proxy the rpdk wrapper builds
+        final AmazonWebServicesClientProxy callbackProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        when(proxyClient.client().removeApplicationInstance(any(RemoveApplicationInstanceRequest.class)))
+                .thenReturn(RemoveApplicationInstanceResponse.builder().build());
+
+        when(proxyClient.client().describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .status(ApplicationInstanceStatus.REMOVAL_PENDING)
+                        .build())
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .status(ApplicationInstanceStatus.REMOVAL_SUCCEEDED)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(callbackProxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(),
+                new CallbackContext(), proxyClient, logger);
+
+        // a 30 second wait is handed back to CloudFormation
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(first.getCallbackContext().getApplicationInstanceStatus()).isEqualTo(ApplicationInstanceStatus.REMOVAL_PENDING.toString());
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(callbackProxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(first.getResourceModel()).build(),
+                first.getCallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModel()).isNull();
+
+        // the removal is not requested again by the second invocation
+        verify(proxyClient.client(), times(1)).removeApplicationInstance(any(RemoveApplicationInstanceRequest.class));
+        verify(proxyClient.client(), times(2)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+    }
+
     @Test
     public void handleRequest_throws_CfnInvalidRequestException() {
         final DeleteHandler handler = new DeleteHandler();
@@ -0,0 +1,380 @@
+package software.amazon.panorama.applicationinstance;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.InternalServerException;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesRequest;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.RemoveApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.RemoveApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.panorama.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.panorama.model.StatusFilter;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.panorama.common.LoggerWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static software.amazon.panorama.applicationinstance.Constants.DEVICE_ARN;
+import static software.amazon.panorama.applicationinstance.Constants.MANIFEST_PAYLOAD;
+
+@ExtendWith(MockitoExtension.class)
+public class FleetDeploymentTest extends AbstractTestBase {
+    private static final List<String> FLEET_DEVICES = IntStream.range(0, 24)
+            .mapToObj(i -> "device-" + i)
+            .collect(Collectors.toList());
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<PanoramaClient> proxyClient;
+
+    @Mock
+    PanoramaClient panoramaClient;
+
+    private PanoramaAsyncClient panoramaAsyncClient;
+
+    private FleetDeployment fleet;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        panoramaClient = mock(PanoramaClient.class);
+        proxyClient = MOCK_PROXY(proxy, panoramaClient);
+        panoramaAsyncClient = mock(PanoramaAsyncClient.class);
+        fleet = new FleetDeployment(proxyClient, null, new StatusPoller(() -> 0L), new LoggerWrapper(logger));
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verifyNoMoreInteractions(panoramaClient);
+        verifyNoMoreInteractions(panoramaAsyncClient);
+    }
+
+    @Test
+    public void deploy_CreatesOneInstancePerDevice() {
+        final ResourceModel model = fleetModel();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().createApplicationInstance(any(CreateApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        fleet.deploy(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(model.getApplicationInstanceId()).isEqualTo("instance-" + DEVICE_ARN);
+        assertThat(model.getFleetApplicationInstances()).hasSize(FLEET_DEVICES.size() + 1);
+        assertThat(model.getFleetApplicationInstances().get(0))
+                .isEqualTo(FleetApplicationInstance.builder().device(DEVICE_ARN).applicationInstanceId("instance-" + DEVICE_ARN).build());
+        assertThat(model.getFleetApplicationInstances().get(1))
+                .isEqualTo(FleetApplicationInstance.builder().device("device-0").applicationInstanceId("instance-device-0").build());
+
+        // a re-invocation creates no instance twice
+        fleet.deploy(ProgressEvent.progress(model, callbackContext));
+
+        verify(proxyClient.client(), times(FLEET_DEVICES.size() + 1)).createApplicationInstance(any(CreateApplicationInstanceRequest.class));
+    }
+
+    @Test
+    public void deploy_RemovesTheInstancesOfAFailedBatch() {
+        final ResourceModel model = fleetModel();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().createApplicationInstance(any(CreateApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final CreateApplicationInstanceRequest request = invocation.getArgument(0);
+                    if ("device-3".equals(request.defaultRuntimeContextDevice())) {
+                        throw ServiceQuotaExceededException.builder().build();
+                    }
+                    return created(request);
+                });
+        when(proxyClient.client().removeApplicationInstance(any(RemoveApplicationInstanceRequest.class)))
+                .thenReturn(RemoveApplicationInstanceResponse.builder().build());
+
+        assertThrows(CfnServiceLimitExceededException.class,
+                () -> fleet.deploy(ProgressEvent.progress(model, callbackContext)));
+
+        // the whole first batch was issued, the next ones were not
+        assertThat(callbackContext.getFleetApplicationInstanceIds()).hasSize(FleetDeployment.BATCH_SIZE - 1);
+        assertThat(callbackContext.getFleetApplicationInstanceIds()).doesNotContainKey("device-3");
+        verify(proxyClient.client(), times(FleetDeployment.BATCH_SIZE)).createApplicationInstance(any(CreateApplicationInstanceRequest.class));
+
+        // CloudFormation drops the context of a failed create, every instance created is removed before failing
+        assertThat(callbackContext.getFleetRemovalsRequested())
+                .containsExactlyInAnyOrderElementsOf(callbackContext.getFleetApplicationInstanceIds().values());
+        verify(proxyClient.client(), times(FleetDeployment.BATCH_SIZE - 1)).removeApplicationInstance(any(RemoveApplicationInstanceRequest.class));
+    }
+
+    @Test
+    public void deploy_ThrottledCallsMidBatchRemoveEveryInstanceIssued() {
+        final FleetDeployment asyncFleet = new FleetDeployment(proxyClient, MOCK_ASYNC_PROXY(proxy, panoramaAsyncClient),
+                new StatusPoller(() -> 0L), new LoggerWrapper(logger));
+        final ResourceModel model = fleetModel();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        // the rate limiter refuses a call before it is sent, or fails its future when the retries run out
+        when(panoramaAsyncClient.createApplicationInstance(any(CreateApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final CreateApplicationInstanceRequest request = invocation.getArgument(0);
+                    if ("device-3".equals(request.defaultRuntimeContextDevice())) {
+                        throw new CfnThrottlingException("CreateApplicationInstance");
+                    }
+                    final CompletableFuture<CreateApplicationInstanceResponse> future = new CompletableFuture<>();
+                    if ("device-5".equals(request.defaultRuntimeContextDevice())) {
+                        future.completeExceptionally(new CfnThrottlingException("CreateApplicationInstance"));
+                    } else {
+                        future.complete(created(request));
+                    }
+                    return future;
+                });
+        when(panoramaAsyncClient.removeApplicationInstance(any(RemoveApplicationInstanceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(RemoveApplicationInstanceResponse.builder().build()));
+
+        assertThrows(CfnThrottlingException.class,
+                () -> asyncFleet.deploy(ProgressEvent.progress(model, callbackContext)));
+
+        // the calls issued after the throttled ones were still waited for and recorded
+        assertThat(callbackContext.getFleetApplicationInstanceIds()).hasSize(FleetDeployment.BATCH_SIZE - 2);
+        assertThat(callbackContext.getFleetApplicationInstanceIds()).doesNotContainKeys("device-3", "device-5");
+        assertThat(callbackContext.getFleetApplicationInstanceIds()).containsKey("device-8");
+        verify(panoramaAsyncClient, times(FleetDeployment.BATCH_SIZE)).createApplicationInstance(any(CreateApplicationInstanceRequest.class));
+
+        // so every instance created is removed before failing
+        assertThat(callbackContext.getFleetRemovalsRequested())
+                .containsExactlyInAnyOrderElementsOf(callbackContext.getFleetApplicationInstanceIds().values());
+        verify(panoramaAsyncClient, times(FleetDeployment.BATCH_SIZE - 2)).removeApplicationInstance(any(RemoveApplicationInstanceRequest.class));
+    }
+
+    @Test
+    public void deploy_FailedRemovalKeepsTheCreateFailure() {
+        final ResourceModel model = fleetModel();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().createApplicationInstance(any(CreateApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final CreateApplicationInstanceRequest request = invocation.getArgument(0);
+                    if ("device-3".equals(request.defaultRuntimeContextDevice())) {
+                        throw ServiceQuotaExceededException.builder().build();
+                    }
+                    return created(request);
+                });
+        when(proxyClient.client().removeApplicationInstance(any(RemoveApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final RemoveApplicationInstanceRequest request = invocation.getArgument(0);
+                    if ("instance-device-0".equals(request.applicationInstanceId())) {
+                        throw InternalServerException.builder().build();
+                    }
+                    return RemoveApplicationInstanceResponse.builder().build();
+                });
+
+        assertThrows(CfnServiceLimitExceededException.class,
+                () -> fleet.deploy(ProgressEvent.progress(model, callbackContext)));
+
+        // every removal of the batch was still issued, only the failed one is left
+        assertThat(callbackContext.getFleetRemovalsRequested())
+                .hasSize(FleetDeployment.BATCH_SIZE - 2)
+                .doesNotContain("instance-device-0");
+        verify(proxyClient.client(), times(FleetDeployment.BATCH_SIZE)).createApplicationInstance(any(CreateApplicationInstanceRequest.class));
+        verify(proxyClient.client(), times(FleetDeployment.BATCH_SIZE - 1)).removeApplicationInstance(any(RemoveApplicationInstanceRequest.class));
+    }
+
+    @Test
+    public void isStabilized_ListsPerStatusUntilEveryInstanceIsFound() {
+        final ResourceModel model = deployedModel("instance-a", "instance-b", "instance-c");
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final Map<String, ListApplicationInstancesResponse> pages = ImmutableMap.of(
+                StatusFilter.PROCESSING_DEPLOYMENT + "/", listed("page-2",
+                        instance("instance-other", ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS),
+                        instance("instance-a", ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS)),
+                StatusFilter.PROCESSING_DEPLOYMENT + "/page-2", listed(null,
+                        instance("instance-b", ApplicationInstanceStatus.DEPLOYMENT_REQUESTED)),
+                StatusFilter.DEPLOYMENT_ERROR + "/", listed(null),
+                StatusFilter.DEPLOYMENT_SUCCEEDED + "/", listed(null,
+                        instance("instance-c", ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)));
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenAnswer(invocation -> page(pages, invocation.getArgument(0)));
+
+        assertThat(fleet.isStabilized(model, callbackContext, StatusPoller.Phase.DEPLOYMENT)).isFalse();
+        assertThat(callbackContext.getApplicationInstanceStatus()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_REQUESTED.toString());
+        assertThat(callbackContext.getFleetStatuses()).containsOnlyKeys("instance-a", "instance-b", "instance-c");
+
+        verify(proxyClient.client(), times(4)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void isStabilized_StopsListingOnceEveryInstanceIsFound() {
+        final ResourceModel model = deployedModel("instance-a", "instance-b", "instance-c", "instance-d");
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setFleetStatuses(new HashMap<>(ImmutableMap.of(
+                "instance-a", ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED.toString())));
+
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final ListApplicationInstancesRequest request = invocation.getArgument(0);
+                    assertThat(request.statusFilter()).isEqualTo(StatusFilter.PROCESSING_DEPLOYMENT);
+                    return listed("page-2",
+                            instance("instance-b", ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED),
+                            instance("instance-c", ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED),
+                            instance("instance-d", ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED));
+                });
+
+        assertThat(fleet.isStabilized(model, callbackContext, StatusPoller.Phase.DEPLOYMENT)).isTrue();
+        assertThat(callbackContext.getApplicationInstanceStatus()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED.toString());
+
+        verify(proxyClient.client(), times(1)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void isStabilized_FailedInstance() {
+        final ResourceModel model = deployedModel("instance-a", "instance-b", "instance-c");
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final Map<String, ListApplicationInstancesResponse> pages = ImmutableMap.of(
+                StatusFilter.PROCESSING_DEPLOYMENT + "/", listed(null,
+                        instance("instance-a", ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS),
+                        instance("instance-c", ApplicationInstanceStatus.DEPLOYMENT_PENDING)),
+                StatusFilter.DEPLOYMENT_ERROR + "/", listed(null,
+                        instance("instance-b", ApplicationInstanceStatus.DEPLOYMENT_ERROR)));
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenAnswer(invocation -> page(pages, invocation.getArgument(0)));
+
+        assertThrows(CfnNotStabilizedException.class,
+                () -> fleet.isStabilized(model, callbackContext, StatusPoller.Phase.DEPLOYMENT));
+
+        verify(proxyClient.client(), times(2)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void isStabilized_DescribesTooFewInstancesToList() {
+        final ResourceModel model = deployedModel("instance-a", "instance-b");
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final DescribeApplicationInstanceRequest request = invocation.getArgument(0);
+                    if ("instance-b".equals(request.applicationInstanceId())) {
+                        throw ResourceNotFoundException.builder().build();
+                    }
+                    return DescribeApplicationInstanceResponse.builder()
+                            .applicationInstanceId(request.applicationInstanceId())
+                            .status(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS)
+                            .build();
+                });
+
+        assertThat(fleet.isStabilized(model, callbackContext, StatusPoller.Phase.REMOVAL)).isFalse();
+        assertThat(callbackContext.getApplicationInstanceStatus()).isEqualTo(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString());
+        assertThat(callbackContext.getFleetStatuses())
+                .containsEntry("instance-b", ApplicationInstanceStatus.REMOVAL_SUCCEEDED.toString());
+
+        verify(proxyClient.client(), times(2)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+    }
+
+    @Test
+    public void remove_InstanceNotFoundIsRemoved() {
+        final ResourceModel model = deployedModel("instance-a", "instance-b");
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(proxyClient.client().removeApplicationInstance(any(RemoveApplicationInstanceRequest.class)))
+                .thenAnswer(invocation -> {
+                    final RemoveApplicationInstanceRequest request = invocation.getArgument(0);
+                    if ("instance-b".equals(request.applicationInstanceId())) {
+                        throw ResourceNotFoundException.builder().build();
+                    }
+                    return RemoveApplicationInstanceResponse.builder().build();
+                });
+
+        fleet.remove(ProgressEvent.progress(model, callbackContext));
+        fleet.remove(ProgressEvent.progress(model, callbackContext));
+
+        assertThat(callbackContext.getFleetRemovalsRequested()).containsExactly("instance-a", "instance-b");
+        assertThat(callbackContext.getFleetStatuses())
+                .containsOnly(entry("instance-b", ApplicationInstanceStatus.REMOVAL_SUCCEEDED.toString()));
+
+        verify(proxyClient.client(), times(2)).removeApplicationInstance(any(RemoveApplicationInstanceRequest.class));
+    }
+
+    private static ResourceModel fleetModel() {
+        return ResourceModel.builder()
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .defaultRuntimeContextDevice(DEVICE_ARN)
+                // the DefaultRuntimeContextDevice listed again gets no second instance
+                .fleetDevices(Stream.concat(Stream.of(DEVICE_ARN), FLEET_DEVICES.stream()).collect(Collectors.toList()))
+                .build();
+    }
+
+    private static ResourceModel deployedModel(final String... applicationInstanceIds) {
+        return ResourceModel.builder()
+                .defaultRuntimeContextDevice(DEVICE_ARN)
+                .applicationInstanceId(applicationInstanceIds[0])
+                .fleetApplicationInstances(Arrays.stream(applicationInstanceIds)
+                        .map(applicationInstanceId -> FleetApplicationInstance.builder()
+                                .device("device-of-" + applicationInstanceId)
+                                .applicationInstanceId(applicationInstanceId)
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static CreateApplicationInstanceResponse created(final CreateApplicationInstanceRequest request) {
+        return CreateApplicationInstanceResponse.builder()
+                .applicationInstanceId("instance-" + request.defaultRuntimeContextDevice())
+                .build();
+    }
+
+    private static ApplicationInstance instance(final String applicationInstanceId, final ApplicationInstanceStatus status) {
+        return ApplicationInstance.builder()
+                .applicationInstanceId(applicationInstanceId)
+                .status(status)
+                .build();
+    }
+
+    private static ListApplicationInstancesResponse listed(final String nextToken, final ApplicationInstance... applicationInstances) {
+        return ListApplicationInstancesResponse.builder()
+                .applicationInstances(applicationInstances)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private static ListApplicationInstancesResponse page(final Map<String, ListApplicationInstancesResponse> pages,
+                                                         final ListApplicationInstancesRequest request) {
+        final String key = request.statusFilterAsString() + "/" + (request.nextToken() == null ? "" : request.nextToken());
+        assertThat(pages).containsKey(key);
+        return pages.get(key);
+    }
+}
@@ -2,8 +2,11 @@ package software.amazon.panorama.applicationinstance;
 
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
 import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesRequest;
 import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.StatusFilter;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -16,10 +19,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static software.amazon.panorama.applicationinstance.Constants.DEVICE_ID;
@@ -75,4 +89,164 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_FillsPagesPastRemovedInstances() {
+        // one live instance in ten, the others removed
+        final List<ApplicationInstance> dataset = dataset(1000, i -> i % 10 == 0);
+        serve(dataset);
+
+        final List<ProgressEvent<ResourceModel, CallbackContext>> pages = listAll(new ListHandler(), ResourceModel.builder().build());
+
+        assertThat(pages).hasSize(4);
+        pages.forEach(page -> assertThat(page.getResourceModels()).hasSize(ListHandler.PAGE_SIZE));
+        assertThat(listed(pages)).isEqualTo(live(dataset));
+
+        verify(proxyClient.client(), times(40)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ResumesInTheMiddleOfAServicePage() {
+        final List<ApplicationInstance> dataset = dataset(200, i -> i % 3 != 2);
+        serve(dataset);
+
+        final List<ProgressEvent<ResourceModel, CallbackContext>> pages = listAll(new ListHandler(), ResourceModel.builder().build());
+
+        for (final ProgressEvent<ResourceModel, CallbackContext> page : pages.subList(0, pages.size() - 1)) {
+            assertThat(page.getResourceModels()).hasSize(ListHandler.PAGE_SIZE);
+        }
+        assertThat(pages.get(0).getNextToken()).startsWith("page.");
+        assertThat(listed(pages)).isEqualTo(live(dataset));
+    }
+
+    @Test
+    public void handleRequest_OnlyRemovedInstances() {
+        serve(dataset(500, i -> false));
+
+        final List<ProgressEvent<ResourceModel, CallbackContext>> pages = listAll(new ListHandler(), ResourceModel.builder().build());
+
+        assertThat(pages).hasSize(1);
+        assertThat(pages.get(0).getResourceModels()).isEmpty();
+        assertThat(pages.get(0).getNextToken()).isNull();
+
+        verify(proxyClient.client(), times(20)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StopsAtTheTimeBudget() {
+        // each service page takes 4 seconds, the budget allows for three of them
+        final AtomicLong clock = new AtomicLong();
+        final List<ApplicationInstance> dataset = dataset(1000, i -> i % 100 == 0);
+        serve(dataset, () -> clock.addAndGet(TimeUnit.SECONDS.toNanos(4L)));
+
+        final List<ProgressEvent<ResourceModel, CallbackContext>> pages = listAll(new ListHandler(clock::get), ResourceModel.builder().build());
+
+        assertThat(pages).hasSize(14);
+        pages.subList(0, pages.size() - 1).forEach(page -> assertThat(page.getNextToken()).isNotNull());
+        assertThat(listed(pages)).isEqualTo(live(dataset));
+
+        verify(proxyClient.client(), times(40)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ServiceNextToken() {
+        final List<ApplicationInstance> dataset = dataset(1000, i -> i % 10 == 0);
+        serve(dataset);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("975")
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getApplicationInstanceId)
+                .containsExactly("instance-980", "instance-990");
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_RemovalSucceededFilter() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().statusFilter(StatusFilter.REMOVAL_SUCCEEDED.toString()).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+
+        verify(proxyClient.client(), never()).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    /**
+     * ApplicationInstances instance-0 to instance-(size - 1), the ones not live being removed.
+     */
+    private static List<ApplicationInstance> dataset(final int size, final IntPredicate live) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> ApplicationInstance.builder()
+                        .applicationInstanceId("instance-" + i)
+                        .status(live.test(i) ? ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED : ApplicationInstanceStatus.REMOVAL_SUCCEEDED)
+                        .createdTime(Instant.ofEpochSecond(i))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> live(final List<ApplicationInstance> dataset) {
+        return dataset.stream()
+                .filter(applicationInstance -> applicationInstance.status() != ApplicationInstanceStatus.REMOVAL_SUCCEEDED)
+                .map(ApplicationInstance::applicationInstanceId)
+                .collect(Collectors.toList());
+    }
+
+    private void serve(final List<ApplicationInstance> dataset) {
+        serve(dataset, () -> { });
+    }
+
+    /**
+     * Serve the dataset a page at a time, the nextToken being the index of the first item of the page.
+     */
+    private void serve(final List<ApplicationInstance> dataset, final Runnable onCall) {
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenAnswer(invocation -> {
+                    onCall.run();
+                    final ListApplicationInstancesRequest request = invocation.getArgument(0);
+                    final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+                    final int to = Math.min(from + request.maxResults(), dataset.size());
+                    return ListApplicationInstancesResponse.builder()
+                            .applicationInstances(dataset.subList(from, to))
+                            .nextToken(to < dataset.size() ? String.valueOf(to) : null)
+                            .build();
+                });
+    }
+
+    /**
+     * Call the handler with the nextToken of each page until there is none.
+     */
+    private List<ProgressEvent<ResourceModel, CallbackContext>> listAll(final ListHandler handler, final ResourceModel model) {
+        final List<ProgressEvent<ResourceModel, CallbackContext>> pages = new ArrayList<>();
+        String nextToken = null;
+        do {
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(model)
+                    .nextToken(nextToken)
+                    .build();
+            final ProgressEvent<ResourceModel, CallbackContext> page =
+                    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            assertThat(page.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(page.getResourceModels()).hasSizeLessThanOrEqualTo(ListHandler.PAGE_SIZE);
+            pages.add(page);
+            nextToken = page.getNextToken();
+        } while (nextToken != null && pages.size() < 1000);
+        return pages;
+    }
+
+    private static List<String> listed(final List<ProgressEvent<ResourceModel, CallbackContext>> pages) {
+        return pages.stream()
+                .flatMap(page -> page.getResourceModels().stream())
+                .map(ResourceModel::getApplicationInstanceId)
+                .collect(Collectors.toList());
+    }
 }
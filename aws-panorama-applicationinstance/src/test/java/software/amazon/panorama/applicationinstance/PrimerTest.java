@@ -0,0 +1,38 @@
+package software.amazon.panorama.applicationinstance;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.panorama.common.Priming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimerTest {
+
+    @Test
+    void testSteps_succeed() throws Exception {
+        // Priming.prime swallows failures, so run the steps directly
+        for (final Priming.Step step : Primer.steps()) {
+            step.run();
+        }
+    }
+
+    @Test
+    void testDescribeResponse_unmarshalsEveryMember() {
+        try (PanoramaClient client = Priming.localClient(Primer.DESCRIBE_APPLICATION_INSTANCE_RESPONSE)) {
+            final ResourceModel model = Translator.translateFromReadResponse(
+                    client.describeApplicationInstance(DescribeApplicationInstanceRequest.builder()
+                            .applicationInstanceId("applicationInstance-priming").build()),
+                    client.describeApplicationInstanceDetails(DescribeApplicationInstanceDetailsRequest.builder()
+                            .applicationInstanceId("applicationInstance-priming").build()));
+
+            assertThat(model.getApplicationInstanceId()).isEqualTo("applicationInstance-priming");
+            assertThat(model.getStatus()).isEqualTo("DEPLOYMENT_SUCCEEDED");
+            assertThat(model.getLastUpdatedTime()).isEqualTo(1600000000);
+            assertThat(model.getManifestPayload().getPayloadData()).isEqualTo("{\"nodeGraph\":{}}");
+            assertThat(model.getManifestOverridesPayload().getPayloadData()).isEqualTo("{\"nodeGraphOverrides\":{}}");
+            assertThat(model.getTags()).containsExactly(Tag.builder().key("key").value("value").build());
+        }
+    }
+}
@@ -4,9 +4,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.awssdk.services.panorama.model.ApplicationInstanceHealthStatus;
 import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
@@ -60,16 +62,23 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     PanoramaClient panoramaClient;
 
+    private ProxyClient<PanoramaAsyncClient> asyncProxyClient;
+
+    private PanoramaAsyncClient panoramaAsyncClient;
+
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         panoramaClient = mock(PanoramaClient.class);
         proxyClient = MOCK_PROXY(proxy, panoramaClient);
+        panoramaAsyncClient = mock(PanoramaAsyncClient.class);
+        asyncProxyClient = MOCK_ASYNC_PROXY(proxy, panoramaAsyncClient);
     }
 
     @AfterEach
     public void tear_down() {
         verifyNoMoreInteractions(panoramaClient);
+        verifyNoMoreInteractions(panoramaAsyncClient);
     }
 
     @Test
@@ -243,4 +252,205 @@ public class ReadHandlerTest extends AbstractTestBase {
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)
         );
     }
+
+    @Test
+    public void handleRequest_Async_SimpleSuccess() {
+        final ReadHandler handler = new ReadHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        when(panoramaAsyncClient.describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeApplicationInstanceResponse(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)));
+        when(panoramaAsyncClient.describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeApplicationInstanceDetailsResponse()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, logger);
+
+        ResourceModel expectedResourceModel = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .name(APPLICATION_INSTANCE_NAME)
+                .description(APPLICATION_INSTANCE_DESCRIPTION)
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData(MANIFEST_PAYLOAD_OVERRIDES).build())
+                .defaultRuntimeContextDevice(DEVICE_ARN)
+                .runtimeRoleArn(RUNTIME_ROLE_ARN)
+                .status(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED.toString())
+                .healthStatus(ApplicationInstanceHealthStatus.RUNNING.toString())
+                .statusDescription(STATUS_DESCRIPTION)
+                .createdTime(CREATED_TIME)
+                .lastUpdatedTime(LAST_UPDATED_TIME)
+                .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(panoramaAsyncClient, times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(panoramaAsyncClient, times(1)).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Async_IssuesBothCallsBeforeJoining() {
+        final ReadHandler handler = new ReadHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        // describe only completes once details has been requested, which a sequential read would never do
+        final CompletableFuture<DescribeApplicationInstanceResponse> describeFuture = new CompletableFuture<>();
+        when(panoramaAsyncClient.describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(describeFuture);
+        when(panoramaAsyncClient.describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
+                .thenAnswer(invocation -> {
+                    describeFuture.complete(describeApplicationInstanceResponse(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED));
+                    return CompletableFuture.completedFuture(describeApplicationInstanceDetailsResponse());
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getManifestPayload().getPayloadData()).isEqualTo(MANIFEST_PAYLOAD);
+
+        verify(panoramaAsyncClient, times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(panoramaAsyncClient, times(1)).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Async_throws_CfnNotFoundException() {
+        final ReadHandler handler = new ReadHandler();
+
+        when(panoramaAsyncClient.describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(panoramaAsyncClient.describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, logger)
+        );
+    }
+
+    @Test
+    public void handleRequest_Async_RemovedInstance_throws_CfnNotFoundException() {
+        final ReadHandler handler = new ReadHandler();
+
+        when(panoramaAsyncClient.describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeApplicationInstanceResponse(ApplicationInstanceStatus.REMOVAL_SUCCEEDED)));
+        when(panoramaAsyncClient.describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeApplicationInstanceDetailsResponse()));
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, logger)
+        );
+    }
+
+    @Test
+    public void handleRequest_Async_DetailsFailure_throws_CfnGeneralServiceException() {
+        final ReadHandler handler = new ReadHandler();
+
+        when(panoramaAsyncClient.describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeApplicationInstanceResponse(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)));
+        when(panoramaAsyncClient.describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
+                .thenReturn(failedFuture(AwsServiceException.builder().build()));
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnGeneralServiceException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, asyncProxyClient, logger)
+        );
+    }
+
+    @Test
+    public void handleRequest_NoAsyncClient_FallsBackToSync() {
+        final ReadHandler handler = new ReadHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        when(proxyClient.client().describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(describeApplicationInstanceResponse(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED));
+        when(proxyClient.client().describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class)))
+                .thenReturn(describeApplicationInstanceDetailsResponse());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyClient.client(), times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), times(1)).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
+    }
+
+    private static DescribeApplicationInstanceResponse describeApplicationInstanceResponse(final ApplicationInstanceStatus status) {
+        return DescribeApplicationInstanceResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .name(APPLICATION_INSTANCE_NAME)
+                .description(APPLICATION_INSTANCE_DESCRIPTION)
+                .defaultRuntimeContextDevice(DEVICE_ARN)
+                .runtimeRoleArn(RUNTIME_ROLE_ARN)
+                .status(status)
+                .healthStatus(ApplicationInstanceHealthStatus.RUNNING)
+                .statusDescription(STATUS_DESCRIPTION)
+                .createdTime(Instant.ofEpochSecond(CREATED_TIME))
+                .lastUpdatedTime(Instant.ofEpochSecond(LAST_UPDATED_TIME))
+                .build();
+    }
+
+    private static DescribeApplicationInstanceDetailsResponse describeApplicationInstanceDetailsResponse() {
+        return DescribeApplicationInstanceDetailsResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .manifestPayload(software.amazon.awssdk.services.panorama.model.ManifestPayload.builder()
+                        .payloadData(MANIFEST_PAYLOAD)
+                        .build())
+                .manifestOverridesPayload(software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload.builder()
+                        .payloadData(MANIFEST_PAYLOAD_OVERRIDES)
+                        .build())
+                .build();
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
 }
@@ -0,0 +1,175 @@
+package software.amazon.panorama.applicationinstance;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RemovalBackoffDelayTest {
+    private static final Duration LEGACY_DELAY = Duration.ofMinutes(1);
+
+    @Test
+    void testNextDelay_staysWithinPhaseBounds() {
+        for (final String status : RemovalBackoffDelay.PHASES.keySet()) {
+            final RemovalBackoffDelay.Phase phase = RemovalBackoffDelay.PHASES.get(status);
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setApplicationInstanceStatus(status);
+            final RemovalBackoffDelay delay = new RemovalBackoffDelay(callbackContext, new Random(7L));
+
+            for (int attempt = 1; attempt <= 50; attempt++) {
+                assertThat(delay.nextDelay(attempt).getSeconds())
+                        .isBetween(phase.getBase().getSeconds(), phase.getCap().getSeconds());
+            }
+        }
+    }
+
+    @Test
+    void testNextDelay_isDeterministicForSeed() {
+        final CallbackContext first = new CallbackContext();
+        final CallbackContext second = new CallbackContext();
+        first.setApplicationInstanceStatus(ApplicationInstanceStatus.REMOVAL_PENDING.toString());
+        second.setApplicationInstanceStatus(ApplicationInstanceStatus.REMOVAL_PENDING.toString());
+        final RemovalBackoffDelay firstDelay = new RemovalBackoffDelay(first, new Random(42L));
+        final RemovalBackoffDelay secondDelay = new RemovalBackoffDelay(second, new Random(42L));
+
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            assertThat(firstDelay.nextDelay(attempt)).isEqualTo(secondDelay.nextDelay(attempt));
+        }
+    }
+
+    @Test
+    void testNextDelay_spreadsConcurrentTeardowns() {
+        final Random random = new Random(1L);
+        final Set<Duration> firstDelays = new HashSet<>();
+        final Set<Duration> secondDelays = new HashSet<>();
+
+        for (int teardown = 0; teardown < 1000; teardown++) {
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.REMOVAL_PENDING.toString());
+            final RemovalBackoffDelay delay = new RemovalBackoffDelay(callbackContext, random);
+            firstDelays.add(delay.nextDelay(1));
+            secondDelays.add(delay.nextDelay(2));
+        }
+
+        // with a constant delay every teardown would poll at the same instants
+        assertThat(firstDelays.size()).isGreaterThan(5);
+        assertThat(secondDelays.size()).isGreaterThan(10);
+    }
+
+    @Test
+    void testNextDelay_resetsOnStatusTransition() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final RemovalBackoffDelay delay = new RemovalBackoffDelay(callbackContext, new Random(3L));
+
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.REMOVAL_PENDING.toString());
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            delay.nextDelay(attempt);
+        }
+
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString());
+        final Duration next = delay.nextDelay(6);
+
+        assertThat(next.getSeconds()).isBetween(2L, 6L);
+        assertThat(callbackContext.getLastDelayStatus()).isEqualTo(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString());
+        assertThat(callbackContext.getLastDelaySeconds()).isEqualTo((int) next.getSeconds());
+    }
+
+    @Test
+    void testNextDelay_timesOut() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStabilizationElapsedSeconds((int) RemovalBackoffDelay.TIMEOUT.getSeconds());
+
+        assertThat(new RemovalBackoffDelay(callbackContext, new Random(0L)).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void testSimulatedRemoval_fastRemovalIsDetectedQuickly() {
+        // removal finishes 15 seconds after the request
+        final RemovalTimeline timeline = new RemovalTimeline(0, 0, 15);
+
+        for (long seed = 0; seed < 100; seed++) {
+            final Simulation simulation = simulate(timeline, new Random(seed));
+            assertThat(simulation.detectedAtSeconds).isLessThanOrEqualTo(timeline.completedAtSeconds()
+                    + RemovalBackoffDelay.PHASES.get(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString()).getCap().getSeconds());
+            assertThat(simulation.detectedAtSeconds).isLessThan(LEGACY_DELAY.getSeconds());
+        }
+    }
+
+    @Test
+    void testSimulatedRemoval_tradesPollsForDetectionLatency() {
+        // 30 seconds pending, 30 seconds requested, 2 minutes in progress
+        final RemovalTimeline timeline = new RemovalTimeline(30, 30, 120);
+        final long legacyPolls = timeline.completedAtSeconds() / LEGACY_DELAY.getSeconds() + 1;
+        final long inProgressCap = RemovalBackoffDelay.PHASES.get(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString())
+                .getCap().getSeconds();
+
+        long totalPolls = 0;
+        for (long seed = 0; seed < 100; seed++) {
+            final Simulation simulation = simulate(timeline, new Random(seed));
+            totalPolls += simulation.polls;
+            // the legacy polling notices a removal up to a whole minute late, half a minute on average
+            assertThat(simulation.detectedAtSeconds - timeline.completedAtSeconds())
+                    .isLessThanOrEqualTo(inProgressCap)
+                    .isLessThan(LEGACY_DELAY.getSeconds() / 2);
+        }
+
+        // that latency is paid for in calls: about five times the polls of the one minute constant delay, though a
+        // quarter fewer than a constant delay at the base of the default phase
+        final double averagePolls = totalPolls / 100.0;
+        assertThat(averagePolls).isGreaterThan(legacyPolls);
+        assertThat(averagePolls).isLessThan(legacyPolls * 6);
+        assertThat(averagePolls).isLessThan((timeline.completedAtSeconds() / RemovalBackoffDelay.DEFAULT_PHASE.getBase().getSeconds() + 1) * 0.75);
+    }
+
+    private static Simulation simulate(final RemovalTimeline timeline, final Random random) {
+        final CallbackContext callbackContext = new CallbackContext();
+        final RemovalBackoffDelay delay = new RemovalBackoffDelay(callbackContext, random);
+
+        long now = 0;
+        long polls = 0;
+        while (true) {
+            polls++;
+            final ApplicationInstanceStatus status = timeline.statusAt(now);
+            if (status == ApplicationInstanceStatus.REMOVAL_SUCCEEDED) {
+                return new Simulation(polls, now);
+            }
+            callbackContext.setApplicationInstanceStatus(status.toString());
+            now += delay.nextDelay((int) polls).getSeconds();
+        }
+    }
+
+    @lombok.AllArgsConstructor
+    private static class RemovalTimeline {
+        private final long pendingSeconds;
+        private final long requestedSeconds;
+        private final long inProgressSeconds;
+
+        long completedAtSeconds() {
+            return pendingSeconds + requestedSeconds + inProgressSeconds;
+        }
+
+        ApplicationInstanceStatus statusAt(final long seconds) {
+            if (seconds < pendingSeconds) {
+                return ApplicationInstanceStatus.REMOVAL_PENDING;
+            }
+            if (seconds < pendingSeconds + requestedSeconds) {
+                return ApplicationInstanceStatus.REMOVAL_REQUESTED;
+            }
+            if (seconds < completedAtSeconds()) {
+                return ApplicationInstanceStatus.REMOVAL_IN_PROGRESS;
+            }
+            return ApplicationInstanceStatus.REMOVAL_SUCCEEDED;
+        }
+    }
+
+    @lombok.AllArgsConstructor
+    private static class Simulation {
+        private final long polls;
+        private final long detectedAtSeconds;
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.panorama.applicationinstance;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationSchedulerTest {
+
+    @Test
+    void testNextDelay_backsOffWhilePending() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.DEPLOYMENT_PENDING.toString());
+
+        assertThat(scheduler.nextDelay(1)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(scheduler.nextDelay(2)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(scheduler.nextDelay(3)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(scheduler.nextDelay(4)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void testNextDelay_pollsTightlyWhileInProgress() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+
+        assertThat(scheduler.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(scheduler.nextDelay(2)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(scheduler.nextDelay(3)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testNextDelay_resetsOnStatusTransition() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.DEPLOYMENT_REQUESTED.toString());
+        assertThat(scheduler.nextDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(scheduler.nextDelay(2)).isEqualTo(Duration.ofSeconds(20));
+
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+        assertThat(scheduler.nextDelay(3)).isEqualTo(Duration.ofSeconds(5));
+
+        assertThat(callbackContext.getStabilizationDelays())
+                .containsEntry(ApplicationInstanceStatus.DEPLOYMENT_REQUESTED.toString(), 30)
+                .containsEntry(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString(), 5);
+        assertThat(callbackContext.getStabilizationElapsedSeconds()).isEqualTo(35);
+    }
+
+    @Test
+    void testNextDelay_unknownStatusUsesDefault() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+
+        assertThat(scheduler.nextDelay(1)).isEqualTo(StabilizationScheduler.DEFAULT_INTERVAL.getBase());
+        assertThat(scheduler.nextDelay(2)).isEqualTo(StabilizationScheduler.DEFAULT_INTERVAL.getBase());
+    }
+
+    @Test
+    void testNextDelay_survivesReinvocation() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setApplicationInstanceStatus(ApplicationInstanceStatus.DEPLOYMENT_PENDING.toString());
+        new StabilizationScheduler(callbackContext).nextDelay(1);
+
+        // a re-invocation builds a new scheduler over the persisted context and keeps backing off
+        assertThat(new StabilizationScheduler(callbackContext).nextDelay(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(callbackContext.getLastDelayStatus()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_PENDING.toString());
+        assertThat(callbackContext.getLastDelaySeconds()).isEqualTo(30);
+        assertThat(callbackContext.getStabilizationElapsedSeconds()).isEqualTo(45);
+    }
+
+    @Test
+    void testNextDelay_timesOut() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStabilizationElapsedSeconds((int) StabilizationScheduler.TIMEOUT.getSeconds());
+
+        assertThat(new StabilizationScheduler(callbackContext).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+}
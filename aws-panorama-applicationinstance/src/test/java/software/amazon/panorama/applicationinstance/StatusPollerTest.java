@@ -0,0 +1,209 @@
+package software.amazon.panorama.applicationinstance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.InternalServerException;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesRequest;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.StatusFilter;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.panorama.common.LoggerWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StatusPollerTest extends AbstractTestBase {
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<PanoramaClient> proxyClient;
+
+    @Mock
+    PanoramaClient panoramaClient;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LoggerWrapper loggerWrapper = new LoggerWrapper(logger);
+    private StatusPoller statusPoller;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        panoramaClient = mock(PanoramaClient.class);
+        proxyClient = MOCK_PROXY(proxy, panoramaClient);
+        statusPoller = new StatusPoller(clock::get);
+    }
+
+    @Test
+    public void status_TooFewPendingInstancesAreDescribed() {
+        assertThat(statusPoller.status(proxyClient, "instance-a", StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+        assertThat(statusPoller.status(proxyClient, "instance-b", StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+
+        verify(proxyClient.client(), never()).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void status_HandlersShareARefresh() {
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenReturn(listed(null, ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS, "instance-a", "instance-b", "instance-c"));
+
+        assertThat(statusPoller.status(proxyClient, "instance-a", StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+        assertThat(statusPoller.status(proxyClient, "instance-b", StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+        // the third pending instance makes listing pay off, the refresh covers the other two as well
+        assertThat(statusPoller.status(proxyClient, "instance-c", StatusPoller.Phase.DEPLOYMENT, loggerWrapper))
+                .isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+        assertThat(statusPoller.status(proxyClient, "instance-a", StatusPoller.Phase.DEPLOYMENT, loggerWrapper))
+                .isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+        assertThat(statusPoller.status(proxyClient, "instance-b", StatusPoller.Phase.DEPLOYMENT, loggerWrapper))
+                .isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+
+        verify(proxyClient.client(), times(1)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+
+        // a status older than MAX_AGE is listed again
+        clock.addAndGet(StatusPoller.MAX_AGE_NANOS + 1);
+        assertThat(statusPoller.status(proxyClient, "instance-a", StatusPoller.Phase.DEPLOYMENT, loggerWrapper))
+                .isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+
+        verify(proxyClient.client(), times(2)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void statuses_PaginatesUntilEveryInstanceIsFound() {
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final ListApplicationInstancesRequest request = invocation.getArgument(0);
+                    if (request.statusFilter() == StatusFilter.PROCESSING_REMOVAL && request.nextToken() == null) {
+                        return listed("page-2", ApplicationInstanceStatus.REMOVAL_PENDING, "instance-other", "instance-a");
+                    }
+                    if (request.statusFilter() == StatusFilter.PROCESSING_REMOVAL) {
+                        return listed(null, ApplicationInstanceStatus.REMOVAL_IN_PROGRESS, "instance-b");
+                    }
+                    if (request.statusFilter() == StatusFilter.REMOVAL_FAILED) {
+                        return listed(null, ApplicationInstanceStatus.REMOVAL_FAILED);
+                    }
+                    if (request.nextToken() == null) {
+                        return listed("page-2", ApplicationInstanceStatus.REMOVAL_SUCCEEDED, "instance-c");
+                    }
+                    return listed(null, ApplicationInstanceStatus.REMOVAL_SUCCEEDED, "instance-other");
+                });
+
+        final Map<String, String> statuses = statusPoller.statuses(proxyClient,
+                Arrays.asList("instance-a", "instance-b", "instance-c", "instance-d"), StatusPoller.Phase.REMOVAL, loggerWrapper);
+
+        // instance-d is not listed yet, an instance missing from every page is left out
+        assertThat(statuses).containsOnlyKeys("instance-a", "instance-b", "instance-c");
+        assertThat(statuses.get("instance-a")).isEqualTo(ApplicationInstanceStatus.REMOVAL_PENDING.toString());
+        assertThat(statuses.get("instance-b")).isEqualTo(ApplicationInstanceStatus.REMOVAL_IN_PROGRESS.toString());
+        assertThat(statuses.get("instance-c")).isEqualTo(ApplicationInstanceStatus.REMOVAL_SUCCEEDED.toString());
+
+        verify(proxyClient.client(), times(5)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void statuses_ListingFailureFallsBackToDescribing() {
+        final List<String> applicationInstanceIds = Arrays.asList("instance-a", "instance-b", "instance-c");
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenThrow(InternalServerException.builder().build())
+                .thenReturn(listed(null, ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED, "instance-a", "instance-b", "instance-c"));
+
+        assertThat(statusPoller.statuses(proxyClient, applicationInstanceIds, StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+        clock.addAndGet(StatusPoller.MAX_AGE_NANOS + 1);
+        assertThat(statusPoller.statuses(proxyClient, applicationInstanceIds, StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+
+        verify(proxyClient.client(), times(1)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+
+        clock.addAndGet(StatusPoller.FAILURE_BACKOFF_NANOS);
+        assertThat(statusPoller.statuses(proxyClient, applicationInstanceIds, StatusPoller.Phase.DEPLOYMENT, loggerWrapper))
+                .hasSize(3);
+
+        verify(proxyClient.client(), times(2)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void statuses_ThrottledListingFallsBackToDescribing() {
+        final List<String> applicationInstanceIds = Arrays.asList("instance-a", "instance-b", "instance-c");
+        // the rate limited proxy client fails a call it has no token for with a CfnThrottlingException
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenThrow(new CfnThrottlingException("ListApplicationInstances"));
+
+        assertThat(statusPoller.statuses(proxyClient, applicationInstanceIds, StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+        clock.addAndGet(StatusPoller.MAX_AGE_NANOS + 1);
+        assertThat(statusPoller.statuses(proxyClient, applicationInstanceIds, StatusPoller.Phase.DEPLOYMENT, loggerWrapper)).isNull();
+
+        verify(proxyClient.client(), times(1)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    @Test
+    public void status_ConcurrentHandlersWaitForTheRefreshInFlight() throws Exception {
+        final List<String> applicationInstanceIds = IntStream.range(0, 16)
+                .mapToObj(i -> "instance-" + i)
+                .collect(Collectors.toList());
+        when(proxyClient.client().listApplicationInstances(any(ListApplicationInstancesRequest.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(100L);
+                    return listed(null, ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS,
+                            applicationInstanceIds.toArray(new String[0]));
+                });
+
+        // the instances are pending once their handlers asked for them
+        statusPoller.statuses(proxyClient, applicationInstanceIds, StatusPoller.Phase.DEPLOYMENT, loggerWrapper);
+        clock.addAndGet(StatusPoller.MAX_AGE_NANOS + 1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(applicationInstanceIds.size());
+        try {
+            final List<Future<String>> statuses = new ArrayList<>();
+            for (final String applicationInstanceId : applicationInstanceIds) {
+                statuses.add(executor.submit(() ->
+                        statusPoller.status(proxyClient, applicationInstanceId, StatusPoller.Phase.DEPLOYMENT, loggerWrapper)));
+            }
+            for (final Future<String> status : statuses) {
+                assertThat(status.get()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS.toString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(proxyClient.client(), times(2)).listApplicationInstances(any(ListApplicationInstancesRequest.class));
+    }
+
+    private static ListApplicationInstancesResponse listed(final String nextToken,
+                                                           final ApplicationInstanceStatus status,
+                                                           final String... applicationInstanceIds) {
+        return ListApplicationInstancesResponse.builder()
+                .applicationInstances(Arrays.stream(applicationInstanceIds)
+                        .map(applicationInstanceId -> ApplicationInstance.builder()
+                                .applicationInstanceId(applicationInstanceId)
+                                .status(status)
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextToken(nextToken)
+                .build();
+    }
+}
@@ -66,6 +66,22 @@ public class TranslatorTest {
         assertThat(request.defaultRuntimeContextDevice()).isEqualTo(DEVICE_ARN);
     }
 
+    @Test
+    void testTranslateToCreateRequestForDevice() {
+        ResourceModel model = ResourceModel.builder()
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .defaultRuntimeContextDevice(DEVICE_ARN)
+                .applicationInstanceIdToReplace(APPLICATION_INSTANCE_ID)
+                .build();
+        CreateApplicationInstanceRequest request = Translator.translateToCreateRequest(model, DEVICE_ID);
+        assertThat(request.defaultRuntimeContextDevice()).isEqualTo(DEVICE_ID);
+        assertThat(request.applicationInstanceIdToReplace()).isNull();
+
+        request = Translator.translateToCreateRequest(model, DEVICE_ARN);
+        assertThat(request.defaultRuntimeContextDevice()).isEqualTo(DEVICE_ARN);
+        assertThat(request.applicationInstanceIdToReplace()).isEqualTo(APPLICATION_INSTANCE_ID);
+    }
+
     @Test
     void testTranslateFromReadResponse() {
         String key = "key";
@@ -159,4 +175,27 @@ public class TranslatorTest {
         assertThat(request.resourceArn()).isEqualTo(APPLICATION_INSTANCE_ARN);
     }
 
+
+    @Test
+    void testTranslateFromReadResponseWithKnownPayloads() {
+        DescribeApplicationInstanceResponse describeApplicationInstanceResponse = DescribeApplicationInstanceResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .name(APPLICATION_INSTANCE_NAME)
+                .status(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)
+                .createdTime(Instant.ofEpochSecond(CREATED_TIME))
+                .lastUpdatedTime(Instant.ofEpochSecond(LAST_UPDATED_TIME))
+                .build();
+        ResourceModel knownPayloads = ResourceModel.builder()
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData(MANIFEST_PAYLOAD_OVERRIDES).build())
+                .build();
+
+        ResourceModel model = Translator.translateFromReadResponse(describeApplicationInstanceResponse, knownPayloads);
+
+        assertThat(model.getApplicationInstanceId()).isEqualTo(APPLICATION_INSTANCE_ID);
+        assertThat(model.getName()).isEqualTo(APPLICATION_INSTANCE_NAME);
+        assertThat(model.getStatus()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED.toString());
+        assertThat(model.getManifestPayload().getPayloadData()).isEqualTo(MANIFEST_PAYLOAD);
+        assertThat(model.getManifestOverridesPayload().getPayloadData()).isEqualTo(MANIFEST_PAYLOAD_OVERRIDES);
+    }
 }
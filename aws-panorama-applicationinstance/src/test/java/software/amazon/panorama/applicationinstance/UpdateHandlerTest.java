@@ -35,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -145,6 +146,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // one describe serves the existence check, the tagging ARN and the returned model
+        verify(proxyClient.client(), times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), times(1)).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
     }
 
     @Test
@@ -227,6 +233,89 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client(), times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), times(1)).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
+        verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_unchangedPayloads_skipsDescribeDetails() {
+        final UpdateHandler handler = new UpdateHandler();
+        String key = "key";
+        String value = "value";
+
+        final ResourceModel prevModel = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData(MANIFEST_PAYLOAD_OVERRIDES).build())
+                .build();
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST_PAYLOAD).build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData(MANIFEST_PAYLOAD_OVERRIDES).build())
+                .tags(new HashSet<>(Collections.singletonList(Tag.builder().key(key).value(value).build())))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+
+        when(proxyClient.client().describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .name(APPLICATION_INSTANCE_NAME)
+                        .description(APPLICATION_INSTANCE_DESCRIPTION)
+                        .defaultRuntimeContextDevice(DEVICE_ARN)
+                        .runtimeRoleArn(RUNTIME_ROLE_ARN)
+                        .status(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)
+                        .healthStatus(ApplicationInstanceHealthStatus.RUNNING)
+                        .statusDescription(STATUS_DESCRIPTION)
+                        .createdTime(Instant.ofEpochSecond(CREATED_TIME))
+                        .lastUpdatedTime(Instant.ofEpochSecond(LAST_UPDATED_TIME))
+                        .tags(ImmutableMap.of(key, value))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getManifestPayload().getPayloadData()).isEqualTo(MANIFEST_PAYLOAD);
+        assertThat(response.getResourceModel().getManifestOverridesPayload().getPayloadData()).isEqualTo(MANIFEST_PAYLOAD_OVERRIDES);
+
+        verify(proxyClient.client(), times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), never()).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_removedInstance_throwsCfnNotFoundException() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        when(proxyClient.client().describeApplicationInstance(any(DescribeApplicationInstanceRequest.class)))
+                .thenReturn(DescribeApplicationInstanceResponse.builder()
+                        .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                        .status(ApplicationInstanceStatus.REMOVAL_SUCCEEDED)
+                        .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () -> {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        });
+        verify(proxyClient.client(), times(1)).describeApplicationInstance(any(DescribeApplicationInstanceRequest.class));
+        verify(proxyClient.client(), never()).describeApplicationInstanceDetails(any(DescribeApplicationInstanceDetailsRequest.class));
     }
 
     @Test
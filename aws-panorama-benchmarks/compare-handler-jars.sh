@@ -0,0 +1,33 @@
+#!/bin/sh
+# Builds each handler jar with and without minimizeJar, prints both sizes, smoke runs the minimized jar and compares
+# the cold start of both jars with HandlerStartupBenchmark. Run it from aws-panorama-benchmarks once the modules are
+# installed, see README.md. The jars and the JMH results go to target/handler-jars.
+set -e
+
+out=target/handler-jars
+mkdir -p "$out"
+
+mvn -q package
+
+for entry in applicationinstance:applicationinstance package:package_ packageversion:packageversion; do
+  module=${entry%%:*}
+  package=${entry#*:}
+  jar=aws-panorama-$module-handler-1.0-SNAPSHOT.jar
+
+  (cd "../aws-panorama-$module" && mvn -q package -DskipTests -Dshade.minimizeJar=false)
+  cp "../aws-panorama-$module/target/$jar" "$out/$module-full.jar"
+  # built last, so the module is left with its minimized jar
+  (cd "../aws-panorama-$module" && mvn -q package -DskipTests)
+  cp "../aws-panorama-$module/target/$jar" "$out/$module-minimized.jar"
+
+  echo "$module: full $(wc -c < "$out/$module-full.jar") bytes, minimized $(wc -c < "$out/$module-minimized.jar") bytes"
+
+  # the Primer fails on the first step reaching a class the minimized jar lacks
+  AWS_REGION=${AWS_REGION:-us-west-2} java -cp "$out/$module-minimized.jar" "software.amazon.panorama.$package.Primer"
+  echo "$module: minimized jar primes"
+
+  java -jar target/benchmarks.jar HandlerStartupBenchmark \
+    -p handlerJar="$out/$module-full.jar,$out/$module-minimized.jar" \
+    -p handlerWrapper="software.amazon.panorama.$package.HandlerWrapper" \
+    -rf json -rff "$out/$module-startup.json"
+done
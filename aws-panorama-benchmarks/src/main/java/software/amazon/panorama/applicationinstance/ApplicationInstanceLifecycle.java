@@ -0,0 +1,82 @@
+package software.amazon.panorama.applicationinstance;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.panorama.benchmarks.LoadHarness;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The ApplicationInstance operations of a {@link LoadHarness} lifecycle.
+ */
+public class ApplicationInstanceLifecycle {
+    private final LoadHarness harness;
+
+    public ApplicationInstanceLifecycle(final LoadHarness harness) {
+        this.harness = harness;
+    }
+
+    public ResourceModel create(final String name, final String device, final String packageName) {
+        final ResourceModel model = ResourceModel.builder()
+                .name(name)
+                .description("LoadHarness application instance")
+                .defaultRuntimeContextDevice(device)
+                .runtimeRoleArn("arn:aws:iam::123456789012:role/" + name)
+                .manifestPayload(ManifestPayload.builder()
+                        .payloadData("{\"nodeGraph\":{\"packages\":[{\"name\":\"" + packageName + "\",\"version\":\"1.0\"}]}}")
+                        .build())
+                .tags(tags("stage", "created"))
+                .build();
+        return harness.invoke("ApplicationInstance Create", handler(CreateHandler::new), null, model, null)
+                .getResourceModel();
+    }
+
+    public ResourceModel read(final ResourceModel model) {
+        return harness.invoke("ApplicationInstance Read", handler(ReadHandler::new), null, model, null)
+                .getResourceModel();
+    }
+
+    public ResourceModel update(final ResourceModel model) {
+        final ResourceModel desired = ResourceModel.builder()
+                .applicationInstanceId(model.getApplicationInstanceId())
+                .name(model.getName())
+                .description(model.getDescription())
+                .defaultRuntimeContextDevice(model.getDefaultRuntimeContextDevice())
+                .runtimeRoleArn(model.getRuntimeRoleArn())
+                .manifestPayload(model.getManifestPayload())
+                .manifestOverridesPayload(model.getManifestOverridesPayload())
+                .tags(tags("stage", "updated"))
+                .build();
+        return harness.invoke("ApplicationInstance Update", handler(UpdateHandler::new), model, desired, null)
+                .getResourceModel();
+    }
+
+    public int list(final String deviceId) {
+        int listed = 0;
+        String nextToken = null;
+        do {
+            final ProgressEvent<ResourceModel, CallbackContext> page = harness.invoke("ApplicationInstance List",
+                    handler(ListHandler::new), null, ResourceModel.builder().deviceId(deviceId).build(), nextToken);
+            listed += page.getResourceModels().size();
+            nextToken = page.getNextToken();
+        } while (nextToken != null);
+        return listed;
+    }
+
+    public void delete(final ResourceModel model) {
+        harness.invoke("ApplicationInstance Delete", handler(DeleteHandler::new), null, model, null);
+    }
+
+    // a handler per invocation, like a Lambda container serving one request at a time
+    private static LoadHarness.Handler<ResourceModel, CallbackContext> handler(final Supplier<BaseHandlerStd> handler) {
+        return (proxy, request, callbackContext, logger) -> handler.get().handleRequest(proxy, request, callbackContext, logger);
+    }
+
+    private static Set<Tag> tags(final String key, final String value) {
+        return new HashSet<>(Arrays.asList(
+                Tag.builder().key("harness").value("load").build(),
+                Tag.builder().key(key).value(value).build()));
+    }
+}
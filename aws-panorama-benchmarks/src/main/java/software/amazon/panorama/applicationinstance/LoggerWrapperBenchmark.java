@@ -0,0 +1,70 @@
+package software.amazon.panorama.applicationinstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload;
+import software.amazon.awssdk.services.panorama.model.ManifestPayload;
+import software.amazon.panorama.benchmarks.Payloads;
+import software.amazon.panorama.common.LoggerWrapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for LoggerWrapper against the eager String.format logging it replaced, logging a CreateApplicationInstance
+ * request with both manifests. Run with `-prof gc`: with the level disabled, gc.alloc.rate.norm should be close to 0.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerWrapperBenchmark {
+    @Param({"1024", "51200"})
+    int manifestBytes;
+
+    private CreateApplicationInstanceRequest request;
+    private LoggerWrapper disabledLogger;
+    private LoggerWrapper enabledLogger;
+    private String lastRecord;
+
+    @Setup
+    public void setup() {
+        request = CreateApplicationInstanceRequest.builder()
+                .name("benchmark-application")
+                .defaultRuntimeContextDevice("device-aaaaaaaaaaaaaaaaaaaaaaaaaa")
+                .manifestPayload(ManifestPayload.builder().payloadData(Payloads.manifest(manifestBytes)).build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData(Payloads.manifest(manifestBytes)).build())
+                .build();
+        disabledLogger = new LoggerWrapper(record -> lastRecord = record, LoggerWrapper.Level.ERROR);
+        enabledLogger = new LoggerWrapper(record -> lastRecord = record, LoggerWrapper.Level.INFO);
+    }
+
+    @Benchmark
+    public String eagerFormat() {
+        // what every call site did before, whatever the level
+        return "INFO " + String.format("API Exception is thrown from Panorama service. Request: %s", request.toString()) + "\n";
+    }
+
+    @Benchmark
+    public String structuredDisabled() {
+        disabledLogger.info("API Exception is thrown from Panorama service", "Request", request);
+        return lastRecord;
+    }
+
+    @Benchmark
+    public String structuredEnabled() {
+        enabledLogger.info("API Exception is thrown from Panorama service", "Request", request);
+        return lastRecord;
+    }
+}
@@ -0,0 +1,154 @@
+package software.amazon.panorama.applicationinstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceHealthStatus;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceDetailsResponse;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.TagResourceRequest;
+import software.amazon.awssdk.services.panorama.model.UntagResourceRequest;
+import software.amazon.panorama.benchmarks.Payloads;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for the ApplicationInstance Translator with payloads up to the service limits. Run with `-prof gc` to
+ * report allocation rates next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final String APPLICATION_INSTANCE_ID = "applicationInstance-aaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String APPLICATION_INSTANCE_ARN =
+            "arn:aws:panorama:us-west-2:123456789012:applicationInstance/" + APPLICATION_INSTANCE_ID;
+    private static final String DEVICE_ID = "device-aaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    @Param({"1024", "51200"})
+    int manifestBytes;
+
+    @Param({"0", "50"})
+    int tagCount;
+
+    @Param({"25", "1000"})
+    int pageSize;
+
+    private ResourceModel model;
+    private Set<Tag> tags;
+    private DescribeApplicationInstanceResponse describeResponse;
+    private DescribeApplicationInstanceDetailsResponse detailsResponse;
+    private ListApplicationInstancesResponse listResponse;
+
+    @Setup
+    public void setup() {
+        final String manifest = Payloads.manifest(manifestBytes);
+        final Map<String, String> tagMap = Payloads.tags(tagCount);
+        tags = tagMap.entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toSet());
+
+        model = ResourceModel.builder()
+                .name("benchmark-application")
+                .description("application instance used by the translator benchmarks")
+                .manifestPayload(ManifestPayload.builder().payloadData(manifest).build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData("{}").build())
+                .defaultRuntimeContextDevice(DEVICE_ID)
+                .runtimeRoleArn("arn:aws:iam::123456789012:role/benchmark")
+                .tags(tags)
+                .build();
+
+        describeResponse = DescribeApplicationInstanceResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .arn(APPLICATION_INSTANCE_ARN)
+                .name("benchmark-application")
+                .defaultRuntimeContextDevice(DEVICE_ID)
+                .status(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)
+                .healthStatus(ApplicationInstanceHealthStatus.RUNNING)
+                .createdTime(Instant.EPOCH)
+                .lastUpdatedTime(Instant.EPOCH)
+                .tags(tagMap)
+                .build();
+
+        detailsResponse = DescribeApplicationInstanceDetailsResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .manifestPayload(software.amazon.awssdk.services.panorama.model.ManifestPayload.builder()
+                        .payloadData(manifest)
+                        .build())
+                .manifestOverridesPayload(software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload.builder()
+                        .payloadData("{}")
+                        .build())
+                .build();
+
+        final List<ApplicationInstance> applicationInstances = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            applicationInstances.add(ApplicationInstance.builder()
+                    .applicationInstanceId(APPLICATION_INSTANCE_ID + i)
+                    .arn(APPLICATION_INSTANCE_ARN + i)
+                    .name("benchmark-application-" + i)
+                    .defaultRuntimeContextDevice(DEVICE_ID)
+                    .status(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)
+                    .healthStatus(ApplicationInstanceHealthStatus.RUNNING)
+                    .createdTime(Instant.EPOCH)
+                    .tags(tagMap)
+                    .build());
+        }
+        listResponse = ListApplicationInstancesResponse.builder()
+                .applicationInstances(applicationInstances)
+                .build();
+    }
+
+    @Benchmark
+    public CreateApplicationInstanceRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeResponse, detailsResponse);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponseWithKnownPayloads() {
+        return Translator.translateFromReadResponse(describeResponse, model);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return listResponse.applicationInstances().stream()
+                .filter(applicationInstance -> !Translator.isRemoved(applicationInstance))
+                .map(Translator::translateFromListItem)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(tags, APPLICATION_INSTANCE_ARN);
+    }
+
+    @Benchmark
+    public UntagResourceRequest translateToUntagResourceRequest() {
+        return Translator.translateToUntagResourceRequest(tags, APPLICATION_INSTANCE_ARN);
+    }
+}
@@ -0,0 +1,71 @@
+package software.amazon.panorama.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First invocation after a cold start, with and without priming: run it once as is and once with PRIMING=false in
+ * the environment, which the forks inherit.
+ *
+ * The setup is the Lambda init phase, building the HandlerWrapper of a fresh JVM. The measured call stands in for the
+ * handler's first call, which needs the service: it goes through the same Translator, marshalling, signing,
+ * unmarshalling and rpdk serialization paths against the local client, by running the module's Primer. Its main
+ * fails with a failing step, so a jar missing a class fails the benchmark instead of timing the steps it skipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class FirstInvocationBenchmark {
+    @Param({"../aws-panorama-package/target/aws-panorama-package-handler-1.0-SNAPSHOT.jar"})
+    String handlerJar;
+
+    @Param({"software.amazon.panorama.package_.HandlerWrapper"})
+    String handlerWrapper;
+
+    private URLClassLoader loader;
+    private Object wrapper;
+    private Method firstInvocation;
+
+    @Setup(Level.Trial)
+    public void initPhase() throws Exception {
+        final File jar = new File(handlerJar);
+        if (!jar.isFile()) {
+            throw new IllegalStateException("No handler jar at " + jar.getAbsolutePath() + ", build it first");
+        }
+        loader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, ClassLoader.getSystemClassLoader().getParent());
+        wrapper = Class.forName(handlerWrapper, true, loader).getConstructor().newInstance();
+        final String modulePackage = handlerWrapper.substring(0, handlerWrapper.lastIndexOf('.'));
+        firstInvocation = Class.forName(modulePackage + ".Primer", false, loader).getMethod("main", String[].class);
+    }
+
+    @Benchmark
+    public Object firstInvocation() throws Exception {
+        firstInvocation.invoke(null, (Object) new String[0]);
+        return wrapper;
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws Exception {
+        loader.close();
+    }
+}
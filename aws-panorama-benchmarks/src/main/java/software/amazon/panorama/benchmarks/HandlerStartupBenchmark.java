@@ -0,0 +1,58 @@
+package software.amazon.panorama.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of a handler jar: the class loading a fresh Lambda container does before its first Panorama call,
+ * i.e. opening the shaded jar, initializing the HandlerWrapper and building the PanoramaClient.
+ *
+ * Every fork is a new JVM and runs a single shot, so each sample is one cold start. The jar is loaded in its own
+ * class loader, apart from the benchmark classpath, so the full and the minimized jar can be compared by path:
+ * `-p handlerJar=full.jar,minimized.jar`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class HandlerStartupBenchmark {
+    private static final String REGION = "us-west-2";
+
+    @Param({"../aws-panorama-package/target/aws-panorama-package-handler-1.0-SNAPSHOT.jar"})
+    String handlerJar;
+
+    @Param({"software.amazon.panorama.package_.HandlerWrapper"})
+    String handlerWrapper;
+
+    @Benchmark
+    public Object coldStart() throws Exception {
+        final File jar = new File(handlerJar);
+        if (!jar.isFile()) {
+            throw new IllegalStateException("No handler jar at " + jar.getAbsolutePath() + ", build it first");
+        }
+        // the parent only provides the JDK, everything else has to come from the handler jar
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{jar.toURI().toURL()},
+                ClassLoader.getSystemClassLoader().getParent())) {
+            final Object wrapper = Class.forName(handlerWrapper, true, loader).getConstructor().newInstance();
+            final Object client = Class.forName("software.amazon.panorama.common.ClientBuilder", true, loader)
+                    .getMethod("getClient", String.class)
+                    .invoke(null, REGION);
+            return new Object[]{wrapper, client};
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package software.amazon.panorama.benchmarks;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.panorama.applicationinstance.ApplicationInstanceLifecycle;
+import software.amazon.panorama.common.ClientBuilder;
+import software.amazon.panorama.package_.PackageLifecycle;
+import software.amazon.panorama.packageversion.PackageVersionLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drives all handlers concurrently against a {@link PanoramaStandIn} and reports throughput and latency percentiles
+ * per handler operation.
+ *
+ * Each worker runs full lifecycles: create, read and update a Package, register, read and update a PackageVersion of
+ * it, create, read, update and list an ApplicationInstance deploying it, list the Packages, then delete everything
+ * again. A handler operation is timed from its first invocation to its final progress event, including the callbacks
+ * CloudFormation would make and the stabilization waits, which are scaled down by {@code timeScale}.
+ *
+ * Options are passed as {@code name=value} arguments, see {@link #main}.
+ */
+public class LoadHarness {
+    static final String REGION = "us-east-1";
+
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+    private static final Credentials CREDENTIALS = new Credentials("standIn", "standIn", "standIn");
+
+    private final double timeScale;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final AtomicInteger failedLifecycles = new AtomicInteger();
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+
+    public LoadHarness(final double timeScale) {
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Options, with their defaults:
+     * <ul>
+     *   <li>workers=8: concurrent lifecycles</li>
+     *   <li>iterations=5: lifecycles per worker</li>
+     *   <li>timeScale=0.05: factor applied to the handlers' stabilization and callback delays</li>
+     *   <li>registrationSeconds=2, deregistrationSeconds=1, deploymentSeconds=6, removalSeconds=3: time the stand-in
+     *   spends in the in-progress statuses</li>
+     *   <li>errorRate=0: share of the stand-in's answers which are InternalServerExceptions</li>
+     *   <li>throttleRate=0: calls per second the stand-in admits per operation, 0 for no throttling</li>
+     *   <li>pageSize=25: default page size of the stand-in's list operations</li>
+     * </ul>
+     */
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+
+        final int workers = Integer.parseInt(options.getOrDefault("workers", "8"));
+        final int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+        final PanoramaStandIn.Settings settings = new PanoramaStandIn.Settings()
+                .registrationDuration(seconds(options.getOrDefault("registrationSeconds", "2")))
+                .deregistrationDuration(seconds(options.getOrDefault("deregistrationSeconds", "1")))
+                .deploymentDuration(seconds(options.getOrDefault("deploymentSeconds", "6")))
+                .removalDuration(seconds(options.getOrDefault("removalSeconds", "3")))
+                .errorRate(Double.parseDouble(options.getOrDefault("errorRate", "0")))
+                .throttleRate(Double.parseDouble(options.getOrDefault("throttleRate", "0")))
+                .pageSize(Integer.parseInt(options.getOrDefault("pageSize", "25")))
+                .serverThreads(Math.max(16, workers * 2));
+        final LoadHarness harness = new LoadHarness(Double.parseDouble(options.getOrDefault("timeScale", "0.05")));
+
+        try (PanoramaStandIn standIn = new PanoramaStandIn(settings)) {
+            System.setProperty(ClientBuilder.ENDPOINT_PROPERTY, standIn.getEndpoint());
+            System.out.printf("%d workers x %d lifecycles against %s (%s)%n", workers, iterations,
+                    standIn.getEndpoint(), settings);
+
+            final ExecutorService executor = Executors.newFixedThreadPool(workers);
+            final List<Future<?>> lifecycles = new ArrayList<>();
+            final long start = System.nanoTime();
+            try {
+                for (int worker = 0; worker < workers; worker++) {
+                    final int workerId = worker;
+                    lifecycles.add(executor.submit(() -> {
+                        for (int iteration = 0; iteration < iterations; iteration++) {
+                            harness.lifecycle(workerId, iteration);
+                        }
+                    }));
+                }
+                for (final Future<?> lifecycle : lifecycles) {
+                    lifecycle.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            harness.report(System.nanoTime() - start, workers * iterations, standIn);
+        } finally {
+            System.clearProperty(ClientBuilder.ENDPOINT_PROPERTY);
+        }
+    }
+
+    int getFailedLifecycles() {
+        return failedLifecycles.get();
+    }
+
+    String getFirstFailure() {
+        return firstFailure.get();
+    }
+
+    /**
+     * One lifecycle of all three resource types. A failed operation ends the lifecycle; it is counted rather than
+     * cleaned up, the stand-in's state is thrown away at the end of the run anyway.
+     */
+    void lifecycle(final int worker, final int iteration) {
+        final String name = String.format("load-%d-%d", worker, iteration);
+        final PackageLifecycle packages = new PackageLifecycle(this);
+        final PackageVersionLifecycle packageVersions = new PackageVersionLifecycle(this);
+        final ApplicationInstanceLifecycle applicationInstances = new ApplicationInstanceLifecycle(this);
+
+        try {
+            final software.amazon.panorama.package_.ResourceModel packageModel =
+                    packages.update(packages.read(packages.create(name)));
+            final software.amazon.panorama.packageversion.ResourceModel packageVersionModel = packageVersions.update(
+                    packageVersions.read(packageVersions.create(packageModel.getPackageId(), name)));
+            final software.amazon.panorama.applicationinstance.ResourceModel applicationInstanceModel =
+                    applicationInstances.update(applicationInstances.read(
+                            applicationInstances.create(name, "device-" + worker, packageModel.getPackageName())));
+
+            applicationInstances.list(applicationInstanceModel.getDefaultRuntimeContextDevice());
+            packages.list();
+
+            applicationInstances.delete(applicationInstanceModel);
+            packageVersions.delete(packageVersionModel);
+            packages.delete(packageModel);
+        } catch (RuntimeException e) {
+            failedLifecycles.incrementAndGet();
+            firstFailure.compareAndSet(null, e.toString());
+        }
+    }
+
+    /**
+     * Invoke a handler until it completes, the way CloudFormation does: while it reports IN_PROGRESS, it is called
+     * back after the delay it asked for, with the model and callback context of its last progress event. The
+     * operation is recorded under the given name and throws if the final progress event is not a success.
+     */
+    public <M, C> ProgressEvent<M, C> invoke(final String operation, final Handler<M, C> handler,
+                                             final M previous, final M desired, final String nextToken) {
+        final ResourceHandlerRequest<M> request = ResourceHandlerRequest.<M>builder()
+                .awsAccountId(PanoramaStandIn.ACCOUNT)
+                .region(REGION)
+                .clientRequestToken(UUID.randomUUID().toString())
+                .previousResourceState(previous)
+                .desiredResourceState(desired)
+                .nextToken(nextToken)
+                .build();
+
+        final Stats operationStats = stats(operation);
+        final long start = System.nanoTime();
+        C callbackContext = null;
+        int invocations = 0;
+        ProgressEvent<M, C> event;
+        while (true) {
+            invocations++;
+            try {
+                event = handler.handleRequest(newProxy(), request, callbackContext, LOGGER);
+            } catch (RuntimeException e) {
+                // the LambdaWrapper would have turned the exception into a failed progress event
+                operationStats.record(System.nanoTime() - start, invocations, false);
+                throw e;
+            }
+            if (!event.isInProgress()) {
+                break;
+            }
+            callbackContext = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                request.setDesiredResourceState(event.getResourceModel());
+            }
+            sleep(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+        }
+
+        operationStats.record(System.nanoTime() - start, invocations, event.isSuccess());
+        if (!event.isSuccess()) {
+            throw new IllegalStateException(String.format("%s failed with %s: %s",
+                    operation, event.getErrorCode(), event.getMessage()));
+        }
+        return event;
+    }
+
+    /**
+     * A proxy whose stabilization waits sleep for the scaled delay, in place of the whole seconds the local
+     * stabilization loop of the rpdk sleeps for.
+     */
+    private AmazonWebServicesClientProxy newProxy() {
+        return new AmazonWebServicesClientProxy(LOGGER, CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                new WaitStrategy() {
+                    @Override
+                    public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> await(
+                            final long operationElapsedTime, final Duration nextDelay,
+                            final CallbackT context, final ModelT model) {
+                        sleep(nextDelay);
+                        return null;
+                    }
+                });
+    }
+
+    private void sleep(final Duration delay) {
+        final long millis = (long) (delay.toMillis() * timeScale);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private Stats stats(final String operation) {
+        synchronized (stats) {
+            return stats.computeIfAbsent(operation, key -> new Stats());
+        }
+    }
+
+    private void report(final long elapsedNanos, final int lifecycles, final PanoramaStandIn standIn) {
+        final double elapsedSeconds = elapsedNanos / 1e9;
+        System.out.printf("%n%d lifecycles, %d failed, in %.1f s: %.2f lifecycles/s%n",
+                lifecycles, failedLifecycles.get(), elapsedSeconds, lifecycles / elapsedSeconds);
+        if (firstFailure.get() != null) {
+            System.out.printf("First failure: %s%n", firstFailure.get());
+        }
+
+        System.out.printf("%n%-28s %7s %7s %11s %9s %9s %9s %9s %9s%n",
+                "operation (ms)", "count", "failed", "invocations", "ops/s", "p50", "p90", "p99", "max");
+        synchronized (stats) {
+            stats.forEach((operation, operationStats) -> operationStats.print(operation, elapsedSeconds));
+        }
+
+        System.out.printf("%nStand-in calls: %s%nThrottled: %d, injected errors: %d%n",
+                standIn.getCalls(), standIn.getThrottled(), standIn.getInjectedErrors());
+    }
+
+    private static Duration seconds(final String seconds) {
+        return Duration.ofMillis((long) (Double.parseDouble(seconds) * 1000));
+    }
+
+    /**
+     * The public entry point of a handler, {@code BaseHandlerStd.handleRequest} without the ProxyClient.
+     */
+    public interface Handler<M, C> {
+        ProgressEvent<M, C> handleRequest(AmazonWebServicesClientProxy proxy,
+                                          ResourceHandlerRequest<M> request,
+                                          C callbackContext,
+                                          Logger logger);
+    }
+
+    private static class Stats {
+        private long[] latencies = new long[64];
+        private int count;
+        private int failed;
+        private long invocations;
+
+        synchronized void record(final long latencyNanos, final int invocations, final boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            this.invocations += invocations;
+            if (!success) {
+                failed++;
+            }
+        }
+
+        synchronized void print(final String operation, final double elapsedSeconds) {
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-28s %7d %7d %11d %9.2f %9.1f %9.1f %9.1f %9.1f%n", operation, count, failed,
+                    invocations, count / elapsedSeconds, percentile(sorted, 50), percentile(sorted, 90),
+                    percentile(sorted, 99), percentile(sorted, 100));
+        }
+
+        // nearest rank, in milliseconds
+        private static double percentile(final long[] sorted, final int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
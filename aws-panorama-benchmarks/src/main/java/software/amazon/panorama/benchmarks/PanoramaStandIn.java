@@ -0,0 +1,761 @@
+package software.amazon.panorama.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * In-memory stand-in for the Panorama API, served over HTTP so the handlers go through the real SDK marshalling,
+ * signing, retries and pagination. It keeps the state of packages, package versions and application instances, and
+ * moves package version registrations, deployments and removals through their statuses as time passes.
+ *
+ * Only the parts of the API the handlers call are served, with the REST-JSON routes and error codes of the service.
+ * Point the handlers at it through {@code ClientBuilder.ENDPOINT_PROPERTY}.
+ */
+public class PanoramaStandIn implements AutoCloseable {
+    static final String ACCOUNT = "123456789012";
+    static final String ARN_PREFIX = "arn:aws:panorama:us-east-1:" + ACCOUNT + ":";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Settings settings;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // keyed by id, which sort in creation order, so the list operations page through them in a stable order
+    private final NavigableMap<String, Package> packages = new TreeMap<>();
+    private final NavigableMap<String, ApplicationInstance> applicationInstances = new TreeMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public PanoramaStandIn(final Settings settings) throws IOException {
+        this.settings = settings;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newFixedThreadPool(settings.serverThreads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String getEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Calls served per operation, including the throttled and failed ones.
+     */
+    public Map<String, Long> getCalls() {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        calls.forEach((operation, count) -> snapshot.put(operation, count.get()));
+        return snapshot;
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final Request request = new Request(exchange);
+            final Route route = route(exchange.getRequestMethod(), request.segments);
+            calls.computeIfAbsent(route.operation, operation -> new AtomicLong()).incrementAndGet();
+
+            if (!buckets.computeIfAbsent(route.operation, operation -> new TokenBucket(settings.throttleRate)).tryAcquire()) {
+                throttled.incrementAndGet();
+                throw new ServiceError(429, "ThrottlingException", "Rate exceeded");
+            }
+            if (settings.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate) {
+                injectedErrors.incrementAndGet();
+                throw new ServiceError(500, "InternalServerException", "Injected failure");
+            }
+
+            final JsonNode response;
+            synchronized (this) {
+                response = route.action.apply(request);
+            }
+            send(exchange, 200, null, response);
+        } catch (ServiceError e) {
+            final ObjectNode body = MAPPER.createObjectNode().put("Message", e.getMessage());
+            send(exchange, e.status, e.code, body);
+        } catch (RuntimeException e) {
+            send(exchange, 500, "InternalServerException", MAPPER.createObjectNode().put("Message", e.toString()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Route route(final String method, final List<String> segments) {
+        final int size = segments.size();
+        final String root = size > 0 ? segments.get(0) : "";
+
+        if ("packages".equals(root)) {
+            if (size == 1 && "POST".equals(method)) {
+                return new Route("CreatePackage", this::createPackage);
+            }
+            if (size == 1 && "GET".equals(method)) {
+                return new Route("ListPackages", this::listPackages);
+            }
+            if (size == 3 && "metadata".equals(segments.get(1)) && "GET".equals(method)) {
+                return new Route("DescribePackage", this::describePackage);
+            }
+            if (size == 2 && "DELETE".equals(method)) {
+                return new Route("DeletePackage", this::deletePackage);
+            }
+            if (size == 5 && "metadata".equals(segments.get(1)) && "GET".equals(method)) {
+                return new Route("DescribePackageVersion", this::describePackageVersion);
+            }
+            if (size == 6 && "PUT".equals(method)) {
+                return new Route("RegisterPackageVersion", this::registerPackageVersion);
+            }
+            if (size == 6 && "DELETE".equals(method)) {
+                return new Route("DeregisterPackageVersion", this::deregisterPackageVersion);
+            }
+        } else if ("application-instances".equals(root)) {
+            if (size == 1 && "POST".equals(method)) {
+                return new Route("CreateApplicationInstance", this::createApplicationInstance);
+            }
+            if (size == 1 && "GET".equals(method)) {
+                return new Route("ListApplicationInstances", this::listApplicationInstances);
+            }
+            if (size == 2 && "GET".equals(method)) {
+                return new Route("DescribeApplicationInstance", this::describeApplicationInstance);
+            }
+            if (size == 3 && "details".equals(segments.get(2)) && "GET".equals(method)) {
+                return new Route("DescribeApplicationInstanceDetails", this::describeApplicationInstanceDetails);
+            }
+            if (size == 2 && "DELETE".equals(method)) {
+                return new Route("RemoveApplicationInstance", this::removeApplicationInstance);
+            }
+        } else if ("tags".equals(root) && size == 2) {
+            if ("POST".equals(method)) {
+                return new Route("TagResource", this::tagResource);
+            }
+            if ("DELETE".equals(method)) {
+                return new Route("UntagResource", this::untagResource);
+            }
+            if ("GET".equals(method)) {
+                return new Route("ListTagsForResource", this::listTagsForResource);
+            }
+        }
+        return new Route("Unknown", request -> {
+            throw new ServiceError(400, "ValidationException", "Unsupported operation " + method + " " + segments);
+        });
+    }
+
+    // Packages
+
+    private JsonNode createPackage(final Request request) {
+        final String name = request.body.path("PackageName").asText(null);
+        if (name == null) {
+            throw new ServiceError(400, "ValidationException", "PackageName is required");
+        }
+        for (final Package existing : packages.values()) {
+            if (existing.name.equals(name)) {
+                throw new ServiceError(409, "ConflictException", "Package " + name + " already exists");
+            }
+        }
+
+        final Package created = new Package(nextId("package"), name, now());
+        created.tags.putAll(readTags(request.body));
+        packages.put(created.id, created);
+
+        return MAPPER.createObjectNode()
+                .put("PackageId", created.id)
+                .put("Arn", created.arn())
+                .set("StorageLocation", created.storageLocation());
+    }
+
+    private JsonNode describePackage(final Request request) {
+        return getPackage(request.segments.get(2)).describe();
+    }
+
+    private JsonNode listPackages(final Request request) {
+        final ArrayNode page = MAPPER.createArrayNode();
+        final String nextToken = page(packages, request, item -> true, item -> page.add(item.summary()));
+        final ObjectNode response = MAPPER.createObjectNode();
+        response.set("Packages", page);
+        return nextToken == null ? response : response.put("NextToken", nextToken);
+    }
+
+    private JsonNode deletePackage(final Request request) {
+        final Package deleted = getPackage(request.segments.get(1));
+        final boolean force = Boolean.parseBoolean(request.query("ForceDelete"));
+        if (!force && !deleted.versions.isEmpty()) {
+            throw new ServiceError(409, "ConflictException", "Package " + deleted.id + " has registered versions");
+        }
+        packages.remove(deleted.id);
+        return MAPPER.createObjectNode();
+    }
+
+    private Package getPackage(final String packageId) {
+        final Package found = packages.get(packageId);
+        if (found == null) {
+            throw new ServiceError(404, "ResourceNotFoundException", "Package " + packageId + " not found");
+        }
+        return found;
+    }
+
+    // Package versions
+
+    private JsonNode registerPackageVersion(final Request request) {
+        final Package parent = getPackage(request.segments.get(1));
+        final String key = request.segments.get(3) + "/" + request.segments.get(5);
+        final PackageVersion existing = parent.versions.get(key);
+        if (existing != null && existing.deregisteredAt != 0L) {
+            throw new ServiceError(409, "ConflictException", "Package version " + key + " is being deregistered");
+        }
+
+        // registering a registered version again only changes which patch is the latest
+        final PackageVersion registered = existing != null ? existing : new PackageVersion(parent,
+                request.segments.get(3), request.segments.get(5), request.body.path("OwnerAccount").asText(ACCOUNT), now());
+        if (request.body.path("MarkLatest").asBoolean(false)) {
+            parent.versions.values().forEach(version -> version.latest = false);
+            registered.latest = true;
+        }
+        parent.versions.put(key, registered);
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode describePackageVersion(final Request request) {
+        final Package parent = getPackage(request.segments.get(2));
+        return getPackageVersion(parent, request.segments.get(4), request.query("PatchVersion")).describe();
+    }
+
+    private JsonNode deregisterPackageVersion(final Request request) {
+        final Package parent = getPackage(request.segments.get(1));
+        final PackageVersion deregistered = getPackageVersion(parent, request.segments.get(3), request.segments.get(5));
+        if (deregistered.deregisteredAt == 0L) {
+            deregistered.deregisteredAt = now();
+        }
+        return MAPPER.createObjectNode();
+    }
+
+    private PackageVersion getPackageVersion(final Package parent, final String version, final String patch) {
+        final String key = version + "/" + patch;
+        final PackageVersion found = parent.versions.get(key);
+        if (found != null && found.deregisteredAt != 0L
+                && now() - found.deregisteredAt >= settings.deregistrationDuration.toMillis()) {
+            // deregistration has finished since the last call
+            parent.versions.remove(key);
+        }
+        if (!parent.versions.containsKey(key)) {
+            throw new ServiceError(404, "ResourceNotFoundException", "Package version " + key + " not found");
+        }
+        return found;
+    }
+
+    // Application instances
+
+    private JsonNode createApplicationInstance(final Request request) {
+        final String device = request.body.path("DefaultRuntimeContextDevice").asText(null);
+        if (device == null || !request.body.has("ManifestPayload")) {
+            throw new ServiceError(400, "ValidationException", "DefaultRuntimeContextDevice and ManifestPayload are required");
+        }
+
+        final ApplicationInstance created = new ApplicationInstance(nextId("applicationInstance"), request.body, now());
+        created.tags.putAll(readTags(request.body));
+        applicationInstances.put(created.id, created);
+        return MAPPER.createObjectNode().put("ApplicationInstanceId", created.id);
+    }
+
+    private JsonNode describeApplicationInstance(final Request request) {
+        return getApplicationInstance(request.segments.get(1)).describe();
+    }
+
+    private JsonNode describeApplicationInstanceDetails(final Request request) {
+        return getApplicationInstance(request.segments.get(1)).details();
+    }
+
+    private JsonNode listApplicationInstances(final Request request) {
+        final String deviceId = request.query("deviceId");
+        final String statusFilter = request.query("statusFilter");
+        final ArrayNode page = MAPPER.createArrayNode();
+        final String nextToken = page(applicationInstances, request,
+                item -> (deviceId == null || deviceId.equals(item.device)) && item.matches(statusFilter),
+                item -> page.add(item.describe()));
+        final ObjectNode response = MAPPER.createObjectNode();
+        response.set("ApplicationInstances", page);
+        return nextToken == null ? response : response.put("NextToken", nextToken);
+    }
+
+    private JsonNode removeApplicationInstance(final Request request) {
+        final ApplicationInstance removed = getApplicationInstance(request.segments.get(1));
+        if (removed.removedAt == 0L) {
+            removed.removedAt = now();
+        }
+        return MAPPER.createObjectNode();
+    }
+
+    private ApplicationInstance getApplicationInstance(final String applicationInstanceId) {
+        final ApplicationInstance found = applicationInstances.get(applicationInstanceId);
+        if (found == null) {
+            throw new ServiceError(404, "ResourceNotFoundException",
+                    "ApplicationInstance " + applicationInstanceId + " not found");
+        }
+        return found;
+    }
+
+    // Tags
+
+    private JsonNode tagResource(final Request request) {
+        taggable(request.segments.get(1)).putAll(readTags(request.body));
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode untagResource(final Request request) {
+        taggable(request.segments.get(1)).keySet().removeAll(request.queryValues("tagKeys"));
+        return MAPPER.createObjectNode();
+    }
+
+    private JsonNode listTagsForResource(final Request request) {
+        final ObjectNode response = MAPPER.createObjectNode();
+        response.set("Tags", MAPPER.valueToTree(taggable(request.segments.get(1))));
+        return response;
+    }
+
+    private Map<String, String> taggable(final String arn) {
+        final String id = arn.substring(arn.lastIndexOf('/') + 1);
+        if (packages.containsKey(id)) {
+            return packages.get(id).tags;
+        }
+        if (applicationInstances.containsKey(id)) {
+            return applicationInstances.get(id).tags;
+        }
+        throw new ServiceError(404, "ResourceNotFoundException", "Resource " + arn + " not found");
+    }
+
+    // Helpers
+
+    private <T> String page(final NavigableMap<String, T> items, final Request request,
+                            final Predicate<T> filter, final Consumer<T> add) {
+        final String token = request.query("nextToken");
+        final String maxResults = request.query("maxResults");
+        final int pageSize = maxResults == null ? settings.pageSize : Integer.parseInt(maxResults);
+
+        int added = 0;
+        for (final Map.Entry<String, T> item : (token == null ? items : items.tailMap(token, true)).entrySet()) {
+            if (!filter.test(item.getValue())) {
+                continue;
+            }
+            if (added == pageSize) {
+                return item.getKey();
+            }
+            add.accept(item.getValue());
+            added++;
+        }
+        return null;
+    }
+
+    private String nextId(final String prefix) {
+        return String.format("%s-%08d", prefix, ids.incrementAndGet());
+    }
+
+    private static Map<String, String> readTags(final JsonNode body) {
+        final Map<String, String> tags = new HashMap<>();
+        body.path("Tags").fields().forEachRemaining(tag -> tags.put(tag.getKey(), tag.getValue().asText()));
+        return tags;
+    }
+
+    private long now() {
+        return settings.clock.getAsLong();
+    }
+
+    private static double epochSeconds(final long millis) {
+        return millis / 1000.0;
+    }
+
+    /**
+     * Knobs of the stand-in. Phase durations are how long a resource stays in each in-progress status, the error
+     * rate is the share of calls failing with an InternalServerException and the throttle rate the calls per second
+     * each operation admits before answering with a ThrottlingException, 0 for no throttling.
+     */
+    public static class Settings {
+        Duration registrationDuration = Duration.ofSeconds(2);
+        Duration deregistrationDuration = Duration.ofSeconds(1);
+        Duration deploymentDuration = Duration.ofSeconds(6);
+        Duration removalDuration = Duration.ofSeconds(3);
+        double errorRate;
+        double throttleRate;
+        int pageSize = 25;
+        int serverThreads = 16;
+        // milliseconds the statuses move on by
+        LongSupplier clock = System::currentTimeMillis;
+
+        public Settings registrationDuration(final Duration registrationDuration) {
+            this.registrationDuration = registrationDuration;
+            return this;
+        }
+
+        public Settings deregistrationDuration(final Duration deregistrationDuration) {
+            this.deregistrationDuration = deregistrationDuration;
+            return this;
+        }
+
+        public Settings deploymentDuration(final Duration deploymentDuration) {
+            this.deploymentDuration = deploymentDuration;
+            return this;
+        }
+
+        public Settings removalDuration(final Duration removalDuration) {
+            this.removalDuration = removalDuration;
+            return this;
+        }
+
+        public Settings errorRate(final double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Settings throttleRate(final double throttleRate) {
+            this.throttleRate = throttleRate;
+            return this;
+        }
+
+        public Settings pageSize(final int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public Settings serverThreads(final int serverThreads) {
+            this.serverThreads = serverThreads;
+            return this;
+        }
+
+        Settings clock(final LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("registration=%s deregistration=%s deployment=%s removal=%s errorRate=%s "
+                            + "throttleRate=%s pageSize=%d", registrationDuration, deregistrationDuration,
+                    deploymentDuration, removalDuration, errorRate, throttleRate, pageSize);
+        }
+    }
+
+    private class Package {
+        final String id;
+        final String name;
+        final long createdAt;
+        final Map<String, String> tags = new LinkedHashMap<>();
+        final Map<String, PackageVersion> versions = new LinkedHashMap<>();
+
+        Package(final String id, final String name, final long createdAt) {
+            this.id = id;
+            this.name = name;
+            this.createdAt = createdAt;
+        }
+
+        String arn() {
+            return ARN_PREFIX + "package/" + id;
+        }
+
+        ObjectNode storageLocation() {
+            return MAPPER.createObjectNode()
+                    .put("Bucket", "panorama-stand-in")
+                    .put("RepoPrefixLocation", id)
+                    .put("GeneratedPrefixLocation", id + "/generated")
+                    .put("BinaryPrefixLocation", id + "/binary")
+                    .put("ManifestPrefixLocation", id + "/manifest");
+        }
+
+        ObjectNode summary() {
+            final ObjectNode summary = MAPPER.createObjectNode()
+                    .put("PackageId", id)
+                    .put("PackageName", name)
+                    .put("Arn", arn())
+                    .put("CreatedTime", epochSeconds(createdAt));
+            summary.set("Tags", MAPPER.valueToTree(tags));
+            return summary;
+        }
+
+        ObjectNode describe() {
+            final ObjectNode description = summary();
+            description.set("StorageLocation", storageLocation());
+            description.set("ReadAccessPrincipalArns", MAPPER.createArrayNode());
+            description.set("WriteAccessPrincipalArns", MAPPER.createArrayNode());
+            return description;
+        }
+    }
+
+    private class PackageVersion {
+        final Package parent;
+        final String version;
+        final String patch;
+        final String owner;
+        final long registeredAt;
+        boolean latest;
+        long deregisteredAt;
+
+        PackageVersion(final Package parent, final String version, final String patch, final String owner,
+                       final long registeredAt) {
+            this.parent = parent;
+            this.version = version;
+            this.patch = patch;
+            this.owner = owner;
+            this.registeredAt = registeredAt;
+        }
+
+        String status() {
+            if (deregisteredAt != 0L) {
+                return "DELETING";
+            }
+            return now() - registeredAt < settings.registrationDuration.toMillis() ? "REGISTER_PENDING" : "REGISTER_COMPLETED";
+        }
+
+        ObjectNode describe() {
+            return MAPPER.createObjectNode()
+                    .put("OwnerAccount", owner)
+                    .put("PackageId", parent.id)
+                    .put("PackageArn", parent.arn())
+                    .put("PackageName", parent.name)
+                    .put("PackageVersion", version)
+                    .put("PatchVersion", patch)
+                    .put("IsLatestPatch", latest)
+                    .put("Status", status())
+                    .put("StatusDescription", "stand-in")
+                    .put("RegisteredTime", epochSeconds(registeredAt));
+        }
+    }
+
+    private class ApplicationInstance {
+        final String id;
+        final String device;
+        final JsonNode definition;
+        final long createdAt;
+        final Map<String, String> tags = new LinkedHashMap<>();
+        long removedAt;
+
+        ApplicationInstance(final String id, final JsonNode definition, final long createdAt) {
+            this.id = id;
+            this.device = definition.path("DefaultRuntimeContextDevice").asText();
+            this.definition = definition;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * Each operation goes through its three in-progress statuses in equal thirds of its duration.
+         */
+        String status() {
+            if (removedAt != 0L) {
+                return phase(removedAt, settings.removalDuration,
+                        "REMOVAL_PENDING", "REMOVAL_REQUESTED", "REMOVAL_IN_PROGRESS", "REMOVAL_SUCCEEDED");
+            }
+            return phase(createdAt, settings.deploymentDuration,
+                    "DEPLOYMENT_PENDING", "DEPLOYMENT_REQUESTED", "DEPLOYMENT_IN_PROGRESS", "DEPLOYMENT_SUCCEEDED");
+        }
+
+        boolean matches(final String statusFilter) {
+            if (statusFilter == null) {
+                return true;
+            }
+            final String status = status();
+            switch (statusFilter) {
+                case "PROCESSING_DEPLOYMENT":
+                    return status.startsWith("DEPLOYMENT_") && !status.equals("DEPLOYMENT_SUCCEEDED");
+                case "PROCESSING_REMOVAL":
+                    return status.startsWith("REMOVAL_") && !status.equals("REMOVAL_SUCCEEDED");
+                default:
+                    return status.equals(statusFilter);
+            }
+        }
+
+        ObjectNode describe() {
+            final String status = status();
+            final ObjectNode description = copy(definition, "Name", "Description", "RuntimeRoleArn",
+                    "ApplicationInstanceIdToReplace")
+                    .put("ApplicationInstanceId", id)
+                    .put("DefaultRuntimeContextDevice", device)
+                    .put("DefaultRuntimeContextDeviceName", "stand-in-" + device)
+                    .put("Status", status)
+                    .put("HealthStatus", "DEPLOYMENT_SUCCEEDED".equals(status) ? "RUNNING" : "NOT_AVAILABLE")
+                    .put("StatusDescription", "stand-in")
+                    .put("CreatedTime", epochSeconds(createdAt))
+                    .put("LastUpdatedTime", epochSeconds(Math.max(createdAt, removedAt)))
+                    .put("Arn", ARN_PREFIX + "applicationInstance/" + id);
+            description.set("Tags", MAPPER.valueToTree(tags));
+            return description;
+        }
+
+        ObjectNode details() {
+            return copy(definition, "Name", "Description", "ManifestPayload", "ManifestOverridesPayload",
+                    "ApplicationInstanceIdToReplace")
+                    .put("ApplicationInstanceId", id)
+                    .put("DefaultRuntimeContextDevice", device)
+                    .put("CreatedTime", epochSeconds(createdAt));
+        }
+    }
+
+    /**
+     * The given members of a request body which were set, to echo them back in a response.
+     */
+    private static ObjectNode copy(final JsonNode source, final String... names) {
+        final ObjectNode target = MAPPER.createObjectNode();
+        for (final String name : names) {
+            if (source.hasNonNull(name)) {
+                target.set(name, source.get(name));
+            }
+        }
+        return target;
+    }
+
+    private String phase(final long startedAt, final Duration duration, final String... statuses) {
+        final long third = Math.max(1L, duration.toMillis() / 3);
+        final int phase = (int) Math.min((now() - startedAt) / third, statuses.length - 1);
+        return statuses[phase];
+    }
+
+    /**
+     * Per-operation token bucket holding up to a second worth of calls.
+     */
+    private static class TokenBucket {
+        private final double rate;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(final double rate) {
+            this.rate = rate;
+            this.tokens = rate;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (rate <= 0) {
+                return true;
+            }
+            final long now = System.nanoTime();
+            tokens = Math.min(rate, tokens + (now - refilledAt) / 1e9 * rate);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+
+    private interface Action {
+        JsonNode apply(Request request);
+    }
+
+    private static class Route {
+        final String operation;
+        final Action action;
+
+        Route(final String operation, final Action action) {
+            this.operation = operation;
+            this.action = action;
+        }
+    }
+
+    private static class Request {
+        final List<String> segments = new ArrayList<>();
+        final Map<String, List<String>> query = new HashMap<>();
+        final JsonNode body;
+
+        Request(final HttpExchange exchange) throws IOException {
+            for (final String segment : exchange.getRequestURI().getRawPath().split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(decode(segment));
+                }
+            }
+            final String rawQuery = exchange.getRequestURI().getRawQuery();
+            if (rawQuery != null) {
+                for (final String parameter : rawQuery.split("&")) {
+                    final int equals = parameter.indexOf('=');
+                    final String name = decode(equals < 0 ? parameter : parameter.substring(0, equals));
+                    final String value = equals < 0 ? "" : decode(parameter.substring(equals + 1));
+                    query.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+                }
+            }
+            try (InputStream in = exchange.getRequestBody()) {
+                final JsonNode parsed = MAPPER.readTree(in);
+                body = parsed == null || parsed.isMissingNode() ? MAPPER.createObjectNode() : parsed;
+            }
+        }
+
+        String query(final String name) {
+            final List<String> values = query.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        List<String> queryValues(final String name) {
+            return query.getOrDefault(name, Collections.emptyList());
+        }
+
+        private static String decode(final String value) throws UnsupportedEncodingException {
+            return URLDecoder.decode(value.replace("+", "%2B"), "UTF-8");
+        }
+    }
+
+    private static class ServiceError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+        final String code;
+
+        ServiceError(final int status, final String code, final String message) {
+            super(message);
+            this.status = status;
+            this.code = code;
+        }
+    }
+
+    private static void send(final HttpExchange exchange, final int status, final String errorType, final JsonNode body)
+            throws IOException {
+        final byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("x-amzn-RequestId", UUID.randomUUID().toString());
+        if (errorType != null) {
+            exchange.getResponseHeaders().add("x-amzn-ErrorType", errorType);
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package software.amazon.panorama.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Realistic inputs shared by the Translator benchmarks: tag maps shaped like CloudFormation stack tags and manifest
+ * payloads shaped like Panorama application graphs.
+ */
+public final class Payloads {
+    // the largest manifest payload Panorama accepts
+    public static final int MAX_MANIFEST_BYTES = 51200;
+    // the largest tag count a Panorama resource accepts
+    public static final int MAX_TAGS = 50;
+
+    private Payloads() {
+    }
+
+    public static Map<String, String> tags(final int count) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put(String.format("aws:cloudformation:tag-key-%03d", i), String.format("tag-value-%03d-%s", i, "x"));
+        }
+        return tags;
+    }
+
+    /**
+     * JSON manifest padded with node entries until it reaches the given size in bytes
+     */
+    public static String manifest(final int bytes) {
+        final StringBuilder manifest = new StringBuilder(bytes);
+        manifest.append("{\"nodeGraph\":{\"envelopeVersion\":\"2021-01-01\",\"packages\":[");
+        int node = 0;
+        while (manifest.length() < bytes - 64) {
+            if (node > 0) {
+                manifest.append(',');
+            }
+            manifest.append(String.format("{\"name\":\"123456789012::node_%05d\",\"version\":\"1.0\"}", node++));
+        }
+        manifest.append("]}}");
+        while (manifest.length() < bytes) {
+            manifest.append(' ');
+        }
+        return manifest.toString();
+    }
+}
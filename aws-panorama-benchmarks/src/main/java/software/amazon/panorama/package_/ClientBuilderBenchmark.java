@@ -0,0 +1,44 @@
+package software.amazon.panorama.package_;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.panorama.common.ClientBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a warm invocation pays to get its PanoramaClient: a lookup in the per-region pool versus building a client
+ * the way every invocation used to. Run with `-prof gc` to compare allocations per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBuilderBenchmark {
+    private static final String REGION = "us-west-2";
+
+    @Benchmark
+    public PanoramaClient pooledClient() {
+        return ClientBuilder.getClient(REGION);
+    }
+
+    @Benchmark
+    public PanoramaClient clientPerInvocation() {
+        return PanoramaClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .region(Region.of(REGION))
+                .build();
+    }
+}
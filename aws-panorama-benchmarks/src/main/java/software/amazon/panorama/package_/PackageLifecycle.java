@@ -0,0 +1,68 @@
+package software.amazon.panorama.package_;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.panorama.benchmarks.LoadHarness;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The Package operations of a {@link LoadHarness} lifecycle.
+ */
+public class PackageLifecycle {
+    private final LoadHarness harness;
+
+    public PackageLifecycle(final LoadHarness harness) {
+        this.harness = harness;
+    }
+
+    public ResourceModel create(final String name) {
+        final ResourceModel model = ResourceModel.builder()
+                .packageName(name)
+                .tags(tags("stage", "created"))
+                .build();
+        return harness.invoke("Package Create", handler(CreateHandler::new), null, model, null).getResourceModel();
+    }
+
+    public ResourceModel read(final ResourceModel model) {
+        return harness.invoke("Package Read", handler(ReadHandler::new), null, model, null).getResourceModel();
+    }
+
+    public ResourceModel update(final ResourceModel model) {
+        final ResourceModel desired = ResourceModel.builder()
+                .packageId(model.getPackageId())
+                .packageName(model.getPackageName())
+                .tags(tags("stage", "updated"))
+                .build();
+        return harness.invoke("Package Update", handler(UpdateHandler::new), model, desired, null).getResourceModel();
+    }
+
+    public int list() {
+        int listed = 0;
+        String nextToken = null;
+        do {
+            final ProgressEvent<ResourceModel, CallbackContext> page = harness.invoke("Package List",
+                    handler(ListHandler::new), null, ResourceModel.builder().build(), nextToken);
+            listed += page.getResourceModels().size();
+            nextToken = page.getNextToken();
+        } while (nextToken != null);
+        return listed;
+    }
+
+    public void delete(final ResourceModel model) {
+        harness.invoke("Package Delete", handler(DeleteHandler::new), null, model, null);
+    }
+
+    // a handler per invocation, like a Lambda container serving one request at a time
+    private static LoadHarness.Handler<ResourceModel, CallbackContext> handler(final Supplier<BaseHandlerStd> handler) {
+        return (proxy, request, callbackContext, logger) -> handler.get().handleRequest(proxy, request, callbackContext, logger);
+    }
+
+    private static Set<Tag> tags(final String key, final String value) {
+        return new HashSet<>(Arrays.asList(
+                Tag.builder().key("harness").value("load").build(),
+                Tag.builder().key(key).value(value).build()));
+    }
+}
@@ -0,0 +1,121 @@
+package software.amazon.panorama.package_;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.panorama.model.CreatePackageRequest;
+import software.amazon.awssdk.services.panorama.model.DescribePackageResponse;
+import software.amazon.awssdk.services.panorama.model.ListPackagesResponse;
+import software.amazon.awssdk.services.panorama.model.PackageListItem;
+import software.amazon.awssdk.services.panorama.model.TagResourceRequest;
+import software.amazon.awssdk.services.panorama.model.UntagResourceRequest;
+import software.amazon.panorama.benchmarks.Payloads;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for the Package Translator with tag sets and list pages up to realistic sizes. Run with `-prof gc` to
+ * report allocation rates next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final String PACKAGE_ID = "package-aaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String PACKAGE_ARN = "arn:aws:panorama:us-west-2:123456789012:package/" + PACKAGE_ID;
+
+    @Param({"0", "50"})
+    int tagCount;
+
+    @Param({"25", "1000"})
+    int pageSize;
+
+    private ResourceModel model;
+    private Set<Tag> tags;
+    private DescribePackageResponse describeResponse;
+    private ListPackagesResponse listResponse;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> tagMap = Payloads.tags(tagCount);
+        tags = tagMap.entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toSet());
+
+        model = ResourceModel.builder()
+                .packageName("benchmark-package")
+                .tags(tags)
+                .build();
+
+        describeResponse = DescribePackageResponse.builder()
+                .packageId(PACKAGE_ID)
+                .packageName("benchmark-package")
+                .arn(PACKAGE_ARN)
+                .storageLocation(software.amazon.awssdk.services.panorama.model.StorageLocation.builder()
+                        .bucket("benchmark-bucket")
+                        .repoPrefixLocation("repo/*")
+                        .binaryPrefixLocation("binaries/*")
+                        .manifestPrefixLocation("manifests/*")
+                        .generatedPrefixLocation("generated/*")
+                        .build())
+                .createdTime(Instant.EPOCH)
+                .tags(tagMap)
+                .build();
+
+        final List<PackageListItem> packages = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            packages.add(PackageListItem.builder()
+                    .packageId(PACKAGE_ID + i)
+                    .packageName("benchmark-package-" + i)
+                    .arn(PACKAGE_ARN + i)
+                    .createdTime(Instant.EPOCH)
+                    .tags(tagMap)
+                    .build());
+        }
+        listResponse = ListPackagesResponse.builder()
+                .packages(packages)
+                .build();
+    }
+
+    @Benchmark
+    public CreatePackageRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(listResponse);
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(tags, PACKAGE_ARN);
+    }
+
+    @Benchmark
+    public UntagResourceRequest translateToUntagResourceRequest() {
+        return Translator.translateToUntagResourceRequest(tags, PACKAGE_ARN);
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.panorama.packageversion;
+
+import software.amazon.panorama.benchmarks.LoadHarness;
+
+import java.util.function.Supplier;
+
+/**
+ * The PackageVersion operations of a {@link LoadHarness} lifecycle. The version is registered without being marked
+ * latest, so the update can mark it.
+ */
+public class PackageVersionLifecycle {
+    private final LoadHarness harness;
+
+    public PackageVersionLifecycle(final LoadHarness harness) {
+        this.harness = harness;
+    }
+
+    public ResourceModel create(final String packageId, final String patchVersion) {
+        final ResourceModel model = ResourceModel.builder()
+                .packageId(packageId)
+                .packageVersion("1.0")
+                .patchVersion(patchVersion)
+                .markLatest(false)
+                .build();
+        return harness.invoke("PackageVersion Create", handler(CreateHandler::new), null, model, null).getResourceModel();
+    }
+
+    public ResourceModel read(final ResourceModel model) {
+        return harness.invoke("PackageVersion Read", handler(ReadHandler::new), null, model, null).getResourceModel();
+    }
+
+    public ResourceModel update(final ResourceModel model) {
+        final ResourceModel desired = ResourceModel.builder()
+                .ownerAccount(model.getOwnerAccount())
+                .packageId(model.getPackageId())
+                .packageVersion(model.getPackageVersion())
+                .patchVersion(model.getPatchVersion())
+                .markLatest(true)
+                .build();
+        return harness.invoke("PackageVersion Update", handler(UpdateHandler::new), model, desired, null).getResourceModel();
+    }
+
+    public void delete(final ResourceModel model) {
+        harness.invoke("PackageVersion Delete", handler(DeleteHandler::new), null, model, null);
+    }
+
+    // a handler per invocation, like a Lambda container serving one request at a time
+    private static LoadHarness.Handler<ResourceModel, CallbackContext> handler(final Supplier<BaseHandlerStd> handler) {
+        return (proxy, request, callbackContext, logger) -> handler.get().handleRequest(proxy, request, callbackContext, logger);
+    }
+}
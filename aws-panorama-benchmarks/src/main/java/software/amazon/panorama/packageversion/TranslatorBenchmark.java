@@ -0,0 +1,81 @@
+package software.amazon.panorama.packageversion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.panorama.model.DeregisterPackageVersionRequest;
+import software.amazon.awssdk.services.panorama.model.DescribePackageVersionRequest;
+import software.amazon.awssdk.services.panorama.model.DescribePackageVersionResponse;
+import software.amazon.awssdk.services.panorama.model.PackageVersionStatus;
+import software.amazon.awssdk.services.panorama.model.RegisterPackageVersionRequest;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the PackageVersion Translator. PackageVersion has neither tags nor a list handler, so only the
+ * request builders and the read translation are covered. Run with `-prof gc` to report allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final String PACKAGE_ID = "package-aaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String PATCH_VERSION = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private ResourceModel model;
+    private DescribePackageVersionResponse describeResponse;
+
+    @Setup
+    public void setup() {
+        model = ResourceModel.builder()
+                .ownerAccount("123456789012")
+                .packageId(PACKAGE_ID)
+                .packageVersion("1.0")
+                .patchVersion(PATCH_VERSION)
+                .markLatest(true)
+                .build();
+
+        describeResponse = DescribePackageVersionResponse.builder()
+                .ownerAccount("123456789012")
+                .packageId(PACKAGE_ID)
+                .packageArn("arn:aws:panorama:us-west-2:123456789012:package/" + PACKAGE_ID)
+                .packageName("benchmark-package")
+                .packageVersion("1.0")
+                .patchVersion(PATCH_VERSION)
+                .isLatestPatch(true)
+                .status(PackageVersionStatus.REGISTER_COMPLETED)
+                .registeredTime(Instant.EPOCH)
+                .build();
+    }
+
+    @Benchmark
+    public RegisterPackageVersionRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public DescribePackageVersionRequest translateToReadRequest() {
+        return Translator.translateToReadRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeResponse);
+    }
+
+    @Benchmark
+    public DeregisterPackageVersionRequest translateToDeleteRequest() {
+        return Translator.translateToDeleteRequest(model);
+    }
+}
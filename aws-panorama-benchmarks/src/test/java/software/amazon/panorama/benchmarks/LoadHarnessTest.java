@@ -0,0 +1,37 @@
+package software.amazon.panorama.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.panorama.common.ClientBuilder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadHarnessTest {
+
+    @Test
+    void testLifecycle_runsEveryHandlerAgainstTheStandIn() throws Exception {
+        final PanoramaStandIn.Settings settings = new PanoramaStandIn.Settings()
+                .registrationDuration(Duration.ZERO)
+                .deregistrationDuration(Duration.ZERO)
+                .deploymentDuration(Duration.ZERO)
+                .removalDuration(Duration.ZERO);
+        // the handlers' clients are built once per region, this is the only test pointing them at a stand-in
+        try (PanoramaStandIn standIn = new PanoramaStandIn(settings)) {
+            System.setProperty(ClientBuilder.ENDPOINT_PROPERTY, standIn.getEndpoint());
+            final LoadHarness harness = new LoadHarness(0.0);
+
+            harness.lifecycle(0, 0);
+
+            assertThat(harness.getFirstFailure()).isNull();
+            assertThat(harness.getFailedLifecycles()).isZero();
+            assertThat(standIn.getCalls()).containsKeys(
+                    "CreatePackage", "DescribePackage", "ListPackages", "DeletePackage",
+                    "RegisterPackageVersion", "DescribePackageVersion", "DeregisterPackageVersion",
+                    "CreateApplicationInstance", "DescribeApplicationInstance", "ListApplicationInstances",
+                    "RemoveApplicationInstance");
+        } finally {
+            System.clearProperty(ClientBuilder.ENDPOINT_PROPERTY);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package software.amazon.panorama.benchmarks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.ConflictException;
+import software.amazon.awssdk.services.panorama.model.CreatePackageResponse;
+import software.amazon.awssdk.services.panorama.model.DescribePackageVersionRequest;
+import software.amazon.awssdk.services.panorama.model.InternalServerException;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesRequest;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+import software.amazon.awssdk.services.panorama.model.ManifestPayload;
+import software.amazon.awssdk.services.panorama.model.PackageListItem;
+import software.amazon.awssdk.services.panorama.model.PackageVersionStatus;
+import software.amazon.awssdk.services.panorama.model.PanoramaException;
+import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.panorama.model.StatusFilter;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PanoramaStandInTest {
+    private static final String MANIFEST = "{\"nodeGraph\":{}}";
+
+    // not 0, which the stand-in takes for "not removed" and "not deregistered"
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private PanoramaStandIn standIn;
+    private PanoramaClient client;
+
+    @AfterEach
+    public void tear_down() {
+        if (client != null) {
+            client.close();
+        }
+        if (standIn != null) {
+            standIn.close();
+        }
+    }
+
+    @Test
+    void testPackage_roundTrip() throws IOException {
+        start(new PanoramaStandIn.Settings());
+
+        final CreatePackageResponse created = client.createPackage(request -> request
+                .packageName("package")
+                .tags(Collections.singletonMap("stage", "created")));
+
+        assertThat(created.arn()).isEqualTo(PanoramaStandIn.ARN_PREFIX + "package/" + created.packageId());
+        assertThat(created.storageLocation().bucket()).isEqualTo("panorama-stand-in");
+        assertThat(client.describePackage(request -> request.packageId(created.packageId())).packageName())
+                .isEqualTo("package");
+        assertThrows(ConflictException.class, () -> client.createPackage(request -> request.packageName("package")));
+
+        client.tagResource(request -> request.resourceArn(created.arn()).tags(Collections.singletonMap("team", "a")));
+        client.untagResource(request -> request.resourceArn(created.arn()).tagKeys("stage"));
+        assertThat(client.listTagsForResource(request -> request.resourceArn(created.arn())).tags())
+                .containsOnlyKeys("team");
+
+        client.deletePackage(request -> request.packageId(created.packageId()));
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.describePackage(request -> request.packageId(created.packageId())));
+    }
+
+    @Test
+    void testPackageVersion_movesThroughItsStatuses() throws IOException {
+        start(new PanoramaStandIn.Settings()
+                .registrationDuration(Duration.ofSeconds(2))
+                .deregistrationDuration(Duration.ofSeconds(1)));
+        final String packageId = client.createPackage(request -> request.packageName("package")).packageId();
+        final DescribePackageVersionRequest describe = DescribePackageVersionRequest.builder()
+                .packageId(packageId)
+                .packageVersion("1.0")
+                .patchVersion("patch")
+                .build();
+
+        client.registerPackageVersion(request -> request.packageId(packageId).packageVersion("1.0").patchVersion("patch"));
+        assertThat(client.describePackageVersion(describe).status()).isEqualTo(PackageVersionStatus.REGISTER_PENDING);
+        assertThat(client.describePackageVersion(describe).isLatestPatch()).isFalse();
+
+        clock.addAndGet(Duration.ofSeconds(2).toMillis());
+        assertThat(client.describePackageVersion(describe).status()).isEqualTo(PackageVersionStatus.REGISTER_COMPLETED);
+
+        // registering the version again only marks it latest
+        client.registerPackageVersion(request -> request.packageId(packageId).packageVersion("1.0").patchVersion("patch")
+                .markLatest(true));
+        assertThat(client.describePackageVersion(describe).status()).isEqualTo(PackageVersionStatus.REGISTER_COMPLETED);
+        assertThat(client.describePackageVersion(describe).isLatestPatch()).isTrue();
+
+        assertThrows(ConflictException.class, () -> client.deletePackage(request -> request.packageId(packageId)));
+
+        client.deregisterPackageVersion(request -> request.packageId(packageId).packageVersion("1.0").patchVersion("patch"));
+        assertThat(client.describePackageVersion(describe).status()).isEqualTo(PackageVersionStatus.DELETING);
+        assertThrows(ConflictException.class, () -> client.registerPackageVersion(request -> request
+                .packageId(packageId).packageVersion("1.0").patchVersion("patch")));
+
+        clock.addAndGet(Duration.ofSeconds(1).toMillis());
+        assertThrows(ResourceNotFoundException.class, () -> client.describePackageVersion(describe));
+        client.deletePackage(request -> request.packageId(packageId));
+    }
+
+    @Test
+    void testApplicationInstance_movesThroughItsStatuses() throws IOException {
+        start(new PanoramaStandIn.Settings()
+                .deploymentDuration(Duration.ofSeconds(6))
+                .removalDuration(Duration.ofSeconds(3)));
+
+        final String applicationInstanceId = client.createApplicationInstance(request -> request
+                .name("application")
+                .defaultRuntimeContextDevice("device-1")
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST).build())).applicationInstanceId();
+
+        final List<ApplicationInstanceStatus> deployment = new ArrayList<>();
+        for (int third = 0; third < 4; third++) {
+            deployment.add(client.describeApplicationInstance(request -> request.applicationInstanceId(applicationInstanceId)).status());
+            clock.addAndGet(Duration.ofSeconds(2).toMillis());
+        }
+        assertThat(deployment).containsExactly(
+                ApplicationInstanceStatus.DEPLOYMENT_PENDING,
+                ApplicationInstanceStatus.DEPLOYMENT_REQUESTED,
+                ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS,
+                ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED);
+        assertThat(client.describeApplicationInstanceDetails(request -> request.applicationInstanceId(applicationInstanceId))
+                .manifestPayload().payloadData()).isEqualTo(MANIFEST);
+
+        client.removeApplicationInstance(request -> request.applicationInstanceId(applicationInstanceId));
+        final List<ApplicationInstanceStatus> removal = new ArrayList<>();
+        for (int third = 0; third < 4; third++) {
+            removal.add(client.describeApplicationInstance(request -> request.applicationInstanceId(applicationInstanceId)).status());
+            clock.addAndGet(Duration.ofSeconds(1).toMillis());
+        }
+        assertThat(removal).containsExactly(
+                ApplicationInstanceStatus.REMOVAL_PENDING,
+                ApplicationInstanceStatus.REMOVAL_REQUESTED,
+                ApplicationInstanceStatus.REMOVAL_IN_PROGRESS,
+                ApplicationInstanceStatus.REMOVAL_SUCCEEDED);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.describeApplicationInstance(request -> request.applicationInstanceId("applicationInstance-missing")));
+    }
+
+    @Test
+    void testListApplicationInstances_pagesThroughEveryMatch() throws IOException {
+        start(new PanoramaStandIn.Settings().pageSize(2));
+        final List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createApplicationInstance(i % 2 == 0 ? "device-even" : "device-odd"));
+        }
+        client.removeApplicationInstance(request -> request.applicationInstanceId(created.get(4)));
+
+        assertThat(listAll(ListApplicationInstancesRequest.builder().build(), 3)).containsExactlyElementsOf(created);
+        assertThat(listAll(ListApplicationInstancesRequest.builder().maxResults(4).build(), 2)).containsExactlyElementsOf(created);
+        assertThat(listAll(ListApplicationInstancesRequest.builder().deviceId("device-even").build(), 2))
+                .containsExactly(created.get(0), created.get(2), created.get(4));
+        assertThat(listAll(ListApplicationInstancesRequest.builder().statusFilter(StatusFilter.PROCESSING_REMOVAL).build(), 1))
+                .containsExactly(created.get(4));
+        assertThat(listAll(ListApplicationInstancesRequest.builder().statusFilter(StatusFilter.PROCESSING_DEPLOYMENT).build(), 2))
+                .containsExactlyElementsOf(created.subList(0, 4));
+    }
+
+    @Test
+    void testListPackages_pagesThroughEveryPackage() throws IOException {
+        start(new PanoramaStandIn.Settings().pageSize(2));
+        final List<String> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final String name = "package-" + i;
+            created.add(client.createPackage(request -> request.packageName(name)).packageId());
+        }
+
+        final List<String> listed = client.listPackagesPaginator(request -> { }).packages().stream()
+                .map(PackageListItem::packageId)
+                .collect(Collectors.toList());
+
+        assertThat(listed).containsExactlyElementsOf(created);
+        assertThat(standIn.getCalls()).containsEntry("ListPackages", 2L);
+    }
+
+    @Test
+    void testErrorRate_failsCallsWithInternalServerException() throws IOException {
+        start(new PanoramaStandIn.Settings().errorRate(1.0));
+
+        assertThrows(InternalServerException.class, () -> client.listPackages(request -> { }));
+
+        assertThat(standIn.getInjectedErrors()).isEqualTo(1L);
+        assertThat(standIn.getCalls()).containsEntry("ListPackages", 1L);
+    }
+
+    @Test
+    void testThrottleRate_throttlesEachOperationOnItsOwn() throws IOException {
+        start(new PanoramaStandIn.Settings().throttleRate(1.0));
+
+        client.listPackages(request -> { });
+        final PanoramaException throttled = assertThrows(PanoramaException.class, () -> client.listPackages(request -> { }));
+        client.listApplicationInstances(request -> { });
+
+        assertThat(throttled.isThrottlingException()).isTrue();
+        assertThat(standIn.getThrottled()).isEqualTo(1L);
+        assertThat(standIn.getCalls()).containsEntry("ListPackages", 2L).containsEntry("ListApplicationInstances", 1L);
+    }
+
+    private void start(final PanoramaStandIn.Settings settings) throws IOException {
+        standIn = new PanoramaStandIn(settings.clock(clock::get));
+        client = PanoramaClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .endpointOverride(URI.create(standIn.getEndpoint()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("standIn", "standIn")))
+                // the tests count every call the stand-in serves
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .build())
+                .build();
+    }
+
+    private String createApplicationInstance(final String device) {
+        return client.createApplicationInstance(request -> request
+                .defaultRuntimeContextDevice(device)
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST).build())).applicationInstanceId();
+    }
+
+    /**
+     * The ids of every ApplicationInstance listed, following the nextTokens, checking the number of pages it took.
+     */
+    private List<String> listAll(final ListApplicationInstancesRequest request, final int expectedPages) {
+        final List<String> listed = new ArrayList<>();
+        String nextToken = null;
+        int pages = 0;
+        do {
+            final ListApplicationInstancesResponse page = client.listApplicationInstances(request.toBuilder()
+                    .nextToken(nextToken)
+                    .build());
+            page.applicationInstances().stream().map(ApplicationInstance::applicationInstanceId).forEach(listed::add);
+            nextToken = page.nextToken();
+            pages++;
+        } while (nextToken != null);
+        assertThat(pages).isEqualTo(expectedPages);
+        return listed;
+    }
+}
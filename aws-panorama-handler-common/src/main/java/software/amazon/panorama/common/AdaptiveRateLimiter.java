@@ -0,0 +1,201 @@
+package software.amazon.panorama.common;
+
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side token bucket limiter for Panorama calls, shared by every handler invocation in the container.
+ *
+ * Each API family has its own bucket. A throttling response cuts the family's rate multiplicatively, at most once
+ * per {@link #DECREASE_INTERVAL_NANOS} so a burst of concurrent throttles counts once. The rate then recovers quickly
+ * to just below the rate that got throttled and probes slowly beyond it, so it settles under the service's limit
+ * instead of oscillating around it. Callers wait for a token instead of spending retries on throttled calls, but
+ * for at most {@link #MAX_WAIT_NANOS}: a caller the bucket cannot serve by then fails with a throttling error, for
+ * CloudFormation to call the handler again later, rather than running into the invocation's timeout.
+ */
+public class AdaptiveRateLimiter {
+    static final double DECREASE_FACTOR = 0.7;
+    static final double RECOVERY_PER_SECOND = 0.5;
+    static final double PROBE_THRESHOLD = 0.9;
+    static final double PROBE_PER_SECOND = 0.05;
+    static final double MIN_RATE = 0.5;
+    static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+    private static final Map<String, AdaptiveRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+    private final Map<ApiFamily, Bucket> buckets = new EnumMap<>(ApiFamily.class);
+
+    AdaptiveRateLimiter(final Clock clock) {
+        this.clock = clock;
+        for (final ApiFamily family : ApiFamily.values()) {
+            buckets.put(family, new Bucket(family.getMaxRate(), clock.nanoTime()));
+        }
+    }
+
+    /**
+     * Throttling is accounted per account and region, so handlers of the same account and region share one limiter.
+     */
+    public static AdaptiveRateLimiter forAccount(final String awsAccountId, final String region) {
+        return LIMITERS.computeIfAbsent(awsAccountId + "/" + region, key -> new AdaptiveRateLimiter(Clock.SYSTEM));
+    }
+
+    /**
+     * Take a token for the operation, waiting for the bucket to refill if it is empty.
+     *
+     * @throws CfnThrottlingException when the token would take longer than MAX_WAIT to come
+     */
+    public void acquire(final String operation) {
+        final long waitNanos = bucket(operation).reserve(clock.nanoTime(), MAX_WAIT_NANOS);
+        if (waitNanos < 0) {
+            throw new CfnThrottlingException(operation);
+        }
+        if (waitNanos == 0) {
+            return;
+        }
+        try {
+            clock.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Take a token for the operation and return how long the caller has to wait before using it.
+     */
+    long reserve(final String operation) {
+        return bucket(operation).reserve(clock.nanoTime(), Long.MAX_VALUE);
+    }
+
+    public void onThrottle(final String operation) {
+        bucket(operation).onThrottle(clock.nanoTime());
+    }
+
+    double rate(final String operation) {
+        return bucket(operation).rate(clock.nanoTime());
+    }
+
+    private Bucket bucket(final String operation) {
+        return buckets.get(ApiFamily.of(operation));
+    }
+
+    @lombok.AllArgsConstructor
+    enum ApiFamily {
+        DESCRIBE(new String[]{"Describe"}, 10.0),
+        CREATE(new String[]{"Create"}, 2.0),
+        REGISTER(new String[]{"Register"}, 2.0),
+        DELETE(new String[]{"Delete", "Deregister", "Remove"}, 2.0),
+        OTHER(new String[0], 5.0);
+
+        private final String[] prefixes;
+        @lombok.Getter
+        private final double maxRate;
+
+        static ApiFamily of(final String operation) {
+            for (final ApiFamily family : values()) {
+                for (final String prefix : family.prefixes) {
+                    if (operation.startsWith(prefix)) {
+                        return family;
+                    }
+                }
+            }
+            return OTHER;
+        }
+    }
+
+    private static class Bucket {
+        private final double maxRate;
+        private double rate;
+        private double throttledRate = Double.POSITIVE_INFINITY;
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastDecreaseNanos;
+
+        Bucket(final double maxRate, final long now) {
+            this.maxRate = maxRate;
+            this.rate = maxRate;
+            this.tokens = capacity(maxRate);
+            this.lastRefillNanos = now;
+            this.lastDecreaseNanos = now - DECREASE_INTERVAL_NANOS;
+        }
+
+        /**
+         * @return the wait for the token taken, or -1 when it would be longer than maxWaitNanos and none was taken
+         */
+        synchronized long reserve(final long now, final long maxWaitNanos) {
+            refill(now);
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0L;
+            }
+            // the token is taken on credit, later callers queue up behind it
+            final long waitNanos = (long) ((1.0 - tokens) / rate * TimeUnit.SECONDS.toNanos(1L));
+            if (waitNanos > maxWaitNanos) {
+                return -1L;
+            }
+            tokens -= 1.0;
+            return waitNanos;
+        }
+
+        synchronized void onThrottle(final long now) {
+            refill(now);
+            if (now - lastDecreaseNanos < DECREASE_INTERVAL_NANOS) {
+                return;
+            }
+            throttledRate = rate;
+            rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+            tokens = Math.min(tokens, 0.0);
+            lastDecreaseNanos = now;
+        }
+
+        synchronized double rate(final long now) {
+            refill(now);
+            return rate;
+        }
+
+        private void refill(final long now) {
+            final double elapsedSeconds = (double) (now - lastRefillNanos) / TimeUnit.SECONDS.toNanos(1L);
+            if (elapsedSeconds <= 0) {
+                return;
+            }
+            tokens = Math.min(capacity(rate), tokens + rate * elapsedSeconds);
+
+            double probingSeconds = elapsedSeconds;
+            final double probeFrom = Math.min(maxRate, throttledRate * PROBE_THRESHOLD);
+            if (rate < probeFrom) {
+                final double recoveringSeconds = Math.min(probingSeconds, (probeFrom - rate) / RECOVERY_PER_SECOND);
+                rate += RECOVERY_PER_SECOND * recoveringSeconds;
+                probingSeconds -= recoveringSeconds;
+            }
+            rate = Math.min(maxRate, rate + PROBE_PER_SECOND * probingSeconds);
+            lastRefillNanos = now;
+        }
+
+        private static double capacity(final double rate) {
+            return Math.max(1.0, rate);
+        }
+    }
+
+    interface Clock {
+        Clock SYSTEM = new Clock() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleep(final long nanos) throws InterruptedException {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.panorama.common;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-invocation record of the Panorama calls made by a handler, published as CloudWatch Embedded Metric Format
+ * (EMF) log lines. Each line is self-describing JSON, so the metrics can be read straight from the logs and are also
+ * extracted by CloudWatch when the logs land in CloudWatch Logs.
+ *
+ * One line is published per operation with every call latency, letting CloudWatch build the latency distribution,
+ * plus call, retry, throttle and error counts. Exception classes are attached as a property for Logs Insights.
+ */
+public class ApiCallMetrics {
+    static final String NAMESPACE = "AWSPanoramaCloudFormation";
+    // EMF accepts at most 100 values per metric on a single line
+    static final int MAX_VALUES_PER_LINE = 100;
+
+    private final String resourceType;
+    private final Map<String, OperationMetrics> operations = new LinkedHashMap<>();
+
+    public ApiCallMetrics(final String resourceType) {
+        this.resourceType = resourceType;
+    }
+
+    public synchronized void record(final String operation,
+                                    final long latencyMillis,
+                                    final int retries,
+                                    final boolean throttled,
+                                    final Throwable failure) {
+        final OperationMetrics metrics = operations.computeIfAbsent(operation, key -> new OperationMetrics());
+        metrics.latencies.add(latencyMillis);
+        metrics.retries += retries;
+        if (throttled) {
+            metrics.throttles++;
+        }
+        if (failure != null) {
+            metrics.exceptions.merge(failure.getClass().getSimpleName(), 1, Integer::sum);
+        }
+    }
+
+    public void publish(final Logger logger) {
+        for (final String line : toEmfLines(System.currentTimeMillis())) {
+            logger.log(line);
+        }
+    }
+
+    synchronized List<String> toEmfLines(final long timestamp) {
+        final List<String> lines = new ArrayList<>();
+        for (final Map.Entry<String, OperationMetrics> operation : operations.entrySet()) {
+            final OperationMetrics metrics = operation.getValue();
+            final List<Long> latencies = metrics.latencies;
+            for (int from = 0; from < latencies.size(); from += MAX_VALUES_PER_LINE) {
+                final List<Long> chunk = latencies.subList(from, Math.min(latencies.size(), from + MAX_VALUES_PER_LINE));
+                // the counters go on the first line only, later lines carry the remaining latencies
+                lines.add(toEmfLine(timestamp, operation.getKey(), chunk, from == 0 ? metrics : null));
+            }
+        }
+        return lines;
+    }
+
+    private String toEmfLine(final long timestamp,
+                             final String operation,
+                             final List<Long> latencies,
+                             final OperationMetrics counters) {
+        final StringBuilder line = new StringBuilder(256);
+        line.append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":").append(quote(NAMESPACE))
+                .append(",\"Dimensions\":[[\"ResourceType\",\"Operation\"]],\"Metrics\":[")
+                .append("{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}");
+        if (counters != null) {
+            line.append(",{\"Name\":\"CallCount\",\"Unit\":\"Count\"}")
+                    .append(",{\"Name\":\"RetryCount\",\"Unit\":\"Count\"}")
+                    .append(",{\"Name\":\"ThrottleCount\",\"Unit\":\"Count\"}")
+                    .append(",{\"Name\":\"ErrorCount\",\"Unit\":\"Count\"}");
+        }
+        line.append("]}]}")
+                .append(",\"ResourceType\":").append(quote(resourceType))
+                .append(",\"Operation\":").append(quote(operation))
+                .append(",\"Latency\":").append(latencies);
+
+        if (counters != null) {
+            line.append(",\"CallCount\":").append(counters.latencies.size())
+                    .append(",\"RetryCount\":").append(counters.retries)
+                    .append(",\"ThrottleCount\":").append(counters.throttles)
+                    .append(",\"ErrorCount\":").append(counters.exceptions.values().stream().mapToInt(Integer::intValue).sum())
+                    .append(",\"Exceptions\":{");
+            String separator = "";
+            for (final Map.Entry<String, Integer> exception : counters.exceptions.entrySet()) {
+                line.append(separator).append(quote(exception.getKey())).append(':').append(exception.getValue());
+                separator = ",";
+            }
+            line.append('}');
+        }
+        return line.append('}').toString();
+    }
+
+    static String quote(final String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static class OperationMetrics {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, Integer> exceptions = new LinkedHashMap<>();
+        private int retries;
+        private int throttles;
+    }
+}
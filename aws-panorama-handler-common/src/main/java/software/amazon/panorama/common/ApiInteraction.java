@@ -0,0 +1,162 @@
+package software.amazon.panorama.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * One recorded Panorama call: when it started, how long it took, and its response or the exception it failed with.
+ * The request is only kept as its {@link ErrorDescriptor}, for reading a recording; replaying does not need it.
+ *
+ * Its JSON form is one line of an {@link ApiRecording}.
+ */
+public class ApiInteraction {
+    private final String operation;
+    private final long startedAt;
+    private final long latencyMillis;
+    private final String request;
+    private final String responseType;
+    private final JsonNode response;
+    private final String errorType;
+    private final int statusCode;
+    private final String errorCode;
+    private final String errorMessage;
+
+    private ApiInteraction(final String operation, final long startedAt, final long latencyMillis, final String request,
+                           final String responseType, final JsonNode response, final String errorType,
+                           final int statusCode, final String errorCode, final String errorMessage) {
+        this.operation = operation;
+        this.startedAt = startedAt;
+        this.latencyMillis = latencyMillis;
+        this.request = request;
+        this.responseType = responseType;
+        this.response = response;
+        this.errorType = errorType;
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static ApiInteraction success(final AwsRequest request, final SdkPojo response, final long startedAt,
+                                         final long latencyMillis) {
+        final String operation = MetricsProxyClient.operationName(request);
+        return new ApiInteraction(operation, startedAt, latencyMillis, ErrorDescriptor.describe(operation, null, request),
+                response.getClass().getName(), SdkPojoJson.toJson(response), null, 0, null, null);
+    }
+
+    public static ApiInteraction failure(final AwsRequest request, final Throwable failure, final long startedAt,
+                                         final long latencyMillis) {
+        final String operation = MetricsProxyClient.operationName(request);
+        int statusCode = 0;
+        String errorCode = null;
+        String errorMessage = failure.getMessage();
+        if (failure instanceof AwsServiceException) {
+            final AwsServiceException serviceException = (AwsServiceException) failure;
+            statusCode = serviceException.statusCode();
+            if (serviceException.awsErrorDetails() != null) {
+                errorCode = serviceException.awsErrorDetails().errorCode();
+                errorMessage = serviceException.awsErrorDetails().errorMessage();
+            }
+        }
+        return new ApiInteraction(operation, startedAt, latencyMillis, ErrorDescriptor.describe(operation, null, request),
+                null, null, failure.getClass().getName(), statusCode, errorCode, errorMessage);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Epoch milliseconds at which the call was made.
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public boolean isFailure() {
+        return errorType != null;
+    }
+
+    /**
+     * Whether the operation only reads, so replaying it again gives the same answer for the same point in time.
+     */
+    public boolean isRead() {
+        return operation.startsWith("Describe") || operation.startsWith("List") || operation.startsWith("Get");
+    }
+
+    /**
+     * The recorded response, rebuilt as its SDK class.
+     */
+    public SdkPojo replayResponse() {
+        try {
+            return SdkPojoJson.fromJson(Class.forName(responseType).asSubclass(SdkPojo.class), response);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot replay a " + responseType, e);
+        }
+    }
+
+    /**
+     * The recorded exception, rebuilt as its SDK class when it was a service exception.
+     */
+    public RuntimeException replayFailure() {
+        try {
+            final Class<?> type = Class.forName(errorType);
+            if (AwsServiceException.class.isAssignableFrom(type)) {
+                final AwsServiceException.Builder builder = (AwsServiceException.Builder) type.getMethod("builder").invoke(null);
+                builder.message(errorMessage)
+                        .statusCode(statusCode)
+                        .awsErrorDetails(AwsErrorDetails.builder()
+                                .errorCode(errorCode)
+                                .errorMessage(errorMessage)
+                                .serviceName("Panorama")
+                                .build());
+                return builder.build();
+            }
+            if (RuntimeException.class.isAssignableFrom(type)) {
+                return (RuntimeException) type.getConstructor(String.class).newInstance(errorMessage);
+            }
+        } catch (ReflectiveOperationException e) {
+            // fall through to a generic exception carrying the recorded type
+        }
+        return new IllegalStateException(errorType + ": " + errorMessage);
+    }
+
+    ObjectNode toJson() {
+        final ObjectNode node = SdkPojoJson.MAPPER.createObjectNode()
+                .put("operation", operation)
+                .put("startedAt", startedAt)
+                .put("latency", latencyMillis)
+                .put("request", request);
+        if (isFailure()) {
+            node.put("errorType", errorType)
+                    .put("statusCode", statusCode)
+                    .put("errorCode", errorCode)
+                    .put("errorMessage", errorMessage);
+        } else {
+            node.put("responseType", responseType)
+                    .set("response", response);
+        }
+        return node;
+    }
+
+    static ApiInteraction fromJson(final JsonNode node) {
+        return new ApiInteraction(
+                node.path("operation").asText(),
+                node.path("startedAt").asLong(),
+                node.path("latency").asLong(),
+                node.path("request").asText(null),
+                node.path("responseType").asText(null),
+                node.get("response"),
+                node.path("errorType").asText(null),
+                node.path("statusCode").asInt(),
+                node.path("errorCode").asText(null),
+                node.path("errorMessage").asText(null));
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.panorama.common;
+
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File format of recorded Panorama calls: one {@link ApiInteraction} per line as compact JSON, in call order. Lines
+ * are appended as the calls complete, so one file can collect every invocation of a handler run, callbacks included.
+ *
+ * Setting the PANORAMA_RECORDING environment variable to a file path makes the handlers record their calls there,
+ * e.g. while running them against the service to capture a stabilization sequence for a {@link ReplayProxyClient}.
+ */
+public final class ApiRecording {
+    private static final String PATH = System.getenv("PANORAMA_RECORDING");
+
+    private ApiRecording() {
+    }
+
+    /**
+     * The given client, recording to the file named by PANORAMA_RECORDING when it is set.
+     */
+    public static <ClientT> ProxyClient<ClientT> recordIfEnabled(final ProxyClient<ClientT> proxyClient) {
+        if (PATH == null || PATH.isEmpty()) {
+            return proxyClient;
+        }
+        final Path path = Paths.get(PATH);
+        return new RecordingProxyClient<>(proxyClient, interaction -> append(path, interaction));
+    }
+
+    public static void append(final Path path, final ApiInteraction interaction) {
+        final byte[] line = (interaction.toJson().toString() + "\n").getBytes(StandardCharsets.UTF_8);
+        // async calls complete on other threads, keep their lines whole
+        synchronized (ApiRecording.class) {
+            try {
+                Files.write(path, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static List<ApiInteraction> read(final Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    public static List<ApiInteraction> read(final InputStream in) throws IOException {
+        final List<ApiInteraction> interactions = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (!line.trim().isEmpty()) {
+                interactions.add(ApiInteraction.fromJson(SdkPojoJson.MAPPER.readTree(line)));
+            }
+        }
+        return interactions;
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.panorama.common;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the HTTP attempts the SDK makes for a call, retries included, for the calls made on a thread between
+ * {@link #start()} and {@link #stop()}. The clients run {@link #beforeExecution} on the calling thread, where the count
+ * of the thread is attached to the call. The attempts are then counted on the call, as the async client transmits on
+ * threads of its own.
+ */
+public class AttemptCountingInterceptor implements ExecutionInterceptor {
+    private static final ThreadLocal<AtomicInteger> ATTEMPTS = new ThreadLocal<>();
+    private static final ExecutionAttribute<AtomicInteger> CALL_ATTEMPTS = new ExecutionAttribute<>("PanoramaCallAttempts");
+
+    /**
+     * @return the count of the calls made on this thread until {@link #stop()}, which keeps growing with the
+     * attempts of an async call after that
+     */
+    static AtomicInteger start() {
+        final AtomicInteger attempts = new AtomicInteger();
+        ATTEMPTS.set(attempts);
+        return attempts;
+    }
+
+    /**
+     * @return the number of attempts since {@link #start()} on this thread
+     */
+    static int stop() {
+        final AtomicInteger attempts = ATTEMPTS.get();
+        ATTEMPTS.remove();
+        return attempts == null ? 0 : attempts.get();
+    }
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        final AtomicInteger attempts = ATTEMPTS.get();
+        if (attempts != null) {
+            executionAttributes.putAttribute(CALL_ATTEMPTS, attempts);
+        }
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        final AtomicInteger attempts = executionAttributes.getAttribute(CALL_ATTEMPTS);
+        if (attempts != null) {
+            attempts.incrementAndGet();
+        }
+    }
+}
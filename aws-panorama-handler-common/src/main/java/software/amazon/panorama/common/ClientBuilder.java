@@ -0,0 +1,96 @@
+package software.amazon.panorama.common;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClientBuilder;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.PanoramaClientBuilder;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ClientBuilder {
+  // system property pointing the clients at another Panorama endpoint, e.g. the stand-in server of the load harness
+  public static final String ENDPOINT_PROPERTY = "panorama.endpoint";
+
+  // key of the clients whose region comes from the default region provider chain
+  private static final String DEFAULT_REGION = "";
+
+  // clients are built once per region and shared by every handler for the life of the container, so warm
+  // invocations skip client construction, service metadata loading and endpoint resolution. The async client also
+  // owns its own event loop, which is another reason not to build it per invocation.
+  private static final Map<String, PanoramaClient> CLIENTS = new ConcurrentHashMap<>();
+  private static final Map<String, PanoramaAsyncClient> ASYNC_CLIENTS = new ConcurrentHashMap<>();
+
+  public static PanoramaClient getClient() {
+    return getClient(null);
+  }
+
+  public static PanoramaClient getClient(final String region) {
+    return CLIENTS.computeIfAbsent(region == null ? DEFAULT_REGION : region, ClientBuilder::buildClient);
+  }
+
+  public static PanoramaAsyncClient getAsyncClient() {
+    return getAsyncClient(null);
+  }
+
+  public static PanoramaAsyncClient getAsyncClient(final String region) {
+    return ASYNC_CLIENTS.computeIfAbsent(region == null ? DEFAULT_REGION : region, ClientBuilder::buildAsyncClient);
+  }
+
+  private static PanoramaClient buildClient(final String region) {
+    final PanoramaClientBuilder builder = PanoramaClient.builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .addExecutionInterceptor(new AttemptCountingInterceptor())
+                    .retryPolicy(retryPolicy())
+                    .build());
+    if (!DEFAULT_REGION.equals(region)) {
+      builder.region(Region.of(region));
+    }
+    final URI endpoint = endpointOverride();
+    if (endpoint != null) {
+      builder.endpointOverride(endpoint);
+    }
+    return builder.build();
+  }
+
+  private static PanoramaAsyncClient buildAsyncClient(final String region) {
+    final PanoramaAsyncClientBuilder builder = PanoramaAsyncClient.builder()
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .addExecutionInterceptor(new AttemptCountingInterceptor())
+                    .retryPolicy(retryPolicy())
+                    .build());
+    if (!DEFAULT_REGION.equals(region)) {
+      builder.region(Region.of(region));
+    }
+    final URI endpoint = endpointOverride();
+    if (endpoint != null) {
+      builder.endpointOverride(endpoint);
+    }
+    return builder.build();
+  }
+
+  /**
+   * The SDK's default retries, less those of throttled calls: the handlers call through a {@link RateLimitedProxyClient},
+   * which retries them itself once the {@link AdaptiveRateLimiter} has seen the throttle and handed out a token.
+   */
+  static RetryPolicy retryPolicy() {
+    return RetryPolicy.defaultRetryPolicy().toBuilder()
+            .retryCondition(AndRetryCondition.create(
+                    RetryPolicy.defaultRetryPolicy().retryCondition(),
+                    context -> !RetryUtils.isThrottlingException(context.exception())))
+            .build();
+  }
+
+  private static URI endpointOverride() {
+    final String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+    return endpoint == null || endpoint.isEmpty() ? null : URI.create(endpoint);
+  }
+}
@@ -0,0 +1,95 @@
+package software.amazon.panorama.common;
+
+import com.google.common.collect.ImmutableSet;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact description of a failed Panorama call for error events and logs, used in place of the request's toString().
+ *
+ * It holds the operation, the resource identifier and the request's short fields. Payloads and any other long value are
+ * replaced by their size and a content hash, and collections by their size, so the description stays under
+ * {@link #MAX_LENGTH} characters whatever the request carries.
+ */
+public class ErrorDescriptor {
+    static final int MAX_LENGTH = 512;
+    static final int MAX_INLINE_VALUE_LENGTH = 64;
+    static final int HASH_LENGTH = 12;
+    static final Set<String> HASHED_MEMBERS = ImmutableSet.of("PayloadData");
+
+    public static String describe(final String operation, final String resourceIdentifier, final SdkPojo request) {
+        final StringBuilder descriptor = new StringBuilder(128).append(operation);
+        if (resourceIdentifier != null) {
+            descriptor.append(" [").append(resourceIdentifier).append(']');
+        }
+        if (request != null) {
+            descriptor.append(' ');
+            appendFields(descriptor, "", request);
+            if (descriptor.charAt(descriptor.length() - 1) == ' ') {
+                descriptor.setLength(descriptor.length() - 1);
+            }
+        }
+        if (descriptor.length() <= MAX_LENGTH) {
+            return descriptor.toString();
+        }
+        return descriptor.substring(0, MAX_LENGTH - 3) + "...";
+    }
+
+    private static void appendFields(final StringBuilder descriptor, final String prefix, final SdkPojo pojo) {
+        for (final SdkField<?> field : pojo.sdkFields()) {
+            if (descriptor.length() > MAX_LENGTH) {
+                return;
+            }
+            final Object value = field.getValueOrDefault(pojo);
+            if (value == null || value instanceof SdkAutoConstructList || value instanceof SdkAutoConstructMap) {
+                continue;
+            }
+
+            final String name = prefix + field.memberName();
+            if (value instanceof SdkPojo) {
+                appendFields(descriptor, name + ".", (SdkPojo) value);
+                continue;
+            }
+
+            if (descriptor.charAt(descriptor.length() - 1) != ' ') {
+                descriptor.append(", ");
+            }
+            descriptor.append(name).append('=');
+            if (value instanceof Collection) {
+                descriptor.append('<').append(((Collection<?>) value).size()).append(" items>");
+            } else if (value instanceof Map) {
+                descriptor.append('<').append(((Map<?, ?>) value).size()).append(" entries>");
+            } else {
+                final String text = value.toString();
+                if (HASHED_MEMBERS.contains(field.memberName()) || text.length() > MAX_INLINE_VALUE_LENGTH) {
+                    appendSizeAndHash(descriptor, text);
+                } else {
+                    descriptor.append(text);
+                }
+            }
+        }
+    }
+
+    private static void appendSizeAndHash(final StringBuilder descriptor, final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final String hash = BinaryUtils.toHex(Arrays.copyOf(digest.digest(bytes), HASH_LENGTH / 2));
+        descriptor.append('<').append(bytes.length).append(" bytes sha256:").append(hash).append('>');
+    }
+}
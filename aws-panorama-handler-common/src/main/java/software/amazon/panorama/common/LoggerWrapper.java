@@ -0,0 +1,230 @@
+package software.amazon.panorama.common;
+
+import com.google.common.collect.ImmutableSet;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Structured, level gated logger writing one JSON object of key/value pairs per record.
+ *
+ * Values are only rendered once the level is known to be enabled, so a disabled call builds no string. A value may be
+ * a {@link Supplier} to defer its computation as well. Rendered values are capped at {@link #MAX_VALUE_LENGTH}
+ * characters, and manifest payloads inside SDK requests and responses are redacted.
+ */
+public class LoggerWrapper {
+    static final int MAX_VALUE_LENGTH = 1024;
+    static final Set<String> REDACTED_MEMBERS = ImmutableSet.of("PayloadData");
+
+    private static final Level DEFAULT_LEVEL = Level.fromName(System.getenv("LOG_LEVEL"));
+
+    private final Logger logger;
+    private final Level level;
+
+    public LoggerWrapper(final Logger logger) {
+        this(logger, DEFAULT_LEVEL);
+    }
+
+    public LoggerWrapper(final Logger logger, final Level level) {
+        this.logger = logger;
+        this.level = level;
+    }
+
+    public boolean isEnabled(final Level recordLevel) {
+        return recordLevel.compareTo(level) >= 0 && recordLevel != Level.OFF;
+    }
+
+    public void debug(final String message) {
+        log(Level.DEBUG, message, null, null, null, null, null, null, null, null);
+    }
+
+    public void debug(final String message, final String key1, final Object value1) {
+        log(Level.DEBUG, message, key1, value1, null, null, null, null, null, null);
+    }
+
+    public void debug(final String message, final String key1, final Object value1, final String key2, final Object value2) {
+        log(Level.DEBUG, message, key1, value1, key2, value2, null, null, null, null);
+    }
+
+    public void debug(final String message, final String key1, final Object value1, final String key2, final Object value2,
+                      final String key3, final Object value3) {
+        log(Level.DEBUG, message, key1, value1, key2, value2, key3, value3, null, null);
+    }
+
+    public void debug(final String message, final String key1, final Object value1, final String key2, final Object value2,
+                      final String key3, final Object value3, final String key4, final Object value4) {
+        log(Level.DEBUG, message, key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public void info(final String message) {
+        log(Level.INFO, message, null, null, null, null, null, null, null, null);
+    }
+
+    public void info(final String message, final String key1, final Object value1) {
+        log(Level.INFO, message, key1, value1, null, null, null, null, null, null);
+    }
+
+    public void info(final String message, final String key1, final Object value1, final String key2, final Object value2) {
+        log(Level.INFO, message, key1, value1, key2, value2, null, null, null, null);
+    }
+
+    public void info(final String message, final String key1, final Object value1, final String key2, final Object value2,
+                     final String key3, final Object value3) {
+        log(Level.INFO, message, key1, value1, key2, value2, key3, value3, null, null);
+    }
+
+    public void info(final String message, final String key1, final Object value1, final String key2, final Object value2,
+                     final String key3, final Object value3, final String key4, final Object value4) {
+        log(Level.INFO, message, key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public void error(final String message) {
+        log(Level.ERROR, message, null, null, null, null, null, null, null, null);
+    }
+
+    public void error(final String message, final String key1, final Object value1) {
+        log(Level.ERROR, message, key1, value1, null, null, null, null, null, null);
+    }
+
+    public void error(final String message, final String key1, final Object value1, final String key2, final Object value2) {
+        log(Level.ERROR, message, key1, value1, key2, value2, null, null, null, null);
+    }
+
+    public void error(final String message, final String key1, final Object value1, final String key2, final Object value2,
+                      final String key3, final Object value3) {
+        log(Level.ERROR, message, key1, value1, key2, value2, key3, value3, null, null);
+    }
+
+    public void error(final String message, final String key1, final Object value1, final String key2, final Object value2,
+                      final String key3, final Object value3, final String key4, final Object value4) {
+        log(Level.ERROR, message, key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    private void log(final Level recordLevel, final String message,
+                     final String key1, final Object value1, final String key2, final Object value2,
+                     final String key3, final Object value3, final String key4, final Object value4) {
+        if (!isEnabled(recordLevel)) {
+            return;
+        }
+
+        final StringBuilder record = new StringBuilder(128)
+                .append("{\"level\":\"").append(recordLevel.name()).append("\",\"message\":");
+        appendQuoted(record, message);
+        appendField(record, key1, value1);
+        appendField(record, key2, value2);
+        appendField(record, key3, value3);
+        appendField(record, key4, value4);
+        logger.log(record.append("}\n").toString());
+    }
+
+    private static void appendField(final StringBuilder record, final String key, final Object value) {
+        if (key == null) {
+            return;
+        }
+        record.append(',');
+        appendQuoted(record, key);
+        record.append(':');
+        appendQuoted(record, render(value));
+    }
+
+    /**
+     * Render a value capped at {@link #MAX_VALUE_LENGTH} characters, walking SDK objects field by field so the
+     * redacted members are never turned into a string.
+     */
+    static String render(final Object value) {
+        final Object resolved = value instanceof Supplier ? ((Supplier<?>) value).get() : value;
+        if (!(resolved instanceof SdkPojo)) {
+            return cap(String.valueOf(resolved));
+        }
+        final StringBuilder rendered = new StringBuilder();
+        appendSdkPojo(rendered, (SdkPojo) resolved);
+        return cap(rendered.toString());
+    }
+
+    private static String cap(final String rendered) {
+        if (rendered.length() <= MAX_VALUE_LENGTH) {
+            return rendered;
+        }
+        return rendered.substring(0, MAX_VALUE_LENGTH) + "...(truncated)";
+    }
+
+    private static void appendSdkPojo(final StringBuilder rendered, final SdkPojo pojo) {
+        rendered.append(pojo.getClass().getSimpleName()).append('(');
+        boolean first = true;
+        for (final SdkField<?> field : pojo.sdkFields()) {
+            if (rendered.length() > MAX_VALUE_LENGTH) {
+                break;
+            }
+            final Object fieldValue = field.getValueOrDefault(pojo);
+            if (fieldValue == null || fieldValue instanceof SdkAutoConstructList || fieldValue instanceof SdkAutoConstructMap) {
+                continue;
+            }
+            if (!first) {
+                rendered.append(", ");
+            }
+            first = false;
+            rendered.append(field.memberName()).append('=');
+            if (REDACTED_MEMBERS.contains(field.memberName())) {
+                rendered.append("<redacted ").append(String.valueOf(fieldValue).length()).append(" chars>");
+            } else if (fieldValue instanceof SdkPojo) {
+                appendSdkPojo(rendered, (SdkPojo) fieldValue);
+            } else {
+                rendered.append(fieldValue);
+            }
+        }
+        rendered.append(')');
+    }
+
+    private static void appendQuoted(final StringBuilder record, final String value) {
+        if (value == null) {
+            record.append("null");
+            return;
+        }
+        record.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    record.append("\\\"");
+                    break;
+                case '\\':
+                    record.append("\\\\");
+                    break;
+                case '\n':
+                    record.append("\\n");
+                    break;
+                case '\r':
+                    record.append("\\r");
+                    break;
+                case '\t':
+                    record.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        record.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        record.append(c);
+                    }
+            }
+        }
+        record.append('"');
+    }
+
+    public enum Level {
+        DEBUG, INFO, ERROR, OFF;
+
+        static Level fromName(final String name) {
+            for (final Level candidate : values()) {
+                if (candidate.name().equalsIgnoreCase(name)) {
+                    return candidate;
+                }
+            }
+            return INFO;
+        }
+    }
+}
@@ -1,5 +1,6 @@
-package software.amazon.panorama.applicationinstance;
+package software.amazon.panorama.common;
 
+import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.services.panorama.model.AccessDeniedException;
 import software.amazon.awssdk.services.panorama.model.ConflictException;
 import software.amazon.awssdk.services.panorama.model.InternalServerException;
@@ -15,17 +16,24 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 
 public class PanoramaExceptionTranslator {
 
+    /**
+     * Translate a Panorama exception into the handler exception reported to CloudFormation. The request is only
+     * turned into a bounded {@link ErrorDescriptor} here, once the exception is actually thrown.
+     */
     public static BaseHandlerException translateForAPIException(final PanoramaException e,
                                                                 final String operation,
                                                                 final String resourceTypeName,
                                                                 final String resourceIdentifier,
-                                                                final String requestBody
+                                                                final SdkPojo request
     ) {
         if (e instanceof ValidationException) {
-            return new CfnInvalidRequestException(requestBody, e);
+            final String descriptor = ErrorDescriptor.describe(operation, resourceIdentifier, request);
+            final String reason = e.awsErrorDetails() == null ? null : e.awsErrorDetails().errorMessage();
+            return new CfnInvalidRequestException(reason == null ? descriptor : descriptor + ": " + reason, e);
         } else if (e instanceof ConflictException) {
             return new CfnResourceConflictException(resourceTypeName, resourceIdentifier,
                     String.format("%s already existed", resourceIdentifier), e);
@@ -36,7 +44,10 @@ public class PanoramaExceptionTranslator {
         } else if (e instanceof ResourceNotFoundException) {
             return new CfnNotFoundException(resourceTypeName, resourceIdentifier, e);
         } else if (e instanceof ServiceQuotaExceededException) {
-            return new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, "Exceeded service limit", e);
+            return new CfnServiceLimitExceededException(resourceTypeName, "Exceeded service limit", e);
+        } else if (e.isThrottlingException()) {
+            // retriable, unlike the general service error
+            return new CfnThrottlingException(operation, e);
         }
 
         return new CfnGeneralServiceException(operation, e);
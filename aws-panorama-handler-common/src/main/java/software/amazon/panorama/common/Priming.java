@@ -0,0 +1,124 @@
+package software.amazon.panorama.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Building blocks for the Primer of each handler module, which initializes ahead of the first invocation what it
+ * would otherwise load lazily: the SDK model classes, their JSON marshallers and unmarshallers, the request signer,
+ * the handler's Translator paths and the rpdk serialization of its ResourceModel.
+ *
+ * Priming never makes a network call, the Panorama calls are answered from memory, so it can run during the Lambda
+ * init phase, before a checkpoint is taken or as the training run of a class-data-sharing archive. It is on unless
+ * the PRIMING environment variable is "false".
+ */
+public class Priming {
+    static final String LOCAL_ENDPOINT = "http://localhost";
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getenv("PRIMING"));
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Run the steps one after the other. A failing step is skipped: it only costs the classes it would have loaded,
+     * while failing the Lambda init phase would fail every invocation. That includes a class missing from the jar,
+     * a LinkageError rather than an Exception.
+     */
+    public static void prime(final Step... steps) {
+        for (final Step step : steps) {
+            try {
+                step.run();
+            } catch (Exception | LinkageError e) {
+                // the first invocation will load whatever the step did not
+            }
+        }
+    }
+
+    /**
+     * Run the steps one after the other, failing with the first step that fails, e.g. to check that a minimized jar
+     * still holds every class the steps reach.
+     */
+    public static void check(final Step... steps) throws Exception {
+        for (final Step step : steps) {
+            step.run();
+        }
+    }
+
+    /**
+     * A Panorama client which goes through marshalling, signing and unmarshalling like a real one, but whose
+     * calls are all answered with the given JSON body instead of reaching the service.
+     */
+    public static PanoramaClient localClient(final String responseBody) {
+        return PanoramaClient.builder()
+                .httpClient(new CannedHttpClient(responseBody))
+                .endpointOverride(URI.create(LOCAL_ENDPOINT))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Serialize and deserialize a model the way the rpdk does with every request and progress event.
+     */
+    public static <T> T serializerRoundTrip(final T model, final TypeReference<T> type) throws Exception {
+        final Serializer serializer = new Serializer();
+        return serializer.deserialize(serializer.serialize(model), type);
+    }
+
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    static class CannedHttpClient implements SdkHttpClient {
+        private final byte[] responseBody;
+
+        CannedHttpClient(final String responseBody) {
+            this.responseBody = responseBody.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder()
+                                    .statusCode(200)
+                                    .putHeader("Content-Type", "application/json")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(new ByteArrayInputStream(responseBody)))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
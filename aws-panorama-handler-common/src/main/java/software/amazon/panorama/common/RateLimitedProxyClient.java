@@ -0,0 +1,138 @@
+package software.amazon.panorama.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ProxyClient decorator taking a token from the {@link AdaptiveRateLimiter} before every Panorama call and reporting
+ * throttled calls back to it.
+ *
+ * The clients of {@link ClientBuilder} do not retry throttled calls, so the limiter sees every throttled attempt
+ * and slows down right away. The retries happen here instead, each one taking a token again, up to MAX_ATTEMPTS
+ * attempts like the SDK's default retry policy.
+ */
+public class RateLimitedProxyClient<ClientT> implements ProxyClient<ClientT> {
+    static final int MAX_ATTEMPTS = 4;
+
+    private final ProxyClient<ClientT> delegate;
+    private final AdaptiveRateLimiter rateLimiter;
+
+    public RateLimitedProxyClient(final ProxyClient<ClientT> delegate, final AdaptiveRateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        return limit(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final CompletableFuture<ResponseT> result = new CompletableFuture<>();
+        limitAsync(MetricsProxyClient.operationName(request), 1,
+                () -> delegate.injectCredentialsAndInvokeV2Async(request, requestFunction), result);
+        return result;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+        // pages are fetched lazily while iterating, so only the first one is accounted for
+        return limit(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return limit(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return limit(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private <T> T limit(final AwsRequest request, final Supplier<T> call) {
+        final String operation = MetricsProxyClient.operationName(request);
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire(operation);
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (!isThrottling(e)) {
+                    throw e;
+                }
+                rateLimiter.onThrottle(operation);
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #limit} for an async call. A retry waits for its token on the thread completing the throttled
+     * attempt, and cancelling the result cancels the attempt in flight.
+     */
+    private <T> void limitAsync(final String operation,
+                                final int attempt,
+                                final Supplier<CompletableFuture<T>> call,
+                                final CompletableFuture<T> result) {
+        rateLimiter.acquire(operation);
+        final CompletableFuture<T> future = call.get();
+        result.whenComplete((response, failure) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        future.whenComplete((response, failure) -> {
+            if (failure == null) {
+                result.complete(response);
+                return;
+            }
+            final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            if (isThrottling(cause)) {
+                rateLimiter.onThrottle(operation);
+                if (attempt < MAX_ATTEMPTS) {
+                    try {
+                        limitAsync(operation, attempt + 1, call, result);
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                    return;
+                }
+            }
+            result.completeExceptionally(cause);
+        });
+    }
+
+    private static boolean isThrottling(final Throwable failure) {
+        return failure instanceof SdkServiceException && ((SdkServiceException) failure).isThrottlingException();
+    }
+}
@@ -0,0 +1,105 @@
+package software.amazon.panorama.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ProxyClient decorator handing every Panorama call, with its timing and its response or exception, to a sink as an
+ * {@link ApiInteraction}, for an {@link ApiRecording} to be replayed by a {@link ReplayProxyClient}. Only calls
+ * returning a response object are recorded; paginated, streaming and bytes calls pass through.
+ */
+public class RecordingProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final Consumer<ApiInteraction> sink;
+
+    public RecordingProxyClient(final ProxyClient<ClientT> delegate, final Consumer<ApiInteraction> sink) {
+        this.delegate = delegate;
+        this.sink = sink;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        final long startedAt = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        final ResponseT response;
+        try {
+            response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        } catch (RuntimeException e) {
+            record(() -> ApiInteraction.failure(request, e, startedAt, elapsedMillis(start)));
+            throw e;
+        }
+        record(() -> ApiInteraction.success(request, response, startedAt, elapsedMillis(start)));
+        return response;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final long startedAt = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        final CompletableFuture<ResponseT> future = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        future.whenComplete((response, failure) -> {
+            if (failure == null) {
+                record(() -> ApiInteraction.success(request, response, startedAt, elapsedMillis(start)));
+            } else {
+                final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+                record(() -> ApiInteraction.failure(request, cause, startedAt, elapsedMillis(start)));
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    private void record(final Supplier<ApiInteraction> interaction) {
+        try {
+            sink.accept(interaction.get());
+        } catch (RuntimeException e) {
+            // a lost recording must not fail the call it records
+        }
+    }
+
+    private static long elapsedMillis(final long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,173 @@
+package software.amazon.panorama.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ProxyClient answering a handler's Panorama calls from a recording instead of the service, to re-run a recorded
+ * handler run deterministically and measure how many calls, and how much time, a change to the handler costs.
+ *
+ * Replay keeps a virtual clock, starting at the first recorded call. Every call moves it by the recorded latency, and
+ * the caller moves it by the time the handler waits between calls, see {@link #advance}. Calls that change something
+ * are answered with the recorded calls of their operation in order. Reads are answered with the recorded read closest
+ * to the virtual clock, never going back: a handler that polls less often than the recorded one skips the states in
+ * between, one that polls more often sees a state more than once. Past the end of the recording, the last call of
+ * the operation answers again.
+ *
+ * Recorded latencies are also slept for, multiplied by the latency scale: 0 replays as fast as possible, 1 in real
+ * time. The client returned by {@link #client()} is only there for the handlers' method references and is never
+ * called.
+ */
+public class ReplayProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ClientT client;
+    private final double latencyScale;
+    private final Map<String, List<ApiInteraction>> recorded = new HashMap<>();
+    private final Map<String, Integer> cursors = new HashMap<>();
+    private final Map<String, Integer> calls = new LinkedHashMap<>();
+    private final long recordingStart;
+    private long clockMillis;
+
+    public ReplayProxyClient(final List<ApiInteraction> recording, final ClientT client, final double latencyScale) {
+        this.client = client;
+        this.latencyScale = latencyScale;
+        this.recordingStart = recording.isEmpty() ? 0L : recording.get(0).getStartedAt();
+        for (final ApiInteraction interaction : recording) {
+            recorded.computeIfAbsent(interaction.getOperation(), operation -> new ArrayList<>()).add(interaction);
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction) {
+        return replay(request);
+    }
+
+    /**
+     * Answered like a synchronous call, the returned future is already complete.
+     */
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        try {
+            future.complete(replay(request));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction) {
+        throw new UnsupportedOperationException("Paginated calls are not recorded");
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        throw new UnsupportedOperationException("Streaming calls are not recorded");
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        throw new UnsupportedOperationException("Bytes calls are not recorded");
+    }
+
+    @Override
+    public ClientT client() {
+        return client;
+    }
+
+    /**
+     * Move the virtual clock by a wait of the handler, such as a stabilization delay or a callback delay.
+     */
+    public synchronized void advance(final Duration wait) {
+        clockMillis += wait.toMillis();
+    }
+
+    /**
+     * Virtual time the replayed run has taken so far.
+     */
+    public synchronized Duration getElapsed() {
+        return Duration.ofMillis(clockMillis);
+    }
+
+    /**
+     * Replayed calls per operation, in order of first call.
+     */
+    public synchronized Map<String, Integer> getCalls() {
+        return new LinkedHashMap<>(calls);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ResponseT> ResponseT replay(final AwsRequest request) {
+        final ApiInteraction interaction = next(MetricsProxyClient.operationName(request));
+        sleep(interaction.getLatencyMillis());
+        if (interaction.isFailure()) {
+            throw interaction.replayFailure();
+        }
+        return (ResponseT) interaction.replayResponse();
+    }
+
+    private synchronized ApiInteraction next(final String operation) {
+        final List<ApiInteraction> interactions = recorded.get(operation);
+        if (interactions == null) {
+            throw new IllegalStateException("The recording has no " + operation + " call");
+        }
+        calls.merge(operation, 1, Integer::sum);
+
+        final int cursor = cursors.getOrDefault(operation, -1);
+        int index = Math.min(cursor + 1, interactions.size() - 1);
+        if (interactions.get(0).isRead()) {
+            index = Math.max(cursor, 0);
+            while (index + 1 < interactions.size()
+                    && Math.abs(offset(interactions.get(index + 1)) - clockMillis)
+                    <= Math.abs(offset(interactions.get(index)) - clockMillis)) {
+                index++;
+            }
+        }
+        cursors.put(operation, index);
+
+        final ApiInteraction interaction = interactions.get(index);
+        clockMillis += interaction.getLatencyMillis();
+        return interaction;
+    }
+
+    private long offset(final ApiInteraction interaction) {
+        return interaction.getStartedAt() - recordingStart;
+    }
+
+    private void sleep(final long latencyMillis) {
+        final long millis = (long) (latencyMillis * latencyScale);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package software.amazon.panorama.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts SDK requests and responses to JSON and back by walking their {@link SdkField}s, the way the SDK's own
+ * marshallers do. Members are keyed by their member name; enums keep their string value, timestamps are ISO-8601 and
+ * blobs Base64.
+ */
+final class SdkPojoJson {
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SdkPojoJson() {
+    }
+
+    static ObjectNode toJson(final SdkPojo pojo) {
+        final ObjectNode node = MAPPER.createObjectNode();
+        for (final SdkField<?> field : pojo.sdkFields()) {
+            final Object value = field.getValueOrDefault(pojo);
+            // unset collections stay unset, so has*() answers the same after a round trip
+            if (value != null && !(value instanceof SdkAutoConstructList) && !(value instanceof SdkAutoConstructMap)) {
+                node.set(field.memberName(), toJson(field, value));
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Build an instance of the given request or response class from its JSON form.
+     */
+    static <T extends SdkPojo> T fromJson(final Class<T> type, final JsonNode node) {
+        final SdkPojo builder;
+        try {
+            builder = (SdkPojo) type.getMethod("builder").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(type.getName() + " has no builder", e);
+        }
+        return type.cast(build(builder, node));
+    }
+
+    private static JsonNode toJson(final SdkField<?> field, final Object value) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return toJson((SdkPojo) value);
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+            final ArrayNode array = MAPPER.createArrayNode();
+            for (final Object member : (List<?>) value) {
+                array.add(member == null ? MAPPER.nullNode() : toJson(memberField, member));
+            }
+            return array;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> valueField = field.getTrait(MapTrait.class).valueFieldInfo();
+            final ObjectNode map = MAPPER.createObjectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.set(String.valueOf(entry.getKey()),
+                        entry.getValue() == null ? MAPPER.nullNode() : toJson(valueField, entry.getValue()));
+            }
+            return map;
+        }
+        if (type == MarshallingType.INSTANT) {
+            return TextNode.valueOf(value.toString());
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return TextNode.valueOf(Base64.getEncoder().encodeToString(((SdkBytes) value).asByteArray()));
+        }
+        return MAPPER.valueToTree(value);
+    }
+
+    private static SdkPojo build(final SdkPojo builder, final JsonNode node) {
+        for (final SdkField<?> field : builder.sdkFields()) {
+            final JsonNode value = node.get(field.memberName());
+            if (value != null && !value.isNull()) {
+                field.set(builder, fromJson(field, value));
+            }
+        }
+        return (SdkPojo) ((Buildable) builder).build();
+    }
+
+    private static Object fromJson(final SdkField<?> field, final JsonNode node) {
+        if (node.isNull()) {
+            return null;
+        }
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return build(field.constructor().get(), node);
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+            final List<Object> list = new ArrayList<>();
+            for (final JsonNode member : node) {
+                list.add(fromJson(memberField, member));
+            }
+            return list;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> valueField = field.getTrait(MapTrait.class).valueFieldInfo();
+            final Map<String, Object> map = new LinkedHashMap<>();
+            for (final Iterator<Map.Entry<String, JsonNode>> entries = node.fields(); entries.hasNext(); ) {
+                final Map.Entry<String, JsonNode> entry = entries.next();
+                map.put(entry.getKey(), fromJson(valueField, entry.getValue()));
+            }
+            return map;
+        }
+        if (type == MarshallingType.INSTANT) {
+            return Instant.parse(node.asText());
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return SdkBytes.fromByteArray(Base64.getDecoder().decode(node.asText()));
+        }
+        if (type == MarshallingType.BOOLEAN) {
+            return node.asBoolean();
+        }
+        if (type == MarshallingType.INTEGER) {
+            return node.asInt();
+        }
+        if (type == MarshallingType.LONG) {
+            return node.asLong();
+        }
+        if (type == MarshallingType.FLOAT) {
+            return (float) node.asDouble();
+        }
+        if (type == MarshallingType.DOUBLE) {
+            return node.asDouble();
+        }
+        if (type == MarshallingType.BIG_DECIMAL) {
+            return node.decimalValue();
+        }
+        return node.asText();
+    }
+}
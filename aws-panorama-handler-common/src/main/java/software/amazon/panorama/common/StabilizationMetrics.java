@@ -0,0 +1,44 @@
+package software.amazon.panorama.common;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * How many times a resource was polled until it stabilized, and how long the waits between polls added up to,
+ * published as one CloudWatch Embedded Metric Format (EMF) line when the stabilization ends. The counts come from the
+ * CallbackContext, so a stabilization spread over several invocations is reported once, with its totals.
+ */
+public class StabilizationMetrics {
+    private StabilizationMetrics() {
+    }
+
+    /**
+     * @param outcome whether the resource stabilized or failed to, e.g. the status it ended in
+     */
+    public static void publish(final Logger logger,
+                               final String resourceType,
+                               final String outcome,
+                               final int polls,
+                               final int elapsedSeconds) {
+        logger.log(toEmfLine(System.currentTimeMillis(), resourceType, outcome, polls, elapsedSeconds));
+    }
+
+    static String toEmfLine(final long timestamp,
+                            final String resourceType,
+                            final String outcome,
+                            final int polls,
+                            final int elapsedSeconds) {
+        return new StringBuilder(256)
+                .append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":").append(ApiCallMetrics.quote(ApiCallMetrics.NAMESPACE))
+                .append(",\"Dimensions\":[[\"ResourceType\"]],\"Metrics\":[")
+                .append("{\"Name\":\"StabilizationPolls\",\"Unit\":\"Count\"}")
+                .append(",{\"Name\":\"StabilizationTime\",\"Unit\":\"Seconds\"}")
+                .append("]}]}")
+                .append(",\"ResourceType\":").append(ApiCallMetrics.quote(resourceType))
+                .append(",\"Outcome\":").append(ApiCallMetrics.quote(outcome))
+                .append(",\"StabilizationPolls\":").append(polls)
+                .append(",\"StabilizationTime\":").append(elapsedSeconds)
+                .append('}')
+                .toString();
+    }
+}
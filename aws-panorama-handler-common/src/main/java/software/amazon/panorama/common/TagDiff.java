@@ -0,0 +1,59 @@
+package software.amazon.panorama.common;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tags to add and to remove to turn a resource's previous tags into its desired ones, for the TagResource and
+ * UntagResource calls of an update.
+ *
+ * Tags are matched by key, so a tag whose value changed is only tagged again with the new value. Untagging it as well
+ * would remove the key that was just tagged.
+ */
+public class TagDiff<TagT> {
+    private final Set<TagT> tagsToAdd;
+    private final Set<TagT> tagsToRemove;
+
+    private TagDiff(final Set<TagT> tagsToAdd, final Set<TagT> tagsToRemove) {
+        this.tagsToAdd = tagsToAdd;
+        this.tagsToRemove = tagsToRemove;
+    }
+
+    /**
+     * @param previous the tags before the update, null when there were none
+     * @param desired the tags after the update, null when there are none
+     * @param key the key of a tag
+     */
+    public static <TagT> TagDiff<TagT> of(final Collection<TagT> previous,
+                                          final Collection<TagT> desired,
+                                          final Function<TagT, String> key) {
+        final Collection<TagT> previousTags = previous == null ? Collections.emptySet() : previous;
+        final Collection<TagT> desiredTags = desired == null ? Collections.emptySet() : desired;
+
+        final Set<TagT> tagsToAdd = new LinkedHashSet<>(desiredTags);
+        tagsToAdd.removeAll(previousTags);
+
+        final Set<String> desiredKeys = desiredTags.stream().map(key).collect(Collectors.toSet());
+        final Set<TagT> tagsToRemove = previousTags.stream()
+                .filter(tag -> !desiredKeys.contains(key.apply(tag)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return new TagDiff<>(tagsToAdd, tagsToRemove);
+    }
+
+    public Set<TagT> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    public Set<TagT> getTagsToRemove() {
+        return tagsToRemove;
+    }
+
+    public boolean isEmpty() {
+        return tagsToAdd.isEmpty() && tagsToRemove.isEmpty();
+    }
+}
@@ -0,0 +1,246 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveRateLimiterTest {
+    private static final String DESCRIBE = "DescribeApplicationInstance";
+    private static final String CREATE = "CreateApplicationInstance";
+
+    // a fleet rollout: concurrent handlers each making a few sequential describes against a service accepting 4/s,
+    // where a throttled call fails the invocation and CloudFormation re-invokes it later
+    private static final int CONCURRENT_HANDLERS = 20;
+    private static final int CALLS_PER_INVOCATION = 4;
+    private static final double SERVICE_RATE = 4.0;
+    private static final long CALL_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
+    private static final long REINVOKE_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5L);
+    private static final long SIMULATED_NANOS = TimeUnit.MINUTES.toNanos(10L);
+
+    private final FakeClock clock = new FakeClock();
+    private final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(clock);
+
+    @Test
+    void testReserve_waitsOnceBurstIsSpent() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.reserve(DESCRIBE)).isEqualTo(0L);
+        }
+
+        assertThat(rateLimiter.reserve(DESCRIBE)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+        assertThat(rateLimiter.reserve(DESCRIBE)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200L));
+    }
+
+    @Test
+    void testReserve_familiesHaveSeparateBudgets() {
+        rateLimiter.reserve(CREATE);
+        rateLimiter.reserve(CREATE);
+
+        assertThat(rateLimiter.reserve(CREATE)).isGreaterThan(0L);
+        assertThat(rateLimiter.reserve(DESCRIBE)).isEqualTo(0L);
+        assertThat(rateLimiter.reserve("RemoveApplicationInstance")).isEqualTo(0L);
+    }
+
+    @Test
+    void testAcquire_sleepsOnTheClock() {
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire(DESCRIBE);
+        }
+
+        assertThat(clock.now).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+    }
+
+    @Test
+    void testOnThrottle_decreasesOncePerInterval() {
+        rateLimiter.onThrottle(DESCRIBE);
+        rateLimiter.onThrottle(DESCRIBE);
+        assertThat(rateLimiter.rate(DESCRIBE)).isCloseTo(7.0, within(1e-9));
+
+        clock.now += AdaptiveRateLimiter.DECREASE_INTERVAL_NANOS;
+        rateLimiter.onThrottle(DESCRIBE);
+        // 7.0 recovered by half a token during the interval, then decreased
+        assertThat(rateLimiter.rate(DESCRIBE)).isCloseTo(7.5 * AdaptiveRateLimiter.DECREASE_FACTOR, within(1e-9));
+
+        assertThat(rateLimiter.rate(CREATE)).isEqualTo(AdaptiveRateLimiter.ApiFamily.CREATE.getMaxRate());
+    }
+
+    @Test
+    void testOnThrottle_neverStopsTraffic() {
+        for (int i = 0; i < 50; i++) {
+            rateLimiter.onThrottle(CREATE);
+            clock.now += AdaptiveRateLimiter.DECREASE_INTERVAL_NANOS;
+        }
+
+        assertThat(rateLimiter.rate(CREATE)).isGreaterThanOrEqualTo(AdaptiveRateLimiter.MIN_RATE);
+    }
+
+    @Test
+    void testRate_recoversThenProbes() {
+        rateLimiter.onThrottle(DESCRIBE);
+
+        clock.now += TimeUnit.SECONDS.toNanos(2L);
+        assertThat(rateLimiter.rate(DESCRIBE)).isCloseTo(8.0, within(1e-9));
+
+        // quick recovery stops just below the rate that got throttled, then probing is slow
+        clock.now += TimeUnit.SECONDS.toNanos(4L);
+        assertThat(rateLimiter.rate(DESCRIBE)).isCloseTo(9.1, within(1e-9));
+
+        clock.now += TimeUnit.MINUTES.toNanos(1L);
+        assertThat(rateLimiter.rate(DESCRIBE)).isEqualTo(AdaptiveRateLimiter.ApiFamily.DESCRIBE.getMaxRate());
+    }
+
+    @Test
+    void testApiFamily() {
+        assertThat(AdaptiveRateLimiter.ApiFamily.of("DescribePackageVersion")).isEqualTo(AdaptiveRateLimiter.ApiFamily.DESCRIBE);
+        assertThat(AdaptiveRateLimiter.ApiFamily.of("CreateApplicationInstance")).isEqualTo(AdaptiveRateLimiter.ApiFamily.CREATE);
+        assertThat(AdaptiveRateLimiter.ApiFamily.of("RegisterPackageVersion")).isEqualTo(AdaptiveRateLimiter.ApiFamily.REGISTER);
+        assertThat(AdaptiveRateLimiter.ApiFamily.of("DeregisterPackageVersion")).isEqualTo(AdaptiveRateLimiter.ApiFamily.DELETE);
+        assertThat(AdaptiveRateLimiter.ApiFamily.of("RemoveApplicationInstance")).isEqualTo(AdaptiveRateLimiter.ApiFamily.DELETE);
+        assertThat(AdaptiveRateLimiter.ApiFamily.of("ListPackages")).isEqualTo(AdaptiveRateLimiter.ApiFamily.OTHER);
+    }
+
+    @Test
+    void testAcquire_failsRatherThanWaitingPastMaxWait() {
+        // concurrent callers took the tokens of the next MAX_WAIT on credit
+        long waitNanos = 0L;
+        while (waitNanos < AdaptiveRateLimiter.MAX_WAIT_NANOS) {
+            waitNanos = rateLimiter.reserve(CREATE);
+        }
+
+        assertThrows(CfnThrottlingException.class, () -> rateLimiter.acquire(CREATE));
+        assertThat(clock.now).isEqualTo(0L);
+
+        // the refused caller took no token, so the next one fits once a token's worth of time passed
+        clock.now += TimeUnit.MILLISECONDS.toNanos(500L);
+        rateLimiter.acquire(CREATE);
+        assertThat(clock.now).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500L) + AdaptiveRateLimiter.MAX_WAIT_NANOS);
+    }
+
+    @Test
+    void testForAccount_sharesLimiterPerAccountAndRegion() {
+        assertThat(AdaptiveRateLimiter.forAccount("123456789012", "us-west-2"))
+                .isSameAs(AdaptiveRateLimiter.forAccount("123456789012", "us-west-2"));
+        assertThat(AdaptiveRateLimiter.forAccount("123456789012", "us-west-2"))
+                .isNotSameAs(AdaptiveRateLimiter.forAccount("123456789012", "us-east-1"));
+        assertThat(AdaptiveRateLimiter.forAccount("123456789012", "us-west-2"))
+                .isNotSameAs(AdaptiveRateLimiter.forAccount("210987654321", "us-west-2"));
+        assertThat(AdaptiveRateLimiter.forAccount(null, null)).isSameAs(AdaptiveRateLimiter.forAccount(null, null));
+    }
+
+    @Test
+    void testSimulatedLoad_sustainsHigherThroughput() {
+        final Simulation unlimited = simulate(false);
+        final Simulation limited = simulate(true);
+
+        assertThat(limited.completed).isGreaterThan(unlimited.completed * 2);
+        assertThat(limited.throttled).isLessThan(unlimited.throttled / 10);
+        // most of the service's capacity goes into invocations that complete
+        assertThat(limited.completed * CALLS_PER_INVOCATION)
+                .isGreaterThan((long) (SERVICE_RATE * TimeUnit.NANOSECONDS.toSeconds(SIMULATED_NANOS) * 0.7));
+    }
+
+    private static Simulation simulate(final boolean limited) {
+        final FakeClock clock = new FakeClock();
+        final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(clock);
+        final ThrottlingStandIn service = new ThrottlingStandIn(SERVICE_RATE);
+        final Simulation simulation = new Simulation();
+
+        final PriorityQueue<Handler> handlers = new PriorityQueue<>(Comparator.comparingLong((Handler handler) -> handler.readyAt));
+        final Random random = new Random(11L);
+        for (int i = 0; i < CONCURRENT_HANDLERS; i++) {
+            final Handler handler = new Handler();
+            handler.readyAt = (long) (random.nextDouble() * REINVOKE_DELAY_NANOS);
+            handlers.add(handler);
+        }
+
+        while (handlers.peek().readyAt < SIMULATED_NANOS) {
+            final Handler handler = handlers.poll();
+            clock.now = handler.readyAt;
+
+            if (limited && !handler.holdsToken) {
+                final long waitNanos = rateLimiter.reserve(DESCRIBE);
+                if (waitNanos > 0) {
+                    handler.holdsToken = true;
+                    handler.readyAt = clock.now + waitNanos;
+                    handlers.add(handler);
+                    continue;
+                }
+            }
+            handler.holdsToken = false;
+
+            if (service.accept(clock.now)) {
+                handler.calls++;
+                if (handler.calls == CALLS_PER_INVOCATION) {
+                    simulation.completed++;
+                    handler.calls = 0;
+                }
+                handler.readyAt = clock.now + CALL_LATENCY_NANOS;
+            } else {
+                simulation.throttled++;
+                if (limited) {
+                    rateLimiter.onThrottle(DESCRIBE);
+                }
+                handler.calls = 0;
+                handler.readyAt = clock.now + REINVOKE_DELAY_NANOS;
+            }
+            handlers.add(handler);
+        }
+        return simulation;
+    }
+
+    private static class Simulation {
+        private long completed;
+        private long throttled;
+    }
+
+    private static class Handler {
+        private long readyAt;
+        private int calls;
+        private boolean holdsToken;
+    }
+
+    /**
+     * Local stand-in for a throttling Panorama endpoint: a token bucket rejecting calls beyond its rate.
+     */
+    private static class ThrottlingStandIn {
+        private final double rate;
+        private double tokens;
+        private long lastNanos;
+
+        ThrottlingStandIn(final double rate) {
+            this.rate = rate;
+            this.tokens = rate;
+        }
+
+        boolean accept(final long now) {
+            tokens = Math.min(rate, tokens + rate * (now - lastNanos) / TimeUnit.SECONDS.toNanos(1L));
+            lastNanos = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+
+    private static class FakeClock implements AdaptiveRateLimiter.Clock {
+        private long now;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleep(final long nanos) {
+            now += nanos;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApiCallMetricsTest {
+    private static final String RESOURCE_TYPE = "AWS::Panorama::ApplicationInstance";
+
+    @Test
+    void testToEmfLines_noCalls() {
+        assertThat(new ApiCallMetrics(RESOURCE_TYPE).toEmfLines(0L)).isEmpty();
+    }
+
+    @Test
+    void testToEmfLines_onePerOperation() {
+        final ApiCallMetrics metrics = new ApiCallMetrics(RESOURCE_TYPE);
+        metrics.record("OPERATION_A", 12L, 0, false, null);
+        metrics.record("OPERATION_A", 30L, 2, true, new IllegalStateException());
+        metrics.record("OPERATION_B", 7L, 0, false, null);
+
+        final List<String> lines = metrics.toEmfLines(1000L);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0))
+                .startsWith("{\"_aws\":{\"Timestamp\":1000,\"CloudWatchMetrics\":[{\"Namespace\":\"" + ApiCallMetrics.NAMESPACE + "\"")
+                .contains("\"Dimensions\":[[\"ResourceType\",\"Operation\"]]")
+                .contains("\"ResourceType\":\"" + RESOURCE_TYPE + "\"")
+                .contains("\"Operation\":\"OPERATION_A\"")
+                .contains("\"Latency\":[12, 30]")
+                .contains("\"CallCount\":2")
+                .contains("\"RetryCount\":2")
+                .contains("\"ThrottleCount\":1")
+                .contains("\"ErrorCount\":1")
+                .contains("\"Exceptions\":{\"IllegalStateException\":1}")
+                .endsWith("}");
+        assertThat(lines.get(1))
+                .contains("\"Operation\":\"OPERATION_B\"")
+                .contains("\"Latency\":[7]")
+                .contains("\"ErrorCount\":0")
+                .contains("\"Exceptions\":{}");
+    }
+
+    @Test
+    void testToEmfLines_splitsLatenciesAtEmfLimit() {
+        final ApiCallMetrics metrics = new ApiCallMetrics(RESOURCE_TYPE);
+        final int calls = ApiCallMetrics.MAX_VALUES_PER_LINE + 50;
+        for (int i = 0; i < calls; i++) {
+            metrics.record("OPERATION_A", i, 0, false, null);
+        }
+
+        final List<String> lines = metrics.toEmfLines(0L);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"CallCount\":" + calls);
+        assertThat(lines.get(1))
+                .contains("\"Latency\":[100, ")
+                .doesNotContain("CallCount");
+    }
+}
@@ -0,0 +1,179 @@
+package software.amazon.panorama.common;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.panorama.PanoramaAsyncClient;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ListPackagesRequest;
+import software.amazon.awssdk.services.panorama.model.ListPackagesResponse;
+import software.amazon.awssdk.services.panorama.model.PanoramaException;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClientBuilderTest {
+
+    @Test
+    void testGetClient_reusesClientPerRegion() {
+        final PanoramaClient first = ClientBuilder.getClient("us-west-2");
+
+        assertThat(ClientBuilder.getClient("us-west-2")).isSameAs(first);
+        assertThat(ClientBuilder.getClient("us-east-1")).isNotSameAs(first);
+    }
+
+    @Test
+    void testGetClient_concurrentCallersShareOneClient() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<PanoramaClient>> clients = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 32; i++) {
+                clients.add(executor.submit(() -> ClientBuilder.getClient("eu-west-1")));
+            }
+            for (final Future<PanoramaClient> client : clients) {
+                assertThat(client.get(10, TimeUnit.SECONDS)).isSameAs(ClientBuilder.getClient("eu-west-1"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetAsyncClient_reusesClientPerRegion() {
+        final PanoramaAsyncClient first = ClientBuilder.getAsyncClient("us-west-2");
+
+        assertThat(ClientBuilder.getAsyncClient("us-west-2")).isSameAs(first);
+        assertThat(ClientBuilder.getAsyncClient("us-east-1")).isNotSameAs(first);
+    }
+
+    @Test
+    void testGetClient_endpointOverride() throws Exception {
+        final AtomicReference<String> path = new AtomicReference<>();
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            path.set(exchange.getRequestURI().getPath());
+            final byte[] body = "{\"Packages\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        System.setProperty(ClientBuilder.ENDPOINT_PROPERTY, "http://localhost:" + server.getAddress().getPort());
+        try {
+            // a region no other test builds a client for, the clients are cached per region
+            ClientBuilder.getClient("ap-southeast-2").listPackages(ListPackagesRequest.builder()
+                    .overrideConfiguration(c -> c.credentialsProvider(
+                            StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey"))))
+                    .build());
+        } finally {
+            System.clearProperty(ClientBuilder.ENDPOINT_PROPERTY);
+            server.stop(0);
+        }
+
+        assertThat(path.get()).isEqualTo("/packages");
+    }
+
+    @Test
+    void testGetClient_leavesThrottledCallsToTheRateLimiter() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger status = new AtomicInteger(429);
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            final byte[] body = "{\"message\":\"Rate exceeded\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("x-amzn-ErrorType", status.get() == 429 ? "ThrottlingException" : "InternalServerException");
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        System.setProperty(ClientBuilder.ENDPOINT_PROPERTY, "http://localhost:" + server.getAddress().getPort());
+        try {
+            // a region no other test builds a client for, the clients are cached per region
+            final PanoramaClient client = ClientBuilder.getClient("ca-central-1");
+            final ListPackagesRequest request = ListPackagesRequest.builder()
+                    .overrideConfiguration(c -> c.credentialsProvider(
+                            StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey"))))
+                    .build();
+
+            final PanoramaException throttled = assertThrows(PanoramaException.class, () -> client.listPackages(request));
+            assertThat(throttled.isThrottlingException()).isTrue();
+            assertThat(requests.get()).isEqualTo(1);
+
+            // other failures are still retried by the SDK
+            status.set(500);
+            requests.set(0);
+            assertThrows(PanoramaException.class, () -> client.listPackages(request));
+            assertThat(requests.get()).isGreaterThan(1);
+        } finally {
+            System.clearProperty(ClientBuilder.ENDPOINT_PROPERTY);
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testGetAsyncClient_countsAttempts() throws Exception {
+        final AtomicInteger requests = new AtomicInteger();
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            final byte[] body = "{\"message\":\"Internal error\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("x-amzn-ErrorType", "InternalServerException");
+            exchange.sendResponseHeaders(500, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        System.setProperty(ClientBuilder.ENDPOINT_PROPERTY, "http://localhost:" + server.getAddress().getPort());
+        try {
+            // a region no other test builds a client for, the clients are cached per region
+            final PanoramaAsyncClient client = ClientBuilder.getAsyncClient("eu-central-1");
+            final ListPackagesRequest request = ListPackagesRequest.builder()
+                    .overrideConfiguration(c -> c.credentialsProvider(
+                            StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey"))))
+                    .build();
+
+            final AtomicInteger attempts = AttemptCountingInterceptor.start();
+            final CompletableFuture<ListPackagesResponse> future;
+            try {
+                future = client.listPackages(request);
+            } finally {
+                AttemptCountingInterceptor.stop();
+            }
+            assertThrows(CompletionException.class, future::join);
+
+            // the retries happen on the threads of the async client, they are counted all the same
+            assertThat(requests.get()).isGreaterThan(1);
+            assertThat(attempts.get()).isEqualTo(requests.get());
+        } finally {
+            System.clearProperty(ClientBuilder.ENDPOINT_PROPERTY);
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package software.amazon.panorama.common;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.CreatePackageRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribePackageVersionRequest;
+import software.amazon.awssdk.services.panorama.model.ManifestPayload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorDescriptorTest {
+    private static final String MANIFEST = "{\"nodeGraph\":{\"nodes\":[]}}";
+
+    @Test
+    void testDescribe_keepsShortFields() {
+        final DescribeApplicationInstanceRequest request = DescribeApplicationInstanceRequest.builder()
+                .applicationInstanceId("applicationInstance-1")
+                .build();
+
+        assertThat(ErrorDescriptor.describe("DescribeApplicationInstance", "applicationInstance-1", request))
+                .isEqualTo("DescribeApplicationInstance [applicationInstance-1] ApplicationInstanceId=applicationInstance-1");
+    }
+
+    @Test
+    void testDescribe_keepsFieldOrder() {
+        final DescribePackageVersionRequest request = DescribePackageVersionRequest.builder()
+                .packageId("package-1")
+                .packageVersion("1.0")
+                .patchVersion("patch-1")
+                .build();
+
+        assertThat(ErrorDescriptor.describe("DescribePackageVersion", "package-1", request))
+                .isEqualTo("DescribePackageVersion [package-1] PackageId=package-1, PackageVersion=1.0, PatchVersion=patch-1");
+    }
+
+    @Test
+    void testDescribe_summarizesCollectionsAndLongValues() {
+        final StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            name.append('n');
+        }
+        final CreatePackageRequest request = CreatePackageRequest.builder()
+                .packageName(name.toString())
+                .tags(ImmutableMap.of("key1", "value1"))
+                .build();
+
+        assertThat(ErrorDescriptor.describe("CreatePackage", null, request))
+                .startsWith("CreatePackage PackageName=<100 bytes sha256:")
+                .endsWith("Tags=<1 entries>")
+                .doesNotContain("value1")
+                .doesNotContain(name.toString());
+    }
+
+    @Test
+    void testDescribe_hashesPayloads() {
+        final CreateApplicationInstanceRequest request = CreateApplicationInstanceRequest.builder()
+                .name("application")
+                .defaultRuntimeContextDevice("device-1")
+                .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST).build())
+                .tags(ImmutableMap.of("key1", "value1", "key2", "value2"))
+                .build();
+
+        assertThat(ErrorDescriptor.describe("CreateApplicationInstance", null, request))
+                .startsWith("CreateApplicationInstance ")
+                .contains("Name=application")
+                .contains("DefaultRuntimeContextDevice=device-1")
+                .contains("ManifestPayload.PayloadData=<26 bytes sha256:56523e443a33>")
+                .contains("Tags=<2 entries>")
+                .doesNotContain("nodeGraph")
+                .doesNotContain("value1");
+    }
+
+    @Test
+    void testDescribe_isBounded() {
+        final StringBuilder manifest = new StringBuilder();
+        final StringBuilder description = new StringBuilder();
+        for (int i = 0; i < 51200; i++) {
+            manifest.append('x');
+        }
+        for (int i = 0; i < 60; i++) {
+            description.append('d');
+        }
+
+        final CreateApplicationInstanceRequest request = CreateApplicationInstanceRequest.builder()
+                .name("application")
+                .description(description.toString() + description + description)
+                .manifestPayload(ManifestPayload.builder().payloadData(manifest.toString()).build())
+                .build();
+
+        final String descriptor = ErrorDescriptor.describe("CreateApplicationInstance", null, request);
+
+        assertThat(descriptor.length()).isLessThanOrEqualTo(ErrorDescriptor.MAX_LENGTH);
+        assertThat(descriptor)
+                .contains("ManifestPayload.PayloadData=<51200 bytes sha256:")
+                // long values other than payloads are hashed as well
+                .contains("Description=<180 bytes sha256:");
+    }
+
+    @Test
+    void testDescribe_capsLongIdentifiers() {
+        final StringBuilder id = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            id.append('i');
+        }
+
+        assertThat(ErrorDescriptor.describe("DescribePackageVersion", id.toString(), null))
+                .hasSize(ErrorDescriptor.MAX_LENGTH)
+                .endsWith("...");
+    }
+
+    @Test
+    void testDescribe_withoutRequest() {
+        assertThat(ErrorDescriptor.describe("ListApplicationInstances", null, null)).isEqualTo("ListApplicationInstances");
+    }
+}
@@ -0,0 +1,101 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.ManifestOverridesPayload;
+import software.amazon.awssdk.services.panorama.model.ManifestPayload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoggerWrapperTest {
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    void testLog_writesJsonRecord() {
+        new LoggerWrapper(lines::add, LoggerWrapper.Level.INFO)
+                .info("ApplicationInstance deployed", "ApplicationInstanceId", "applicationInstance-1", "Attempt", 2);
+
+        assertThat(lines).containsExactly("{\"level\":\"INFO\",\"message\":\"ApplicationInstance deployed\","
+                + "\"ApplicationInstanceId\":\"applicationInstance-1\",\"Attempt\":\"2\"}\n");
+    }
+
+    @Test
+    void testLog_escapesValues() {
+        new LoggerWrapper(lines::add, LoggerWrapper.Level.INFO).error("failed", "Reason", "a \"quoted\"\nvalue\\");
+
+        assertThat(lines.get(0)).contains("\"Reason\":\"a \\\"quoted\\\"\\nvalue\\\\\"");
+    }
+
+    @Test
+    void testLog_disabledLevelRendersNothing() {
+        final LoggerWrapper logger = new LoggerWrapper(lines::add, LoggerWrapper.Level.ERROR);
+        final Supplier<String> value = () -> {
+            throw new AssertionError("a disabled record must not render its values");
+        };
+
+        logger.info("deployed", "Value", value);
+        logger.debug("checking", "Value", value);
+
+        assertThat(lines).isEmpty();
+        assertThat(logger.isEnabled(LoggerWrapper.Level.ERROR)).isTrue();
+        assertThat(logger.isEnabled(LoggerWrapper.Level.INFO)).isFalse();
+    }
+
+    @Test
+    void testLog_offDisablesEverything() {
+        new LoggerWrapper(lines::add, LoggerWrapper.Level.OFF).error("failed");
+
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    void testRender_resolvesSuppliers() {
+        assertThat(LoggerWrapper.render((Supplier<String>) () -> "computed")).isEqualTo("computed");
+        assertThat(LoggerWrapper.render(null)).isEqualTo("null");
+    }
+
+    @Test
+    void testRender_capsLongValues() {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            value.append('x');
+        }
+
+        assertThat(LoggerWrapper.render(value.toString()))
+                .hasSize(LoggerWrapper.MAX_VALUE_LENGTH + "...(truncated)".length())
+                .endsWith("...(truncated)");
+    }
+
+    @Test
+    void testRender_redactsManifestPayloads() {
+        final CreateApplicationInstanceRequest request = CreateApplicationInstanceRequest.builder()
+                .name("application")
+                .defaultRuntimeContextDevice("device-1")
+                .manifestPayload(ManifestPayload.builder().payloadData("{\"secret\":\"manifest\"}").build())
+                .manifestOverridesPayload(ManifestOverridesPayload.builder().payloadData("{\"secret\":\"overrides\"}").build())
+                .build();
+
+        final String rendered = LoggerWrapper.render(request);
+
+        assertThat(rendered)
+                .startsWith("CreateApplicationInstanceRequest(")
+                .contains("Name=application")
+                .contains("DefaultRuntimeContextDevice=device-1")
+                .contains("ManifestPayload=ManifestPayload(PayloadData=<redacted 21 chars>)")
+                .contains("ManifestOverridesPayload=ManifestOverridesPayload(PayloadData=<redacted 22 chars>)")
+                .doesNotContain("secret")
+                .doesNotContain("Tags");
+    }
+
+    @Test
+    void testLevel_fromName() {
+        assertThat(LoggerWrapper.Level.fromName("debug")).isEqualTo(LoggerWrapper.Level.DEBUG);
+        assertThat(LoggerWrapper.Level.fromName("OFF")).isEqualTo(LoggerWrapper.Level.OFF);
+        assertThat(LoggerWrapper.Level.fromName(null)).isEqualTo(LoggerWrapper.Level.INFO);
+        assertThat(LoggerWrapper.Level.fromName("verbose")).isEqualTo(LoggerWrapper.Level.INFO);
+    }
+}
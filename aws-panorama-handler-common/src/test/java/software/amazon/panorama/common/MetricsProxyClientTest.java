@@ -0,0 +1,131 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetricsProxyClientTest {
+    private static final String RESOURCE_TYPE = "AWS::Panorama::ApplicationInstance";
+    private final ApiCallMetrics metrics = new ApiCallMetrics(RESOURCE_TYPE);
+    private final MetricsProxyClient<PanoramaClient> proxyClient = new MetricsProxyClient<>(new ProxyClient<PanoramaClient>() {
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResponseT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT request,
+                final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public PanoramaClient client() {
+            return null;
+        }
+    }, metrics);
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_recordsRetries() {
+        final AttemptCountingInterceptor interceptor = new AttemptCountingInterceptor();
+
+        final DescribeApplicationInstanceResponse response = proxyClient.injectCredentialsAndInvokeV2(DescribeApplicationInstanceRequest.builder().build(), request -> {
+            // the SDK transmits twice, i.e. retries once
+            final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+            interceptor.beforeExecution(null, executionAttributes);
+            interceptor.beforeTransmission(null, executionAttributes);
+            interceptor.beforeTransmission(null, executionAttributes);
+            return DescribeApplicationInstanceResponse.builder().build();
+        });
+
+        assertThat(response).isNotNull();
+        final List<String> lines = metrics.toEmfLines(0L);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .contains("\"Operation\":\"DescribeApplicationInstance\"")
+                .contains("\"CallCount\":1")
+                .contains("\"RetryCount\":1")
+                .contains("\"ErrorCount\":0");
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_recordsThrottling() {
+        final AwsServiceException throttled = AwsServiceException.builder().statusCode(429).build();
+
+        final AwsServiceException thrown = assertThrows(AwsServiceException.class, () ->
+                proxyClient.injectCredentialsAndInvokeV2(DescribeApplicationInstanceRequest.builder().build(), request -> {
+                    throw throttled;
+                }));
+
+        assertThat(thrown).isSameAs(throttled);
+        assertThat(metrics.toEmfLines(0L).get(0))
+                .contains("\"ThrottleCount\":1")
+                .contains("\"ErrorCount\":1")
+                .contains("\"Exceptions\":{\"AwsServiceException\":1}");
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2Async_recordsOnCompletion() {
+        final CompletableFuture<DescribeApplicationInstanceResponse> pending = new CompletableFuture<>();
+
+        final CompletableFuture<DescribeApplicationInstanceResponse> future =
+                proxyClient.injectCredentialsAndInvokeV2Async(DescribeApplicationInstanceRequest.builder().build(), request -> pending);
+
+        assertThat(future).isSameAs(pending);
+        assertThat(metrics.toEmfLines(0L)).isEmpty();
+
+        pending.completeExceptionally(new CompletionException(AwsServiceException.builder().build()));
+
+        assertThat(metrics.toEmfLines(0L).get(0))
+                .contains("\"Operation\":\"DescribeApplicationInstance\"")
+                .contains("\"ErrorCount\":1")
+                .contains("\"Exceptions\":{\"AwsServiceException\":1}");
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2Async_recordsRetriesTransmittedOnOtherThreads() {
+        final AttemptCountingInterceptor interceptor = new AttemptCountingInterceptor();
+        final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        final CompletableFuture<DescribeApplicationInstanceResponse> pending = new CompletableFuture<>();
+
+        proxyClient.injectCredentialsAndInvokeV2Async(DescribeApplicationInstanceRequest.builder().build(), request -> {
+            interceptor.beforeExecution(null, executionAttributes);
+            return pending;
+        });
+
+        // the async client transmits on its own threads, three times, i.e. retries twice
+        CompletableFuture.runAsync(() -> {
+            interceptor.beforeTransmission(null, executionAttributes);
+            interceptor.beforeTransmission(null, executionAttributes);
+            interceptor.beforeTransmission(null, executionAttributes);
+            pending.complete(DescribeApplicationInstanceResponse.builder().build());
+        }).join();
+
+        assertThat(metrics.toEmfLines(0L).get(0))
+                .contains("\"CallCount\":1")
+                .contains("\"RetryCount\":2")
+                .contains("\"ErrorCount\":0");
+    }
+
+    @Test
+    void testOperationName() {
+        assertThat(MetricsProxyClient.operationName(DescribeApplicationInstanceRequest.builder().build())).isEqualTo("DescribeApplicationInstance");
+    }
+}
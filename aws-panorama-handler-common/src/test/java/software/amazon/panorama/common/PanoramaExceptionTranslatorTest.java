@@ -0,0 +1,74 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.panorama.model.ConflictException;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.InternalServerException;
+import software.amazon.awssdk.services.panorama.model.ManifestPayload;
+import software.amazon.awssdk.services.panorama.model.PanoramaException;
+import software.amazon.awssdk.services.panorama.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PanoramaExceptionTranslatorTest {
+    private static final String RESOURCE_TYPE = "AWS::Panorama::ApplicationInstance";
+    private static final String OPERATION = "CreateApplicationInstance";
+    private static final String MANIFEST = "{\"nodeGraph\":{\"nodes\":[]}}";
+
+    private final CreateApplicationInstanceRequest request = CreateApplicationInstanceRequest.builder()
+            .name("application")
+            .manifestPayload(ManifestPayload.builder().payloadData(MANIFEST).build())
+            .build();
+
+    @Test
+    void testTranslate_validationExceptionCarriesDescriptorNotPayload() {
+        final ValidationException e = ValidationException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorMessage("Manifest is invalid").build())
+                .build();
+
+        final BaseHandlerException translated = translate(e);
+
+        assertThat(translated).isInstanceOf(CfnInvalidRequestException.class).hasCause(e);
+        assertThat(translated.getMessage())
+                .contains(ErrorDescriptor.describe(OPERATION, "application", request))
+                .contains("Manifest is invalid")
+                .doesNotContain("nodeGraph");
+    }
+
+    @Test
+    void testTranslate_validationExceptionWithoutDetails() {
+        final BaseHandlerException translated = translate(ValidationException.builder().build());
+
+        assertThat(translated).isInstanceOf(CfnInvalidRequestException.class);
+        assertThat(translated.getMessage()).contains("PayloadData=<26 bytes sha256:");
+    }
+
+    @Test
+    void testTranslate_otherExceptions() {
+        assertThat(translate(ConflictException.builder().build())).isInstanceOf(CfnResourceConflictException.class);
+        assertThat(translate(InternalServerException.builder().build())).isInstanceOf(CfnInternalFailureException.class);
+        assertThat(translate(PanoramaException.builder().build())).isInstanceOf(CfnGeneralServiceException.class);
+    }
+
+    @Test
+    void testTranslate_throttlingIsRetriable() {
+        final PanoramaException throttled = PanoramaException.builder().statusCode(429).build();
+        final PanoramaException throttledByCode = PanoramaException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build();
+
+        assertThat(translate(throttled)).isInstanceOf(CfnThrottlingException.class).hasCause(throttled);
+        assertThat(translate(throttledByCode)).isInstanceOf(CfnThrottlingException.class);
+    }
+
+    private BaseHandlerException translate(final PanoramaException e) {
+        return PanoramaExceptionTranslator.translateForAPIException(e, OPERATION, RESOURCE_TYPE, "application", request);
+    }
+}
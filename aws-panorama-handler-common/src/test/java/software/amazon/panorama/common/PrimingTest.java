@@ -0,0 +1,70 @@
+package software.amazon.panorama.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribePackageRequest;
+import software.amazon.awssdk.services.panorama.model.DescribePackageResponse;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrimingTest {
+
+    @Test
+    void testLocalClient_answersFromMemory() {
+        try (PanoramaClient client = Priming.localClient("{\"PackageId\":\"package-1\",\"Tags\":{\"key\":\"value\"}}")) {
+            final DescribePackageResponse response = client.describePackage(DescribePackageRequest.builder().packageId("package-1").build());
+
+            assertThat(response.packageId()).isEqualTo("package-1");
+            assertThat(response.tags()).containsEntry("key", "value");
+        }
+    }
+
+    @Test
+    void testPrime_skipsFailingSteps() {
+        final AtomicInteger completed = new AtomicInteger();
+
+        Priming.prime(
+                () -> {
+                    throw new IllegalStateException("failed step");
+                },
+                completed::incrementAndGet,
+                () -> {
+                    throw new Exception("failed step");
+                },
+                completed::incrementAndGet,
+                () -> {
+                    // what a class stripped from a minimized jar looks like
+                    throw new NoClassDefFoundError("software/amazon/awssdk/Missing");
+                },
+                completed::incrementAndGet);
+
+        assertThat(completed.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testCheck_failsWithTheFailingStep() {
+        final AtomicInteger completed = new AtomicInteger();
+
+        assertThrows(NoClassDefFoundError.class, () -> Priming.check(
+                completed::incrementAndGet,
+                () -> {
+                    throw new NoClassDefFoundError("software/amazon/awssdk/Missing");
+                },
+                completed::incrementAndGet));
+
+        assertThat(completed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testSerializerRoundTrip() throws Exception {
+        final Map<String, String> model = ImmutableMap.of("key", "value");
+
+        assertThat(Priming.serializerRoundTrip(model, new TypeReference<Map<String, String>>() {})).isEqualTo(model);
+    }
+}
@@ -0,0 +1,146 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimitedProxyClientTest {
+    private static final String OPERATION = "DescribeApplicationInstance";
+
+    private long now;
+    private final AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(new AdaptiveRateLimiter.Clock() {
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleep(final long nanos) {
+            now += nanos;
+        }
+    });
+    private final RateLimitedProxyClient<PanoramaClient> proxyClient = new RateLimitedProxyClient<>(new ProxyClient<PanoramaClient>() {
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResponseT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT request,
+                final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public PanoramaClient client() {
+            return null;
+        }
+    }, rateLimiter);
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_waitsForToken() {
+        for (int i = 0; i < 11; i++) {
+            assertThat(proxyClient.injectCredentialsAndInvokeV2(DescribeApplicationInstanceRequest.builder().build(),
+                    request -> DescribeApplicationInstanceResponse.builder().build())).isNotNull();
+        }
+
+        assertThat(now).isGreaterThan(0L);
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_throttlingSlowsDown() {
+        final AwsServiceException throttled = AwsServiceException.builder().statusCode(429).build();
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final AwsServiceException thrown = assertThrows(AwsServiceException.class, () ->
+                proxyClient.injectCredentialsAndInvokeV2(DescribeApplicationInstanceRequest.builder().build(), request -> {
+                    attempts.incrementAndGet();
+                    throw throttled;
+                }));
+
+        assertThat(thrown).isSameAs(throttled);
+        assertThat(attempts.get()).isEqualTo(RateLimitedProxyClient.MAX_ATTEMPTS);
+        assertThat(rateLimiter.rate(OPERATION)).isLessThan(AdaptiveRateLimiter.ApiFamily.DESCRIBE.getMaxRate());
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_retriesThrottledAttemptWithAToken() {
+        final DescribeApplicationInstanceResponse described = DescribeApplicationInstanceResponse.builder().build();
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertThat(proxyClient.injectCredentialsAndInvokeV2(DescribeApplicationInstanceRequest.builder().build(), request -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw AwsServiceException.builder().statusCode(429).build();
+            }
+            return described;
+        })).isSameAs(described);
+
+        // the first attempt was reported at once, not after the SDK retried it
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(rateLimiter.rate(OPERATION)).isLessThan(AdaptiveRateLimiter.ApiFamily.DESCRIBE.getMaxRate());
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_otherFailuresKeepRate() {
+        assertThrows(AwsServiceException.class, () ->
+                proxyClient.injectCredentialsAndInvokeV2(DescribeApplicationInstanceRequest.builder().build(), request -> {
+                    throw AwsServiceException.builder().statusCode(500).build();
+                }));
+
+        assertThat(rateLimiter.rate(OPERATION)).isEqualTo(AdaptiveRateLimiter.ApiFamily.DESCRIBE.getMaxRate());
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2Async_throttlingSlowsDownOnCompletion() {
+        final List<CompletableFuture<DescribeApplicationInstanceResponse>> attempts = new ArrayList<>();
+        final DescribeApplicationInstanceResponse described = DescribeApplicationInstanceResponse.builder().build();
+
+        final CompletableFuture<DescribeApplicationInstanceResponse> future =
+                proxyClient.injectCredentialsAndInvokeV2Async(DescribeApplicationInstanceRequest.builder().build(), request -> {
+                    final CompletableFuture<DescribeApplicationInstanceResponse> attempt = new CompletableFuture<>();
+                    attempts.add(attempt);
+                    return attempt;
+                });
+
+        assertThat(attempts).hasSize(1);
+        assertThat(rateLimiter.rate(OPERATION)).isEqualTo(AdaptiveRateLimiter.ApiFamily.DESCRIBE.getMaxRate());
+
+        attempts.get(0).completeExceptionally(new CompletionException(AwsServiceException.builder().statusCode(429).build()));
+
+        assertThat(rateLimiter.rate(OPERATION)).isLessThan(AdaptiveRateLimiter.ApiFamily.DESCRIBE.getMaxRate());
+        assertThat(future).isNotDone();
+        assertThat(attempts).hasSize(2);
+
+        attempts.get(1).complete(described);
+
+        assertThat(future.join()).isSameAs(described);
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2Async_cancelCancelsTheAttempt() {
+        final CompletableFuture<DescribeApplicationInstanceResponse> pending = new CompletableFuture<>();
+
+        proxyClient.injectCredentialsAndInvokeV2Async(DescribeApplicationInstanceRequest.builder().build(), request -> pending)
+                .cancel(true);
+
+        assertThat(pending).isCancelled();
+    }
+}
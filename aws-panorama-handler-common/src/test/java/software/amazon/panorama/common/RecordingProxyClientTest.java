@@ -0,0 +1,113 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecordingProxyClientTest {
+    private static final String APPLICATION_INSTANCE_ID = "applicationInstance-1";
+    private static final DescribeApplicationInstanceRequest REQUEST = DescribeApplicationInstanceRequest.builder()
+            .applicationInstanceId(APPLICATION_INSTANCE_ID)
+            .build();
+
+    private final List<ApiInteraction> recording = new ArrayList<>();
+    private final RecordingProxyClient<PanoramaClient> proxyClient = new RecordingProxyClient<>(new ProxyClient<PanoramaClient>() {
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request,
+                final Function<RequestT, ResponseT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT request,
+                final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public PanoramaClient client() {
+            return null;
+        }
+    }, recording::add);
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_recordsResponse() {
+        final DescribeApplicationInstanceResponse response = DescribeApplicationInstanceResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .status(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS)
+                .build();
+
+        assertThat(proxyClient.injectCredentialsAndInvokeV2(REQUEST, request -> response)).isSameAs(response);
+
+        assertThat(recording).hasSize(1);
+        final ApiInteraction interaction = recording.get(0);
+        assertThat(interaction.getOperation()).isEqualTo("DescribeApplicationInstance");
+        assertThat(interaction.isRead()).isTrue();
+        assertThat(interaction.isFailure()).isFalse();
+        assertThat(interaction.replayResponse()).isEqualTo(response);
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_recordsFailure() {
+        final ResourceNotFoundException notFound = ResourceNotFoundException.builder()
+                .statusCode(404)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ResourceNotFoundException").errorMessage("not found").build())
+                .build();
+
+        final ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class, () ->
+                proxyClient.injectCredentialsAndInvokeV2(REQUEST, request -> {
+                    throw notFound;
+                }));
+
+        assertThat(thrown).isSameAs(notFound);
+        assertThat(recording).hasSize(1);
+        final RuntimeException replayed = recording.get(0).replayFailure();
+        assertThat(replayed).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(((ResourceNotFoundException) replayed).statusCode()).isEqualTo(404);
+        assertThat(((ResourceNotFoundException) replayed).awsErrorDetails().errorCode()).isEqualTo("ResourceNotFoundException");
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2Async_recordsOnCompletion() {
+        final CompletableFuture<DescribeApplicationInstanceResponse> pending = new CompletableFuture<>();
+
+        final CompletableFuture<DescribeApplicationInstanceResponse> future =
+                proxyClient.injectCredentialsAndInvokeV2Async(REQUEST, request -> pending);
+
+        assertThat(future).isSameAs(pending);
+        assertThat(recording).isEmpty();
+
+        pending.completeExceptionally(new CompletionException(ResourceNotFoundException.builder().message("not found").build()));
+
+        assertThat(recording).hasSize(1);
+        assertThat(recording.get(0).replayFailure()).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testInjectCredentialsAndInvokeV2_sinkFailureDoesNotFailTheCall() {
+        final RecordingProxyClient<PanoramaClient> failingSink = new RecordingProxyClient<>(proxyClient, interaction -> {
+            throw new IllegalStateException("disk full");
+        });
+        final DescribeApplicationInstanceResponse response = DescribeApplicationInstanceResponse.builder().build();
+
+        assertThat(failingSink.injectCredentialsAndInvokeV2(REQUEST, request -> response)).isSameAs(response);
+    }
+}
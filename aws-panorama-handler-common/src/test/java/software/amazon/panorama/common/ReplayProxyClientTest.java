@@ -0,0 +1,121 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.CreateApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceRequest;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReplayProxyClientTest {
+    private static final long START = 1_600_000_000_000L;
+    private static final CreateApplicationInstanceRequest CREATE = CreateApplicationInstanceRequest.builder().build();
+    private static final DescribeApplicationInstanceRequest DESCRIBE = DescribeApplicationInstanceRequest.builder().build();
+
+    @Test
+    void testWrites_replayInOrderThenRepeatTheLast() {
+        final ReplayProxyClient<PanoramaClient> replay = new ReplayProxyClient<>(Arrays.asList(
+                created("applicationInstance-1", 0),
+                created("applicationInstance-2", 1_000)), null, 0);
+
+        assertThat(create(replay).applicationInstanceId()).isEqualTo("applicationInstance-1");
+        assertThat(create(replay).applicationInstanceId()).isEqualTo("applicationInstance-2");
+        assertThat(create(replay).applicationInstanceId()).isEqualTo("applicationInstance-2");
+        assertThat(replay.getCalls()).containsEntry("CreateApplicationInstance", 3);
+    }
+
+    @Test
+    void testReads_followTheVirtualClock() {
+        final ReplayProxyClient<PanoramaClient> replay = new ReplayProxyClient<>(Arrays.asList(
+                described(ApplicationInstanceStatus.DEPLOYMENT_PENDING, 0),
+                described(ApplicationInstanceStatus.DEPLOYMENT_REQUESTED, 10_000),
+                described(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS, 20_000),
+                described(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED, 30_000)), null, 0);
+
+        assertThat(describe(replay).status()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_PENDING);
+        // polling more often than the recording sees a state again
+        replay.advance(Duration.ofSeconds(2));
+        assertThat(describe(replay).status()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_PENDING);
+        // polling less often skips the states in between
+        replay.advance(Duration.ofSeconds(25));
+        assertThat(describe(replay).status()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED);
+        replay.advance(Duration.ofSeconds(60));
+        assertThat(describe(replay).status()).isEqualTo(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED);
+
+        assertThat(replay.getCalls()).containsEntry("DescribeApplicationInstance", 4);
+        assertThat(replay.getElapsed()).isEqualTo(Duration.ofMillis(87_000 + 4 * 30));
+    }
+
+    @Test
+    void testFailures_areRethrownAsTheirSdkClass() throws InterruptedException {
+        final ReplayProxyClient<PanoramaClient> replay = new ReplayProxyClient<>(Arrays.asList(
+                ApiInteraction.failure(DESCRIBE, ResourceNotFoundException.builder().message("not found").statusCode(404).build(), START, 30)),
+                null, 0);
+
+        assertThrows(ResourceNotFoundException.class, () -> describe(replay));
+
+        final CompletableFuture<DescribeApplicationInstanceResponse> future =
+                replay.injectCredentialsAndInvokeV2Async(DESCRIBE, request -> null);
+        final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+        assertThat(thrown.getCause()).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testUnrecordedOperation() {
+        final ReplayProxyClient<PanoramaClient> replay = new ReplayProxyClient<>(Arrays.asList(created("applicationInstance-1", 0)), null, 0);
+
+        assertThrows(IllegalStateException.class, () -> describe(replay));
+    }
+
+    @Test
+    void testRecordingFile_roundTrip(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("recording.jsonl");
+        ApiRecording.append(path, created("applicationInstance-1", 0));
+        ApiRecording.append(path, described(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED, 5_000));
+        ApiRecording.append(path, ApiInteraction.failure(DESCRIBE, ResourceNotFoundException.builder().message("gone").build(), START + 9_000, 30));
+
+        final List<ApiInteraction> recording = ApiRecording.read(path);
+
+        assertThat(recording).hasSize(3);
+        assertThat(recording.get(0).replayResponse()).isEqualTo(
+                CreateApplicationInstanceResponse.builder().applicationInstanceId("applicationInstance-1").build());
+        assertThat(recording.get(1).getStartedAt()).isEqualTo(START + 5_000);
+        assertThat(recording.get(1).getLatencyMillis()).isEqualTo(30);
+        assertThat(recording.get(2).isFailure()).isTrue();
+        assertThat(recording.get(2).replayFailure()).isInstanceOf(ResourceNotFoundException.class).hasMessageContaining("gone");
+    }
+
+    private static ApiInteraction created(final String applicationInstanceId, final long offsetMillis) {
+        return ApiInteraction.success(CREATE,
+                CreateApplicationInstanceResponse.builder().applicationInstanceId(applicationInstanceId).build(),
+                START + offsetMillis, 30);
+    }
+
+    private static ApiInteraction described(final ApplicationInstanceStatus status, final long offsetMillis) {
+        return ApiInteraction.success(DESCRIBE,
+                DescribeApplicationInstanceResponse.builder().status(status).build(),
+                START + offsetMillis, 30);
+    }
+
+    private static CreateApplicationInstanceResponse create(final ReplayProxyClient<PanoramaClient> replay) {
+        return replay.injectCredentialsAndInvokeV2(CREATE, request -> null);
+    }
+
+    private static DescribeApplicationInstanceResponse describe(final ReplayProxyClient<PanoramaClient> replay) {
+        return replay.injectCredentialsAndInvokeV2(DESCRIBE, request -> null);
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.panorama.common;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstance;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceHealthStatus;
+import software.amazon.awssdk.services.panorama.model.ApplicationInstanceStatus;
+import software.amazon.awssdk.services.panorama.model.DescribeApplicationInstanceResponse;
+import software.amazon.awssdk.services.panorama.model.ListApplicationInstancesResponse;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SdkPojoJsonTest {
+    private static final String APPLICATION_INSTANCE_ID = "applicationInstance-1";
+
+    @Test
+    void testRoundTrip_scalarsEnumsTimestampsAndMaps() {
+        final DescribeApplicationInstanceResponse response = DescribeApplicationInstanceResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .status(ApplicationInstanceStatus.DEPLOYMENT_IN_PROGRESS)
+                .healthStatus(ApplicationInstanceHealthStatus.NOT_AVAILABLE)
+                .createdTime(Instant.ofEpochSecond(1))
+                .tags(ImmutableMap.of("key", "value"))
+                .build();
+
+        final ObjectNode json = SdkPojoJson.toJson(response);
+
+        assertThat(json.toString())
+                .contains("\"Status\":\"DEPLOYMENT_IN_PROGRESS\"")
+                .contains("\"CreatedTime\":\"1970-01-01T00:00:01Z\"")
+                .contains("\"Tags\":{\"key\":\"value\"}");
+        assertThat(SdkPojoJson.fromJson(DescribeApplicationInstanceResponse.class, json)).isEqualTo(response);
+    }
+
+    @Test
+    void testRoundTrip_listsOfStructures() {
+        final ListApplicationInstancesResponse response = ListApplicationInstancesResponse.builder()
+                .applicationInstances(
+                        ApplicationInstance.builder()
+                                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                                .status(ApplicationInstanceStatus.DEPLOYMENT_SUCCEEDED)
+                                .createdTime(Instant.ofEpochSecond(1))
+                                .build(),
+                        ApplicationInstance.builder()
+                                .applicationInstanceId("applicationInstance-2")
+                                .status(ApplicationInstanceStatus.REMOVAL_SUCCEEDED)
+                                .build())
+                .nextToken("token")
+                .build();
+
+        final ListApplicationInstancesResponse roundTripped =
+                SdkPojoJson.fromJson(ListApplicationInstancesResponse.class, SdkPojoJson.toJson(response));
+
+        assertThat(roundTripped).isEqualTo(response);
+        assertThat(roundTripped.applicationInstances().get(1).status()).isEqualTo(ApplicationInstanceStatus.REMOVAL_SUCCEEDED);
+    }
+
+    @Test
+    void testRoundTrip_unsetCollectionsStayUnset() {
+        final DescribeApplicationInstanceResponse response = DescribeApplicationInstanceResponse.builder()
+                .applicationInstanceId(APPLICATION_INSTANCE_ID)
+                .build();
+
+        final ObjectNode json = SdkPojoJson.toJson(response);
+
+        assertThat(json.has("Tags")).isFalse();
+        assertThat(SdkPojoJson.fromJson(DescribeApplicationInstanceResponse.class, json).hasTags()).isFalse();
+    }
+}
@@ -0,0 +1,25 @@
+package software.amazon.panorama.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationMetricsTest {
+    private static final String RESOURCE_TYPE = "AWS::Panorama::PackageVersion";
+
+    @Test
+    void testToEmfLine() {
+        final String line = StabilizationMetrics.toEmfLine(1000L, RESOURCE_TYPE, "REGISTER_COMPLETED", 7, 185);
+
+        assertThat(line)
+                .startsWith("{\"_aws\":{\"Timestamp\":1000,\"CloudWatchMetrics\":[{\"Namespace\":\"" + ApiCallMetrics.NAMESPACE + "\"")
+                .contains("\"Dimensions\":[[\"ResourceType\"]]")
+                .contains("{\"Name\":\"StabilizationPolls\",\"Unit\":\"Count\"}")
+                .contains("{\"Name\":\"StabilizationTime\",\"Unit\":\"Seconds\"}")
+                .contains("\"ResourceType\":\"" + RESOURCE_TYPE + "\"")
+                .contains("\"Outcome\":\"REGISTER_COMPLETED\"")
+                .contains("\"StabilizationPolls\":7")
+                .contains("\"StabilizationTime\":185")
+                .endsWith("}");
+    }
+}
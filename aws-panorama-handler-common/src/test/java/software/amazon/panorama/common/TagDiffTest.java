@@ -0,0 +1,48 @@
+package software.amazon.panorama.common;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagDiffTest {
+
+    @Test
+    void testOf_addsAndRemoves() {
+        final TagDiff<Map.Entry<String, String>> diff = TagDiff.of(
+                ImmutableSet.of(tag("kept", "1"), tag("removed", "2")),
+                ImmutableSet.of(tag("kept", "1"), tag("added", "3")),
+                Map.Entry::getKey);
+
+        assertThat(diff.getTagsToAdd()).containsExactly(tag("added", "3"));
+        assertThat(diff.getTagsToRemove()).containsExactly(tag("removed", "2"));
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    @Test
+    void testOf_changedValueIsOnlyTaggedAgain() {
+        final TagDiff<Map.Entry<String, String>> diff = TagDiff.of(
+                ImmutableSet.of(tag("key", "old")),
+                ImmutableSet.of(tag("key", "new")),
+                Map.Entry::getKey);
+
+        assertThat(diff.getTagsToAdd()).containsExactly(tag("key", "new"));
+        assertThat(diff.getTagsToRemove()).isEmpty();
+    }
+
+    @Test
+    void testOf_nullTags() {
+        assertThat(TagDiff.<Map.Entry<String, String>>of(null, null, Map.Entry::getKey).isEmpty()).isTrue();
+        assertThat(TagDiff.of(null, ImmutableSet.of(tag("key", "value")), Map.Entry::getKey).getTagsToAdd())
+                .containsExactly(tag("key", "value"));
+        assertThat(TagDiff.of(ImmutableSet.of(tag("key", "value")), null, Map.Entry::getKey).getTagsToRemove())
+                .containsExactly(tag("key", "value"));
+    }
+
+    private static Map.Entry<String, String> tag(final String key, final String value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
@@ -6,23 +6,47 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.AdaptiveRateLimiter;
+import software.amazon.panorama.common.ApiCallMetrics;
+import software.amazon.panorama.common.ApiRecording;
+import software.amazon.panorama.common.ClientBuilder;
+import software.amazon.panorama.common.MetricsProxyClient;
+import software.amazon.panorama.common.Priming;
+import software.amazon.panorama.common.RateLimitedProxyClient;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    // the HandlerWrapper builds the handlers in the Lambda init phase, so priming happens before the first invocation
+    if (Priming.isEnabled()) {
+      Primer.prime();
+    }
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
           final AmazonWebServicesClientProxy proxy,
           final ResourceHandlerRequest<ResourceModel> request,
           final CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+    final ApiCallMetrics metrics = new ApiCallMetrics(ResourceModel.TYPE_NAME);
+    final AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.forAccount(request.getAwsAccountId(), request.getRegion());
+    try {
+      return handleRequest(
+              proxy,
+              request,
+              callbackContext != null ? callbackContext : new CallbackContext(),
+              new RateLimitedProxyClient<>(
+                      new MetricsProxyClient<>(
+                              ApiRecording.recordIfEnabled(proxy.newProxy(() -> ClientBuilder.getClient(request.getRegion()))),
+                              metrics),
+                      rateLimiter),
+              logger
+      );
+    } finally {
+      metrics.publish(logger);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -7,4 +7,7 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // interval of the last delay chosen by the DeleteBackoffDelay, and the total seconds spent waiting for deletion
+    private int lastDelaySeconds;
+    private int stabilizationElapsedSeconds;
 }
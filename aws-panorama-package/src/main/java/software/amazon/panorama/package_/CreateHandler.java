@@ -14,7 +14,10 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
 
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -24,8 +27,6 @@ public class CreateHandler extends BaseHandlerStd {
             (model, proxyClient) -> model;
 
     private static final String OPERATION = "CreatePackage";
-    private LoggerWrapper logger;
-    private DescribePackageResponse describePackageResponse;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -34,7 +35,9 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<PanoramaClient> proxyClient,
             final Logger logger) {
 
-        this.logger = new LoggerWrapper(logger);
+        // all state is scoped to this invocation, so a single handler instance can serve concurrent requests
+        final LoggerWrapper loggerWrapper = new LoggerWrapper(logger);
+        final AtomicReference<DescribePackageResponse> describePackageResponse = new AtomicReference<>();
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -42,11 +45,14 @@ public class CreateHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-Panorama-Package::Create", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(this::createNodePackageAccess)
+                                .makeServiceCall((createPackageRequest, client) ->
+                                        createNodePackageAccess(createPackageRequest, client, loggerWrapper))
                                 .done(this::setPackageId)
                 )
-                .then(progress -> stabilize(proxy, proxyClient, progress))
-                .then(progress -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(describePackageResponse)));
+                .then(progress -> stabilize(proxy, proxyClient, progress, describePackageResponse, loggerWrapper))
+                .then(progress -> describePackageResponse.get() != null
+                        ? ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(describePackageResponse.get()))
+                        : new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     /**
@@ -54,67 +60,82 @@ public class CreateHandler extends BaseHandlerStd {
      * caller credentials, correct region and retry settings
      * @param createPackageRequest the Panorama service request to create NodePackage
      * @param proxyClient the Panorama service client to make the call
+     * @param logger logger of the current invocation
      * @return create resource response
      */
     private CreatePackageResponse createNodePackageAccess(
             final CreatePackageRequest createPackageRequest,
-            final ProxyClient<PanoramaClient> proxyClient
+            final ProxyClient<PanoramaClient> proxyClient,
+            final LoggerWrapper logger
     ) {
         CreatePackageResponse createPackageResponse;
         try {
             createPackageResponse = proxyClient.injectCredentialsAndInvokeV2(createPackageRequest,
                     proxyClient.client()::createPackage);
         } catch(PanoramaException e) {
-            logger.error(String.format("API Exception is thrown from Panorama service. PackageName: %s. Request: %s",
-                    createPackageRequest.packageName(), createPackageRequest.toString()));
+            logger.error("API Exception is thrown from Panorama service",
+                    "PackageName", createPackageRequest.packageName(),
+                    "Request", createPackageRequest);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     createPackageRequest.packageName(),
-                    createPackageRequest.toString());
+                    createPackageRequest);
         } catch(AwsServiceException e) {
-            logger.error(String.format("Exception happened when creating package. PackageName: %s. Request: %s",
-                    createPackageRequest.packageName(), createPackageRequest.toString()));
+            logger.error("Exception happened when creating package",
+                    "PackageName", createPackageRequest.packageName(),
+                    "Request", createPackageRequest);
             throw new CfnGeneralServiceException(OPERATION, e);
         }
 
-        logger.info(String.format("%s with PackageName %s successfully created.", ResourceModel.TYPE_NAME, createPackageRequest.packageName()));
+        logger.info("Package successfully created", "PackageName", createPackageRequest.packageName());
         return createPackageResponse;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> stabilize(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<PanoramaClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final AtomicReference<DescribePackageResponse> describePackageResponse,
+            final LoggerWrapper logger) {
         return proxy.initiate("AWS-Panorama-Package::stabilize", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
                 .makeServiceCall(EMPTY_CALL)
                 .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                        isStabilized(proxyInvocation, model)).progress();
+                        isStabilized(proxyInvocation, model, describePackageResponse, logger)).progress();
     }
 
-    private boolean isStabilized(final ProxyClient<PanoramaClient> proxyClient, final ResourceModel model) {
+    /**
+     * The package is stabilized once it can be described. The response is handed back through the per-invocation
+     * holder so the final model can be built without another DescribePackage call.
+     */
+    private boolean isStabilized(final ProxyClient<PanoramaClient> proxyClient,
+                                 final ResourceModel model,
+                                 final AtomicReference<DescribePackageResponse> describePackageResponse,
+                                 final LoggerWrapper logger) {
 
-        logger.info(String.format("Checking stabilization status for package %s with packageName %s", model.getPackageId(), model.getPackageName()));
+        logger.debug("Checking stabilization status for package", "PackageId", model.getPackageId(), "PackageName", model.getPackageName());
 
         final DescribePackageRequest describePackageRequest = Translator.translateToReadRequest(model);
 
         try {
-            describePackageResponse = proxyClient.injectCredentialsAndInvokeV2(describePackageRequest, proxyClient.client()::describePackage);
+            describePackageResponse.set(proxyClient.injectCredentialsAndInvokeV2(describePackageRequest, proxyClient.client()::describePackage));
         } catch (ResourceNotFoundException e) {
             return false;
         } catch (PanoramaException e) {
-            this.logger.error(String.format("API Exception is thrown from Panorama service. PackageId: %s. Request: %s",
-                    describePackageRequest.packageId(), describePackageRequest.toString()));
+            logger.error("API Exception is thrown from Panorama service",
+                    "PackageId", describePackageRequest.packageId(),
+                    "Request", describePackageRequest);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     describePackageRequest.packageId(),
-                    describePackageRequest.toString());
+                    describePackageRequest);
         } catch(AwsServiceException e) {
-            this.logger.error(String.format("Exception happened during DescribePackage. PackageId: %s. Request: %s",
-                    model.getPackageId(), describePackageRequest.toString()));
+            logger.error("Exception happened during DescribePackage",
+                    "PackageId", model.getPackageId(),
+                    "Request", describePackageRequest);
             throw new CfnGeneralServiceException(OPERATION, e);
         }
 
@@ -0,0 +1,39 @@
+package software.amazon.panorama.package_;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+
+/**
+ * Delay for Package delete stabilization: DescribePackage probes start MIN_DELAY apart and double up to MAX_DELAY,
+ * until TIMEOUT was spent waiting.
+ *
+ * The last delay and the elapsed stabilization time are kept in the CallbackContext, as the handler builds a new
+ * delay on every re-invocation.
+ */
+public class DeleteBackoffDelay implements Delay {
+    static final Duration MIN_DELAY = Duration.ofSeconds(2);
+    static final Duration MAX_DELAY = Duration.ofSeconds(30);
+    static final Duration TIMEOUT = Duration.ofMinutes(20);
+
+    private final CallbackContext callbackContext;
+
+    public DeleteBackoffDelay(final CallbackContext callbackContext) {
+        this.callbackContext = callbackContext;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (callbackContext.getStabilizationElapsedSeconds() >= TIMEOUT.getSeconds()) {
+            return Duration.ZERO;
+        }
+
+        final long delaySeconds = callbackContext.getLastDelaySeconds() == 0
+                ? MIN_DELAY.getSeconds()
+                : Math.min(MAX_DELAY.getSeconds(), callbackContext.getLastDelaySeconds() * 2L);
+
+        callbackContext.setLastDelaySeconds((int) delaySeconds);
+        callbackContext.setStabilizationElapsedSeconds(callbackContext.getStabilizationElapsedSeconds() + (int) delaySeconds);
+        return Duration.ofSeconds(delaySeconds);
+    }
+}
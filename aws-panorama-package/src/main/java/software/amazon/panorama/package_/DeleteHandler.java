@@ -2,23 +2,38 @@ package software.amazon.panorama.package_;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
-import software.amazon.awssdk.services.panorama.model.ConflictException;
 import software.amazon.awssdk.services.panorama.model.DeletePackageRequest;
 import software.amazon.awssdk.services.panorama.model.DeletePackageResponse;
 import software.amazon.awssdk.services.panorama.model.DescribePackageRequest;
 import software.amazon.awssdk.services.panorama.model.PanoramaException;
 import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
+
+import java.util.function.Function;
 
 public class DeleteHandler extends BaseHandlerStd {
     private static final String OPERATION = "DeletePackage";
+    private static final String DESCRIBE_OPERATION = "DescribePackage";
+
     private LoggerWrapper logger;
+    private final Function<CallbackContext, Delay> delayFactory;
+
+    public DeleteHandler() {
+        this(DeleteBackoffDelay::new);
+    }
+
+    DeleteHandler(final Function<CallbackContext, Delay> delayFactory) {
+        super();
+        this.delayFactory = delayFactory;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -34,6 +49,7 @@ public class DeleteHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-Panorama-Package::Delete", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
+                                .backoffDelay(delayFactory.apply(callbackContext))
                                 .makeServiceCall(this::deletePackage)
                                 .stabilize(this::stabilizedOnDelete)
                                 .done(this::setResourceModelToNullAndReturnSuccess));
@@ -65,24 +81,30 @@ public class DeleteHandler extends BaseHandlerStd {
             deletePackageResponse = proxyClient.injectCredentialsAndInvokeV2(
                     deletePackageRequest, proxyClient.client()::deletePackage);
         } catch (PanoramaException e) {
-            logger.error(String.format("API Exception is thrown from Panorama service. PackageId: %s. Request: %s",
-                    deletePackageRequest.packageId(), deletePackageRequest.toString()));
+            logger.error("API Exception is thrown from Panorama service",
+                    "PackageId", deletePackageRequest.packageId(),
+                    "Request", deletePackageRequest);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     deletePackageRequest.packageId(),
-                    deletePackageRequest.toString()
+                    deletePackageRequest
             );
         } catch(AwsServiceException e) {
-            logger.error(String.format("Exception happened when deleting package. PackageId: %s. Request: %s",
-                    deletePackageRequest.packageId(), deletePackageRequest.toString()));
+            logger.error("Exception happened when deleting package",
+                    "PackageId", deletePackageRequest.packageId(),
+                    "Request", deletePackageRequest);
             throw new CfnGeneralServiceException(OPERATION, e);
         }
 
-        logger.info(String.format("%s with PackageId %s successfully deleted.", ResourceModel.TYPE_NAME, deletePackageRequest.packageId()));
+        logger.info("Package successfully deleted", "PackageId", deletePackageRequest.packageId());
         return deletePackageResponse;
     }
 
+    /**
+     * Read-only stabilization probe: the package is gone once DescribePackage reports it as not found. Polling with
+     * DescribePackage rather than re-issuing DeletePackage keeps teardown waves off the write quota.
+     */
     private boolean stabilizedOnDelete(
             DeletePackageRequest deletePackageRequest,
             DeletePackageResponse deletePackageResponse,
@@ -90,25 +112,29 @@ public class DeleteHandler extends BaseHandlerStd {
             final software.amazon.panorama.package_.ResourceModel model,
             final software.amazon.panorama.package_.CallbackContext callbackContext) {
 
-        logger.info(String.format("Checking delete stabilization status for package %s with packageName %s in delete handler", model.getPackageId(), model.getPackageName()));
+        logger.debug("Checking delete stabilization status for package", "PackageId", model.getPackageId(), "PackageName", model.getPackageName());
+
+        final DescribePackageRequest describePackageRequest = Translator.translateToReadRequest(model);
 
         try {
             proxyClient.injectCredentialsAndInvokeV2(
-                    deletePackageRequest, proxyClient.client()::deletePackage);
+                    describePackageRequest, proxyClient.client()::describePackage);
         } catch (ResourceNotFoundException e) {
             return true;
-        } catch (ConflictException e) {
-            return false;
         } catch (PanoramaException e) {
+            logger.error("API Exception is thrown from Panorama service during DescribePackage in delete handler",
+                    "PackageId", describePackageRequest.packageId(),
+                    "Request", describePackageRequest);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
-                    OPERATION,
+                    DESCRIBE_OPERATION,
                     ResourceModel.TYPE_NAME,
-                    deletePackageRequest.packageId(),
-                    deletePackageRequest.toString());
+                    describePackageRequest.packageId(),
+                    describePackageRequest);
         } catch(AwsServiceException e) {
-            logger.error(String.format("Exception happened during DescribePackage in delete handler. PackageId: %s. Request: %s",
-                    model.getPackageId(), deletePackageRequest.toString()));
-            throw new CfnGeneralServiceException(OPERATION, e);
+            logger.error("Exception happened during DescribePackage in delete handler",
+                    "PackageId", model.getPackageId(),
+                    "Request", describePackageRequest);
+            throw new CfnGeneralServiceException(DESCRIBE_OPERATION, e);
         }
         return false;
     }
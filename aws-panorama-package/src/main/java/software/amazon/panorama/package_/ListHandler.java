@@ -11,7 +11,8 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
-    private static Integer MAX_RESULTS = 10;
+    // largest page ListPackages accepts, each listed model is filled from its PackageListItem
+    static final int MAX_RESULTS = 25;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,7 +24,7 @@ public class ListHandler extends BaseHandlerStd {
 
         final ListPackagesRequest listPackagesRequest = Translator.translateToListRequest(request.getNextToken(), MAX_RESULTS);
 
-        ListPackagesResponse listPackagesResponse = proxy.injectCredentialsAndInvokeV2(listPackagesRequest, proxyClient.client()::listPackages);
+        ListPackagesResponse listPackagesResponse = proxyClient.injectCredentialsAndInvokeV2(listPackagesRequest, proxyClient.client()::listPackages);
 
         String nextToken = listPackagesResponse.nextToken();
 
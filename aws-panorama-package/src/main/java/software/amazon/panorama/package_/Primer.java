@@ -0,0 +1,70 @@
+package software.amazon.panorama.package_;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.panorama.common.ClientBuilder;
+import software.amazon.panorama.common.Priming;
+
+import java.util.Collections;
+
+/**
+ * Cold start priming for the Package handlers, see {@link Priming}. It runs from the static initializer of
+ * {@link BaseHandlerStd}, and {@link #main} runs it on its own, e.g. to record the class list of a class-data-sharing
+ * archive.
+ */
+public class Primer {
+    // DescribePackage answer of the local client, shaped like the service's
+    static final String DESCRIBE_PACKAGE_RESPONSE = "{\"PackageId\":\"package-priming\",\"PackageName\":\"priming\","
+            + "\"Arn\":\"arn:aws:panorama:us-east-1:123456789012:package/package-priming\","
+            + "\"StorageLocation\":{\"Bucket\":\"bucket\",\"RepoPrefixLocation\":\"repo\",\"GeneratedPrefixLocation\":\"generated\","
+            + "\"BinaryPrefixLocation\":\"binary\",\"ManifestPrefixLocation\":\"manifest\"},"
+            + "\"CreatedTime\":1600000000,\"Tags\":{\"key\":\"value\"}}";
+
+    private static final ResourceModel MODEL = ResourceModel.builder()
+            .packageName("priming")
+            .packageId("package-priming")
+            .tags(Collections.singleton(Tag.builder().key("key").value("value").build()))
+            .build();
+
+    public static void prime() {
+        Priming.prime(steps());
+    }
+
+    static Priming.Step[] steps() {
+        return new Priming.Step[]{
+                Primer::translateRequests,
+                Primer::describeLocally,
+                () -> Priming.serializerRoundTrip(MODEL, new TypeReference<ResourceModel>() {}),
+                Primer::buildClient
+        };
+    }
+
+    private static void translateRequests() {
+        Translator.translateToCreateRequest(MODEL);
+        Translator.translateToDeleteRequest(MODEL);
+        Translator.translateToListRequest(null, 25);
+        Translator.translateToTagResourceRequest(MODEL.getTags(), "arn");
+        Translator.translateToUntagResourceRequest(MODEL.getTags(), "arn");
+    }
+
+    private static void describeLocally() {
+        try (PanoramaClient client = Priming.localClient(DESCRIBE_PACKAGE_RESPONSE)) {
+            Translator.translateFromReadResponse(client.describePackage(Translator.translateToReadRequest(MODEL)));
+        }
+    }
+
+    private static void buildClient() {
+        // the handlers run in the region of the stack, which is the region of the function
+        final String region = System.getenv("AWS_REGION");
+        if (region != null) {
+            ClientBuilder.getClient(region);
+        }
+    }
+
+    /**
+     * Prime outside of a handler. Unlike the init phase, a failing step fails the run.
+     */
+    public static void main(final String[] args) throws Exception {
+        Priming.check(steps());
+    }
+}
@@ -11,6 +11,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
 
 public class ReadHandler extends BaseHandlerStd {
     private static final String OPERATION = "DescribePackage";
@@ -34,16 +36,18 @@ public class ReadHandler extends BaseHandlerStd {
             describePackageResponse = proxyClient.injectCredentialsAndInvokeV2(describePackageRequest,
                     proxyClient.client()::describePackage);
         } catch (PanoramaException e) {
-            this.logger.error(String.format("API Exception is thrown from Panorama service. PackageId: %s. Request: %s",
-                    describePackageRequest.packageId(), describePackageRequest.toString()));
+            this.logger.error("API Exception is thrown from Panorama service",
+                    "PackageId", describePackageRequest.packageId(),
+                    "Request", describePackageRequest);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     describePackageRequest.packageId(),
-                    describePackageRequest.toString());
+                    describePackageRequest);
         } catch(AwsServiceException e) {
-            this.logger.error(String.format("Exception happened during DescribePackage. PackageId: %s. Request: %s",
-                    model.getPackageId(), describePackageRequest.toString()));
+            this.logger.error("Exception happened during DescribePackage",
+                    "PackageId", model.getPackageId(),
+                    "Request", describePackageRequest);
             throw new CfnGeneralServiceException(OPERATION, e);
         }
 
@@ -6,11 +6,13 @@ import software.amazon.awssdk.services.panorama.model.DescribePackageRequest;
 import software.amazon.awssdk.services.panorama.model.DescribePackageResponse;
 import software.amazon.awssdk.services.panorama.model.ListPackagesRequest;
 import software.amazon.awssdk.services.panorama.model.ListPackagesResponse;
+import software.amazon.awssdk.services.panorama.model.PackageListItem;
 import software.amazon.awssdk.services.panorama.model.TagResourceRequest;
 import software.amazon.awssdk.services.panorama.model.UntagResourceRequest;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -73,15 +75,7 @@ public class Translator {
                     .build());
 
     if (response.hasTags()) {
-      builder.tags(response.tags().entrySet()
-              .stream()
-              .map(tag ->
-                      Tag.builder()
-                              .key(tag.getKey())
-                              .value(tag.getValue())
-                              .build()
-              )
-              .collect(Collectors.toSet()));
+      builder.tags(translateTagsFromSdk(response.tags()));
     }
 
     return builder.build();
@@ -113,18 +107,46 @@ public class Translator {
   }
 
   /**
-   * Translates resource objects from sdk into a resource model (primary identifier only)
-   * @param listPackagesResponse the aws service describe resource response
+   * Translates resource objects from sdk into resource models, carrying every field PackageListItem provides so
+   * callers don't need a read per listed package. StorageLocation is not part of PackageListItem and stays unset.
+   * @param listPackagesResponse the aws service list resources response
    * @return list of resource models
    */
   static List<ResourceModel> translateFromListResponse(final ListPackagesResponse listPackagesResponse) {
     return streamOfOrEmpty(listPackagesResponse.packages())
-            .map(resource -> ResourceModel.builder()
-                    .packageId(resource.packageId())
-                    .build())
+            .map(Translator::translateFromPackageListItem)
             .collect(Collectors.toList());
   }
 
+  private static ResourceModel translateFromPackageListItem(final PackageListItem packageListItem) {
+    ResourceModel.ResourceModelBuilder builder = ResourceModel.builder()
+            .packageId(packageListItem.packageId())
+            .packageName(packageListItem.packageName())
+            .arn(packageListItem.arn());
+
+    if (packageListItem.createdTime() != null) {
+      builder.createdTime(Long.valueOf(packageListItem.createdTime().getEpochSecond()).intValue());
+    }
+
+    if (packageListItem.hasTags()) {
+      builder.tags(translateTagsFromSdk(packageListItem.tags()));
+    }
+
+    return builder.build();
+  }
+
+  private static Set<Tag> translateTagsFromSdk(final Map<String, String> tags) {
+    return tags.entrySet()
+            .stream()
+            .map(tag ->
+                    Tag.builder()
+                            .key(tag.getKey())
+                            .value(tag.getValue())
+                            .build()
+            )
+            .collect(Collectors.toSet());
+  }
+
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
     return Optional.ofNullable(collection)
             .map(Collection::stream)
@@ -1,6 +1,5 @@
 package software.amazon.panorama.package_;
 
-import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
 import software.amazon.awssdk.services.panorama.model.DescribePackageRequest;
 import software.amazon.awssdk.services.panorama.model.DescribePackageResponse;
@@ -15,10 +14,11 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.TagDiff;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -35,15 +35,28 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
+        // the first DescribePackage of this update: existence check, tagging ARN and, without tag changes, the returned model
+        final AtomicReference<DescribePackageResponse> describePackageResponse = new AtomicReference<>();
+        final AtomicBoolean tagsChanged = new AtomicBoolean();
+
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
                         proxy.initiate("AWS-Panorama-Package::ValidateResourceExists", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToReadRequest)
                                 .makeServiceCall(this::validateResourceExists)
-                                .progress()
+                                .done(response -> {
+                                    describePackageResponse.set(response);
+                                    return ProgressEvent.progress(model, callbackContext);
+                                })
                 )
-                .then(progress -> updateTags(proxyClient, progress, request))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> updateTags(proxyClient, progress, request, describePackageResponse.get().arn(), tagsChanged))
+                .then(progress -> {
+                    if (tagsChanged.get()) {
+                        // only a tag mutation makes the first response stale
+                        return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+                    }
+                    return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(describePackageResponse.get()));
+                });
     }
 
     private DescribePackageResponse validateResourceExists(DescribePackageRequest describePackageRequest, ProxyClient<PanoramaClient> proxyClient) {
@@ -59,46 +72,36 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(final ProxyClient<PanoramaClient> proxyClient,
                                                                      final ProgressEvent<ResourceModel, CallbackContext> progress,
-                                                                     final ResourceHandlerRequest<ResourceModel> request) {
+                                                                     final ResourceHandlerRequest<ResourceModel> request,
+                                                                     final String arn,
+                                                                     final AtomicBoolean tagsChanged) {
         ResourceModel currResourceModel = request.getDesiredResourceState();
         ResourceModel prevResourceModel = request.getPreviousResourceState();
 
         CallbackContext callbackContext = progress.getCallbackContext();
-        Set<Tag> currentTags;
-        if (currResourceModel.getTags() != null) {
-            currentTags = currResourceModel.getTags().stream().collect(Collectors.toSet());
-        } else {
-            currentTags = new HashSet<>();
-        }
-
-        Set<Tag> existingTags = new HashSet<>();
-        if (prevResourceModel != null && prevResourceModel.getTags() != null) {
-            existingTags = prevResourceModel.getTags().stream().collect(Collectors.toSet());
-        }
-
-        final DescribePackageRequest describePackageRequest = Translator.translateToReadRequest(currResourceModel);
-        DescribePackageResponse describePackageResponse = proxyClient.injectCredentialsAndInvokeV2(describePackageRequest,
-                proxyClient.client()::describePackage);
-        String arn = describePackageResponse.arn();
+        final TagDiff<Tag> tagDiff = TagDiff.of(
+                prevResourceModel == null ? null : prevResourceModel.getTags(),
+                currResourceModel.getTags(),
+                Tag::getKey);
 
-        final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
-        if (!tagsToAdd.isEmpty()) {
-            TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAdd, arn);
+        if (!tagDiff.getTagsToAdd().isEmpty()) {
+            TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagDiff.getTagsToAdd(), arn);
             try {
                 proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource);
             } catch (ValidationException e) {
                 throw new CfnInvalidRequestException(e.getMessage(), e);
             }
+            tagsChanged.set(true);
         }
 
-        final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
-        if (!tagsToRemove.isEmpty()) {
-            UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, arn);
+        if (!tagDiff.getTagsToRemove().isEmpty()) {
+            UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagDiff.getTagsToRemove(), arn);
             try {
                 proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource);
             } catch (ValidationException e) {
                 throw new CfnInvalidRequestException(e.getMessage(), e);
             }
+            tagsChanged.set(true);
         }
         return ProgressEvent.progress(currResourceModel, callbackContext);
     }
@@ -1,9 +1,16 @@
 package software.amazon.panorama.package_;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.panorama.PanoramaClient;
@@ -213,4 +220,69 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).createPackage(any(CreatePackageRequest.class));
         verify(proxyClient.client(), times(1)).describePackage(any(DescribePackageRequest.class));
     }
+
+    @Test
+    public void handleRequest_ConcurrentCreatesOnSharedHandler() throws Exception {
+        // a single handler instance serves every invocation, as it does in a warm container
+        final CreateHandler handler = new CreateHandler();
+        final int invocations = 200;
+
+        when(proxyClient.client().createPackage(any(CreatePackageRequest.class)))
+                .thenAnswer(invocation -> {
+                    final CreatePackageRequest createPackageRequest = invocation.getArgument(0);
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                    return CreatePackageResponse.builder()
+                            .packageId(createPackageRequest.packageName().replace(TEST_PACKAGE_NAME, TEST_PACKAGE_ID))
+                            .build();
+                });
+
+        when(proxyClient.client().describePackage(any(DescribePackageRequest.class)))
+                .thenAnswer(invocation -> {
+                    final DescribePackageRequest describePackageRequest = invocation.getArgument(0);
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                    return DescribePackageResponse.builder()
+                            .packageId(describePackageRequest.packageId())
+                            .packageName(describePackageRequest.packageId().replace(TEST_PACKAGE_ID, TEST_PACKAGE_NAME))
+                            .arn(describePackageRequest.packageId().replace(TEST_PACKAGE_ID, TEST_PACKAGE_ARN))
+                            .storageLocation(StorageLocation.builder()
+                                    .bucket("test-bucket")
+                                    .build())
+                            .build();
+                });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < invocations; i++) {
+                final String packageName = TEST_PACKAGE_NAME + "-" + i;
+                responses.add(executor.submit(() -> {
+                    final AmazonWebServicesClientProxy invocationProxy =
+                            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+                    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                            .desiredResourceState(ResourceModel.builder().packageName(packageName).build())
+                            .build();
+                    start.await();
+                    return handler.handleRequest(invocationProxy, request, new CallbackContext(),
+                            MOCK_PROXY(invocationProxy, panoramaClient), logger);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < invocations; i++) {
+                final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(i).get(30, TimeUnit.SECONDS);
+
+                assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                assertThat(response.getResourceModel().getPackageName()).isEqualTo(TEST_PACKAGE_NAME + "-" + i);
+                assertThat(response.getResourceModel().getPackageId()).isEqualTo(TEST_PACKAGE_ID + "-" + i);
+                assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_PACKAGE_ARN + "-" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(proxyClient.client(), times(invocations)).createPackage(any(CreatePackageRequest.class));
+        verify(proxyClient.client(), times(invocations)).describePackage(any(DescribePackageRequest.class));
+    }
 }
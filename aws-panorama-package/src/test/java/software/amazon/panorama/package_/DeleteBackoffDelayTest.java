@@ -0,0 +1,53 @@
+package software.amazon.panorama.package_;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeleteBackoffDelayTest {
+
+    @Test
+    void testNextDelay_doublesUpToTheCap() {
+        final DeleteBackoffDelay delay = new DeleteBackoffDelay(new CallbackContext());
+
+        final List<Long> delays = new ArrayList<>();
+        for (int attempt = 1; attempt <= 7; attempt++) {
+            delays.add(delay.nextDelay(attempt).getSeconds());
+        }
+
+        assertThat(delays).containsExactly(2L, 4L, 8L, 16L, 30L, 30L, 30L);
+    }
+
+    @Test
+    void testNextDelay_carriesOnAcrossInvocations() {
+        final CallbackContext callbackContext = new CallbackContext();
+        new DeleteBackoffDelay(callbackContext).nextDelay(1);
+        new DeleteBackoffDelay(callbackContext).nextDelay(2);
+
+        // a re-invocation builds a new delay, the schedule and the elapsed time come from the CallbackContext
+        assertThat(new DeleteBackoffDelay(callbackContext).nextDelay(1)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(callbackContext.getStabilizationElapsedSeconds()).isEqualTo(14);
+    }
+
+    @Test
+    void testNextDelay_timesOut() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final DeleteBackoffDelay delay = new DeleteBackoffDelay(callbackContext);
+
+        int attempt = 0;
+        Duration next;
+        do {
+            next = delay.nextDelay(++attempt);
+        } while (!next.isZero());
+
+        // 2 + 4 + 8 + 16 seconds, then 30 seconds apart until 20 minutes were spent
+        assertThat(attempt).isEqualTo(44);
+        assertThat(callbackContext.getStabilizationElapsedSeconds())
+                .isGreaterThanOrEqualTo((int) DeleteBackoffDelay.TIMEOUT.getSeconds());
+        assertThat(delay.nextDelay(attempt + 1)).isEqualTo(Duration.ZERO);
+    }
+}
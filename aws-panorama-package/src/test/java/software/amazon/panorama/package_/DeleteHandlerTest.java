@@ -1,6 +1,8 @@
 package software.amazon.panorama.package_;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.panorama.PanoramaClient;
@@ -8,6 +10,8 @@ import software.amazon.awssdk.services.panorama.model.AccessDeniedException;
 import software.amazon.awssdk.services.panorama.model.ConflictException;
 import software.amazon.awssdk.services.panorama.model.DeletePackageRequest;
 import software.amazon.awssdk.services.panorama.model.DeletePackageResponse;
+import software.amazon.awssdk.services.panorama.model.DescribePackageRequest;
+import software.amazon.awssdk.services.panorama.model.DescribePackageResponse;
 import software.amazon.awssdk.services.panorama.model.InternalServerException;
 import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.panorama.model.ValidationException;
@@ -18,6 +22,7 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -78,7 +83,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().deletePackage(any(DeletePackageRequest.class)))
-                .thenReturn(DeletePackageResponse.builder().build())
+                .thenReturn(DeletePackageResponse.builder().build());
+
+        when(proxyClient.client().describePackage(any(DescribePackageRequest.class)))
                 .thenThrow(ResourceNotFoundException.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -90,7 +97,100 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyClient.client(), times(2)).deletePackage(any(DeletePackageRequest.class));
+        verify(proxyClient.client(), times(1)).deletePackage(any(DeletePackageRequest.class));
+        verify(proxyClient.client(), times(1)).describePackage(any(DescribePackageRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PollsDescribeUntilNotFound() {
+        final List<Integer> attempts = new ArrayList<>();
+        final DeleteHandler handler = new DeleteHandler(callbackContext -> attempt -> {
+            attempts.add(attempt);
+            return Duration.ofMillis(1);
+        });
+
+        final ResourceModel model = ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().deletePackage(any(DeletePackageRequest.class)))
+                .thenReturn(DeletePackageResponse.builder().build());
+
+        when(proxyClient.client().describePackage(any(DescribePackageRequest.class)))
+                .thenReturn(DescribePackageResponse.builder().packageId(TEST_PACKAGE_ID).build())
+                .thenReturn(DescribePackageResponse.builder().packageId(TEST_PACKAGE_ID).build())
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(attempts).hasSize(2);
+
+        // stabilization never re-issues the mutating DeletePackage call
+        verify(proxyClient.client(), times(1)).deletePackage(any(DeletePackageRequest.class));
+        verify(proxyClient.client(), times(3)).describePackage(any(DescribePackageRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StabilizationTimesOut() {
+        final DeleteHandler handler = new DeleteHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().deletePackage(any(DeletePackageRequest.class)))
+                .thenReturn(DeletePackageResponse.builder().build());
+
+        when(proxyClient.client().describePackage(any(DescribePackageRequest.class)))
+                .thenReturn(DescribePackageResponse.builder().packageId(TEST_PACKAGE_ID).build());
+
+        // the previous invocations already waited the whole timeout
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStabilizationElapsedSeconds((int) DeleteBackoffDelay.TIMEOUT.getSeconds());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+
+        verify(proxyClient.client(), times(1)).deletePackage(any(DeletePackageRequest.class));
+        verify(proxyClient.client(), times(1)).describePackage(any(DescribePackageRequest.class));
+    }
+
+    @Test
+    public void handleRequest_describeFailureDuringStabilization() {
+        final DeleteHandler handler = new DeleteHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().deletePackage(any(DeletePackageRequest.class)))
+                .thenReturn(DeletePackageResponse.builder().build());
+
+        when(proxyClient.client().describePackage(any(DescribePackageRequest.class)))
+                .thenThrow(AccessDeniedException.builder().build());
+
+        assertThrows(CfnAccessDeniedException.class, () -> {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        });
+
+        verify(proxyClient.client(), times(1)).deletePackage(any(DeletePackageRequest.class));
+        verify(proxyClient.client(), times(1)).describePackage(any(DescribePackageRequest.class));
     }
 
     @Test
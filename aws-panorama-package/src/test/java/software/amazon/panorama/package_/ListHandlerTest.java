@@ -15,7 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.mockito.ArgumentCaptor;
+
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 
@@ -25,10 +30,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static software.amazon.panorama.package_.Constants.TEST_PACKAGE_ARN;
 import static software.amazon.panorama.package_.Constants.TEST_PACKAGE_ID;
+import static software.amazon.panorama.package_.Constants.TEST_PACKAGE_NAME;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractTestBase {
+    private static final int CREATED_TIME = 1636595066;
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -79,4 +87,44 @@ public class ListHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1)).listPackages(any(ListPackagesRequest.class));
     }
+
+    @Test
+    public void handleRequest_FullPageOfRichModels() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("token")
+                .build();
+
+        List<PackageListItem> packageListItems =
+                Arrays.asList(PackageListItem.builder()
+                        .packageId(TEST_PACKAGE_ID)
+                        .packageName(TEST_PACKAGE_NAME)
+                        .arn(TEST_PACKAGE_ARN)
+                        .createdTime(Instant.ofEpochSecond(CREATED_TIME))
+                        .tags(ImmutableMap.of("key1", "value1"))
+                        .build());
+
+        when(proxyClient.client().listPackages(any(ListPackagesRequest.class)))
+                .thenReturn(ListPackagesResponse.builder().packages(packageListItems).nextToken("next").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("next");
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .packageName(TEST_PACKAGE_NAME)
+                .arn(TEST_PACKAGE_ARN)
+                .createdTime(CREATED_TIME)
+                .tags(ImmutableSet.of(Tag.builder().key("key1").value("value1").build()))
+                .build());
+
+        final ArgumentCaptor<ListPackagesRequest> captor = ArgumentCaptor.forClass(ListPackagesRequest.class);
+        verify(proxyClient.client(), times(1)).listPackages(captor.capture());
+        assertThat(captor.getValue().maxResults()).isEqualTo(ListHandler.MAX_RESULTS);
+        assertThat(captor.getValue().nextToken()).isEqualTo("token");
+    }
 }
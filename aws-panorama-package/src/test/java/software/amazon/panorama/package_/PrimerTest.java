@@ -0,0 +1,33 @@
+package software.amazon.panorama.package_;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribePackageRequest;
+import software.amazon.panorama.common.Priming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimerTest {
+
+    @Test
+    void testSteps_succeed() throws Exception {
+        // Priming.prime swallows failures, so run the steps directly
+        for (final Priming.Step step : Primer.steps()) {
+            step.run();
+        }
+    }
+
+    @Test
+    void testDescribeResponse_unmarshalsEveryMember() {
+        try (PanoramaClient client = Priming.localClient(Primer.DESCRIBE_PACKAGE_RESPONSE)) {
+            final ResourceModel model = Translator.translateFromReadResponse(
+                    client.describePackage(DescribePackageRequest.builder().packageId("package-priming").build()));
+
+            assertThat(model.getPackageId()).isEqualTo("package-priming");
+            assertThat(model.getPackageName()).isEqualTo("priming");
+            assertThat(model.getArn()).endsWith(":package/package-priming");
+            assertThat(model.getStorageLocation().getManifestPrefixLocation()).isEqualTo("manifest");
+            assertThat(model.getTags()).containsExactly(Tag.builder().key("key").value("value").build());
+        }
+    }
+}
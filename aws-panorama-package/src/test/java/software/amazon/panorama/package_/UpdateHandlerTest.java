@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -113,6 +114,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // one describe before tagging, one refresh after it
+        verify(proxyClient.client(), times(2)).describePackage(any(DescribePackageRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
     }
 
     @Test
@@ -173,6 +179,73 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        verify(proxyClient.client(), times(2)).describePackage(any(DescribePackageRequest.class));
+        verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
+        verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_unchangedTags_describesOnce() {
+        final UpdateHandler handler = new UpdateHandler();
+        String key = "key";
+        String value = "value";
+
+        final ResourceModel model = ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .tags(new HashSet<>(Collections.singletonList(Tag.builder().key(key).value(value).build())))
+                .build();
+
+        final ResourceModel prevModel = ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .tags(new HashSet<>(Collections.singletonList(Tag.builder().key(key).value(value).build())))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(proxyClient.client().describePackage(any(DescribePackageRequest.class)))
+                .thenReturn(DescribePackageResponse.builder()
+                        .packageId(TEST_PACKAGE_ID)
+                        .packageName(TEST_PACKAGE_NAME)
+                        .storageLocation(StorageLocation.builder()
+                                .bucket("test-bucket")
+                                .binaryPrefixLocation("binary-prefix")
+                                .repoPrefixLocation("repo-prefix")
+                                .generatedPrefixLocation("generated-prefix")
+                                .manifestPrefixLocation("manifest-prefix")
+                                .build())
+                        .arn(TEST_PACKAGE_ARN)
+                        .tags(ImmutableMap.of(key, value))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        ResourceModel expectedModel = ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .packageName(TEST_PACKAGE_NAME)
+                .storageLocation(software.amazon.panorama.package_.StorageLocation.builder()
+                        .bucket("test-bucket")
+                        .binaryPrefixLocation("binary-prefix")
+                        .repoPrefixLocation("repo-prefix")
+                        .generatedPrefixLocation("generated-prefix")
+                        .manifestPrefixLocation("manifest-prefix")
+                        .build())
+                .arn(TEST_PACKAGE_ARN)
+                .tags(new HashSet<>(Collections.singletonList(Tag.builder().key(key).value(value).build())))
+                .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedModel);
+
+        // the existence check response is reused for the returned model
+        verify(proxyClient.client(), times(1)).describePackage(any(DescribePackageRequest.class));
+        verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
+        verify(panoramaClient, atLeastOnce()).serviceName();
     }
 
     @Test
@@ -7,4 +7,19 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // set once the service accepted Create's registration
+    private boolean registrationRequested;
+
+    // last PackageVersionStatus and StatusDescription observed while stabilizing
+    private String packageVersionStatus;
+    private String statusDescription;
+
+    // status, status description and interval of the last delay chosen by the StabilizationScheduler
+    private String lastDelayStatus;
+    private String lastDelayStatusDescription;
+    private int lastDelaySeconds;
+
+    // describe calls made and total seconds spent waiting for stabilization
+    private int stabilizationPolls;
+    private int stabilizationElapsedSeconds;
 }
@@ -6,6 +6,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
 
 
 public class CreateHandler extends RegisterPackageVersionBaseHandler {
@@ -24,10 +25,11 @@ public class CreateHandler extends RegisterPackageVersionBaseHandler {
                 .then(progress ->
                         proxy.initiate("AWS-Panorama-PackageVersion::RegisterPackageVersion", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(super::checkExistenceAndRegisterPackageVersion)
+                                .makeServiceCall((registerPackageVersionRequest, client) ->
+                                        registerNewPackageVersion(registerPackageVersionRequest, client, callbackContext))
                                 .done((registerPackageVersionRequest, registerPackageVersionResponse, client, resourceModel, context) -> ProgressEvent.progress(resourceModel, context))
                 )
-                .then(progress -> super.stabilize(proxy, proxyClient, progress))
+                .then(progress -> super.stabilize(proxy, proxyClient, progress, logger))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
@@ -13,6 +13,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
 
 public class DeleteHandler extends BaseHandlerStd {
     private static final String OPERATION = "DeregisterPackageVersion";
@@ -53,13 +55,16 @@ public class DeleteHandler extends BaseHandlerStd {
             deletePackageVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
                     request, proxyClient.client()::deregisterPackageVersion);
         } catch (final PanoramaException e) {
-            logger.error(String.format("API Exception is thrown from Panorama service. PackageId: %s, PackageVersion: %s, PatchVersion: %s. Request: %s",
-                    request.packageId(), request.packageVersion(), request.patchVersion(), request.toString()));
+            logger.error("API Exception is thrown from Panorama service",
+                    "PackageId", request.packageId(),
+                    "PackageVersion", request.packageVersion(),
+                    "PatchVersion", request.patchVersion(),
+                    "Request", request);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     String.format("%s-%s-%s", request.packageId(), request.packageVersion(), request.patchVersion()),
-                    request.toString());
+                    request);
         } catch (final AwsServiceException e) {
             /*
              * While the handler contract states that the handler must always return a progress event,
@@ -67,13 +72,18 @@ public class DeleteHandler extends BaseHandlerStd {
              * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
              * to more specific error codes
              */
-            logger.error(String.format("Exception happened when deregistering PackageVersion. PackageId: %s, PackageVersion: %s, PatchVersion: %s. Request: %s",
-                    request.packageId(), request.packageVersion(), request.patchVersion(), request.toString()));
+            logger.error("Exception happened when deregistering PackageVersion",
+                    "PackageId", request.packageId(),
+                    "PackageVersion", request.packageVersion(),
+                    "PatchVersion", request.patchVersion(),
+                    "Request", request);
             throw new CfnGeneralServiceException(OPERATION, e);
         }
 
-        logger.info(String.format("%s successfully deleted for PackageId: %s, PackageVersion: %s, PatchVersion: %s",
-                ResourceModel.TYPE_NAME, request.packageId(), request.packageVersion(), request.patchVersion()));
+        logger.info("PackageVersion successfully deleted",
+                "PackageId", request.packageId(),
+                "PackageVersion", request.packageVersion(),
+                "PatchVersion", request.patchVersion());
         return deletePackageVersionResponse;
     }
 
@@ -103,8 +113,11 @@ public class DeleteHandler extends BaseHandlerStd {
             stabilized = true;
         }
 
-        logger.info(String.format("%s [%s-%s-%s] deregistration has stabilized: %s",
-                ResourceModel.TYPE_NAME, model.getPackageId(), model.getPackageVersion(), model.getPatchVersion(), stabilized));
+        logger.debug("PackageVersion deregistration stabilization checked",
+                "PackageId", model.getPackageId(),
+                "PackageVersion", model.getPackageVersion(),
+                "PatchVersion", model.getPatchVersion(),
+                "Stabilized", stabilized);
         return stabilized;
     }
 }
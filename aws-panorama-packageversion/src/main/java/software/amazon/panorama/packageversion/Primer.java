@@ -0,0 +1,67 @@
+package software.amazon.panorama.packageversion;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.panorama.common.ClientBuilder;
+import software.amazon.panorama.common.Priming;
+
+/**
+ * Cold start priming for the PackageVersion handlers, see {@link Priming}. It runs from the static initializer of
+ * {@link BaseHandlerStd}, and {@link #main} runs it on its own, e.g. to record the class list of a class-data-sharing
+ * archive.
+ */
+public class Primer {
+    // DescribePackageVersion answer of the local client, shaped like the service's
+    static final String DESCRIBE_PACKAGE_VERSION_RESPONSE = "{\"OwnerAccount\":\"123456789012\","
+            + "\"PackageId\":\"package-priming\",\"PackageArn\":\"arn:aws:panorama:us-east-1:123456789012:package/package-priming\","
+            + "\"PackageName\":\"priming\",\"PackageVersion\":\"1.0\",\"PatchVersion\":\"priming\",\"IsLatestPatch\":true,"
+            + "\"Status\":\"REGISTER_COMPLETED\",\"StatusDescription\":\"priming\",\"RegisteredTime\":1600000000}";
+
+    private static final ResourceModel MODEL = ResourceModel.builder()
+            .ownerAccount("123456789012")
+            .packageId("package-priming")
+            .packageVersion("1.0")
+            .patchVersion("priming")
+            .markLatest(true)
+            .build();
+
+    public static void prime() {
+        Priming.prime(steps());
+    }
+
+    static Priming.Step[] steps() {
+        return new Priming.Step[]{
+                Primer::translateRequests,
+                Primer::describeLocally,
+                () -> Priming.serializerRoundTrip(MODEL, new TypeReference<ResourceModel>() {}),
+                Primer::buildClient
+        };
+    }
+
+    private static void translateRequests() {
+        Translator.translateToCreateRequest(MODEL);
+        Translator.translateToDescribeRequestForUpdate(MODEL);
+        Translator.translateToDeleteRequest(MODEL);
+    }
+
+    private static void describeLocally() {
+        try (PanoramaClient client = Priming.localClient(DESCRIBE_PACKAGE_VERSION_RESPONSE)) {
+            Translator.translateFromReadResponse(client.describePackageVersion(Translator.translateToReadRequest(MODEL)));
+        }
+    }
+
+    private static void buildClient() {
+        // the handlers run in the region of the stack, which is the region of the function
+        final String region = System.getenv("AWS_REGION");
+        if (region != null) {
+            ClientBuilder.getClient(region);
+        }
+    }
+
+    /**
+     * Prime outside of a handler. Unlike the init phase, a failing step fails the run.
+     */
+    public static void main(final String[] args) throws Exception {
+        Priming.check(steps());
+    }
+}
@@ -11,6 +11,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
 
 public class ReadHandler extends BaseHandlerStd {
     private static final String OPERATION = "DescribePackageVersion";
@@ -32,14 +34,17 @@ public class ReadHandler extends BaseHandlerStd {
             describePackageVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
                     describePackageVersionRequest, proxyClient.client()::describePackageVersion);
         } catch (final PanoramaException e) {
-            this.logger.error(String.format("API Exception is thrown from Panorama service. PackageId: %s, PackageVersion: %s, PatchVersion: %s. Request: %s",
-                    model.getPackageId(), model.getPackageVersion(), model.getPatchVersion(), request.toString()));
+            this.logger.error("API Exception is thrown from Panorama service",
+                    "PackageId", model.getPackageId(),
+                    "PackageVersion", model.getPackageVersion(),
+                    "PatchVersion", model.getPatchVersion(),
+                    "Request", describePackageVersionRequest);
 
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     String.format("%s-%s-%s", describePackageVersionRequest.packageId(), describePackageVersionRequest.packageVersion(), describePackageVersionRequest.patchVersion()),
-                    describePackageVersionRequest.toString());
+                    describePackageVersionRequest);
         } catch (final AwsServiceException e) {
             /*
              * While the handler contract states that the handler must always return a progress event,
@@ -47,8 +52,11 @@ public class ReadHandler extends BaseHandlerStd {
              * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
              * to more specific error codes
              */
-            this.logger.error(String.format("Exception happened when reading PackageVersion. PackageId: %s, PackageVersion: %s, PatchVersion: %s. Request: %s",
-                    model.getPackageId(), model.getPackageVersion(), model.getPatchVersion(), request.toString()));
+            this.logger.error("Exception happened when reading PackageVersion",
+                    "PackageId", model.getPackageId(),
+                    "PackageVersion", model.getPackageVersion(),
+                    "PatchVersion", model.getPatchVersion(),
+                    "Request", describePackageVersionRequest);
             throw new CfnGeneralServiceException("DescribePackageVersion", e);
         }
 
@@ -12,9 +12,14 @@ import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.panorama.common.LoggerWrapper;
+import software.amazon.panorama.common.PanoramaExceptionTranslator;
+import software.amazon.panorama.common.StabilizationMetrics;
 
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -40,13 +45,16 @@ public abstract class RegisterPackageVersionBaseHandler extends BaseHandlerStd {
         try {
             registerPackageVersionResponse = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::registerPackageVersion);
         } catch (final PanoramaException e) {
-            logger.error(String.format("API Exception is thrown from Panorama service. PackageId: %s, PackageVersion: %s, PatchVersion: %s. Request: %s",
-                    request.packageId(), request.packageVersion(), request.patchVersion(), request.toString()));
+            logger.error("API Exception is thrown from Panorama service",
+                    "PackageId", request.packageId(),
+                    "PackageVersion", request.packageVersion(),
+                    "PatchVersion", request.patchVersion(),
+                    "Request", request);
             throw PanoramaExceptionTranslator.translateForAPIException(e,
                     OPERATION,
                     ResourceModel.TYPE_NAME,
                     String.format("%s-%s-%s", request.packageId(), request.packageVersion(), request.patchVersion()),
-                    request.toString());
+                    request);
         }  catch (final AwsServiceException e) {
             /*
              * While the handler contract states that the handler must always return a progress event,
@@ -54,21 +62,48 @@ public abstract class RegisterPackageVersionBaseHandler extends BaseHandlerStd {
              * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
              * to more specific error codes
              */
-            logger.error(String.format("Exception happened when registering PackageVersion. PackageId: %s, PackageVersion: %s, PatchVersion: %s. Request: %s",
-                    request.packageId(), request.packageVersion(), request.patchVersion(), request.toString()));
+            logger.error("Exception happened when registering PackageVersion",
+                    "PackageId", request.packageId(),
+                    "PackageVersion", request.packageVersion(),
+                    "PatchVersion", request.patchVersion(),
+                    "Request", request);
             throw new CfnGeneralServiceException(OPERATION, e);
         }
 
-        logger.info(String.format("%s successfully created for PackageId: %s, PackageVersion: %s, PatchVersion: %s",
-                ResourceModel.TYPE_NAME, request.packageId(), request.packageVersion(), request.patchVersion()));
+        logger.info("PackageVersion successfully created",
+                "PackageId", request.packageId(),
+                "PackageVersion", request.packageVersion(),
+                "PatchVersion", request.patchVersion());
         return registerPackageVersionResponse;
     }
 
-    protected RegisterPackageVersionResponse checkExistenceAndRegisterPackageVersion(
+    /**
+     * Register a PackageVersion which does not exist yet. The version is described first: an existing version, even
+     * one another stack is still registering, is reported as CfnAlreadyExistsException without being registered
+     * again, as registering it again would succeed and could change which patch is the latest. A ConflictException
+     * from the registration, for a version being deregistered, is reported the same way.
+     *
+     * The Panorama API has no conditional registration, so this cannot be made safe against a concurrent stack: when
+     * two stacks both describe the version before either registers it, both registrations succeed and both creates
+     * succeed with the same version.
+     *
+     * Once the registration succeeded it is recorded in the CallbackContext, so a re-invocation goes on to stabilize
+     * instead of finding its own version and failing.
+     */
+    protected RegisterPackageVersionResponse registerNewPackageVersion(
             final RegisterPackageVersionRequest request,
-            final ProxyClient<PanoramaClient> proxyClient) {
+            final ProxyClient<PanoramaClient> proxyClient,
+            final CallbackContext callbackContext) {
+        if (callbackContext.isRegistrationRequested()) {
+            logger.info("PackageVersion registration already requested, skipping",
+                    "PackageId", request.packageId(),
+                    "PackageVersion", request.packageVersion(),
+                    "PatchVersion", request.patchVersion());
+            return RegisterPackageVersionResponse.builder().build();
+        }
 
-        DescribePackageVersionRequest describePackageVersionRequest =  DescribePackageVersionRequest.builder()
+        final String identifier = String.format("%s-%s-%s", request.packageId(), request.packageVersion(), request.patchVersion());
+        final DescribePackageVersionRequest describePackageVersionRequest = DescribePackageVersionRequest.builder()
                 .ownerAccount(request.ownerAccount())
                 .packageId(request.packageId())
                 .packageVersion(request.packageVersion())
@@ -76,40 +111,76 @@ public abstract class RegisterPackageVersionBaseHandler extends BaseHandlerStd {
                 .build();
         try {
             proxyClient.injectCredentialsAndInvokeV2(describePackageVersionRequest, proxyClient.client()::describePackageVersion);
-            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, String.format("%s-%s-%s",
-                    describePackageVersionRequest.packageId(), describePackageVersionRequest.packageVersion(), describePackageVersionRequest.patchVersion()));
-        } catch (ResourceNotFoundException e) {
+            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, identifier);
+        } catch (final ResourceNotFoundException e) {
             logger.info("Resource does not exist, creating...");
         }
-        return registerPackageVersion(request, proxyClient);
+
+        final RegisterPackageVersionResponse registerPackageVersionResponse;
+        try {
+            registerPackageVersionResponse = registerPackageVersion(request, proxyClient);
+        } catch (final CfnResourceConflictException e) {
+            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, identifier, e.getCause());
+        }
+        callbackContext.setRegistrationRequested(true);
+        return registerPackageVersionResponse;
     }
 
+    /**
+     * Poll the PackageVersion until it is REGISTER_COMPLETED, at the intervals chosen by the StabilizationScheduler.
+     * The number of polls and the time waited are published through the given logger once the registration completes
+     * or fails.
+     */
     protected ProgressEvent<ResourceModel, CallbackContext> stabilize(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<PanoramaClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Logger metricsLogger) {
         return proxy.initiate("AWS-Panorama-PackageVersion::stabilize", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
+                .backoffDelay(new StabilizationScheduler(progress.getCallbackContext()))
                 .makeServiceCall(EMPTY_CALL)
                 .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                        isStabilized(proxyInvocation, model)).progress();
+                        isStabilized(proxyInvocation, model, callbackContext, metricsLogger)).progress();
     }
 
     private boolean isStabilized(final ProxyClient<PanoramaClient> proxyClient,
-                                 final ResourceModel model) {
+                                 final ResourceModel model,
+                                 final CallbackContext callbackContext,
+                                 final Logger metricsLogger) {
         DescribePackageVersionRequest describePackageVersionRequest = Translator.translateToReadRequest(model);
         DescribePackageVersionResponse describePackageVersionResponse = proxyClient.injectCredentialsAndInvokeV2(describePackageVersionRequest,
                 proxyClient.client()::describePackageVersion);
 
+        // the StabilizationScheduler picks the next polling interval from the status and description observed here
+        callbackContext.setStabilizationPolls(callbackContext.getStabilizationPolls() + 1);
+        callbackContext.setPackageVersionStatus(describePackageVersionResponse.statusAsString());
+        callbackContext.setStatusDescription(describePackageVersionResponse.statusDescription());
+
         PackageVersionStatus packageVersionStatus = describePackageVersionResponse.status();
         if (packageVersionStatus.equals(PackageVersionStatus.FAILED)) {
-            logger.error(String.format("RegisterPackageVersion failed because PackageVersionStatus shows FAILED for PackageId: %s, PackageVersion: %s, PatchVersion: %s",
-                    model.getPackageId(), model.getPackageVersion(), model.getPatchVersion()));
+            publishStabilization(metricsLogger, callbackContext);
+            logger.error("RegisterPackageVersion failed because PackageVersionStatus shows FAILED",
+                    "PackageId", model.getPackageId(),
+                    "PackageVersion", model.getPackageVersion(),
+                    "PatchVersion", model.getPatchVersion());
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME,
                     String.format("PackageId: %s, PackageVersion: %s, PatchVersion: %s", model.getPackageId(), model.getPackageVersion(), model.getPatchVersion()));
         }
 
-        return packageVersionStatus.equals(PackageVersionStatus.REGISTER_COMPLETED);
+        if (packageVersionStatus.equals(PackageVersionStatus.REGISTER_COMPLETED)) {
+            publishStabilization(metricsLogger, callbackContext);
+            return true;
+        }
+        return false;
+    }
+
+    private static void publishStabilization(final Logger metricsLogger, final CallbackContext callbackContext) {
+        StabilizationMetrics.publish(metricsLogger,
+                ResourceModel.TYPE_NAME,
+                callbackContext.getPackageVersionStatus(),
+                callbackContext.getStabilizationPolls(),
+                callbackContext.getStabilizationElapsedSeconds());
     }
 }
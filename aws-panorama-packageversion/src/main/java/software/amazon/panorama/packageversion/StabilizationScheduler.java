@@ -0,0 +1,62 @@
+package software.amazon.panorama.packageversion;
+
+import software.amazon.awssdk.services.panorama.model.PackageVersionStatus;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Delay for PackageVersion registration stabilization that picks the next polling interval from the last
+ * PackageVersionStatus and StatusDescription observed by the stabilizer.
+ *
+ * Registering a large node package can stay REGISTER_PENDING for minutes, so that phase backs off exponentially,
+ * starting over whenever the StatusDescription changes since the service reports progress there. Any other status is
+ * polled at the default interval. Chosen intervals and elapsed stabilization time are kept in the CallbackContext so
+ * they survive re-invocations.
+ */
+public class StabilizationScheduler implements Delay {
+    static final Duration TIMEOUT = Duration.ofHours(2L);
+    static final Interval DEFAULT_INTERVAL = new Interval(Duration.ofSeconds(5), Duration.ofSeconds(5));
+    static final Interval PENDING_INTERVAL = new Interval(Duration.ofSeconds(5), Duration.ofSeconds(60));
+
+    private final CallbackContext callbackContext;
+
+    public StabilizationScheduler(final CallbackContext callbackContext) {
+        this.callbackContext = callbackContext;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (callbackContext.getStabilizationElapsedSeconds() >= TIMEOUT.getSeconds()) {
+            return Duration.ZERO;
+        }
+
+        final String status = callbackContext.getPackageVersionStatus();
+        final String statusDescription = callbackContext.getStatusDescription();
+        final Interval interval = PackageVersionStatus.REGISTER_PENDING.toString().equals(status)
+                ? PENDING_INTERVAL
+                : DEFAULT_INTERVAL;
+
+        // keep backing off while nothing changes, start over from the base interval on a transition or a progress hint
+        long delaySeconds = interval.getBase().getSeconds();
+        if (status != null
+                && status.equals(callbackContext.getLastDelayStatus())
+                && Objects.equals(statusDescription, callbackContext.getLastDelayStatusDescription())) {
+            delaySeconds = Math.min(callbackContext.getLastDelaySeconds() * 2L, interval.getMax().getSeconds());
+        }
+
+        callbackContext.setLastDelayStatus(status);
+        callbackContext.setLastDelayStatusDescription(statusDescription);
+        callbackContext.setLastDelaySeconds((int) delaySeconds);
+        callbackContext.setStabilizationElapsedSeconds(callbackContext.getStabilizationElapsedSeconds() + (int) delaySeconds);
+        return Duration.ofSeconds(delaySeconds);
+    }
+
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    static class Interval {
+        private final Duration base;
+        private final Duration max;
+    }
+}
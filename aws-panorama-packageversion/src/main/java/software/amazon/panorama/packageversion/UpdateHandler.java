@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.panorama.common.LoggerWrapper;
 
 public class UpdateHandler extends RegisterPackageVersionBaseHandler {
 
@@ -37,7 +38,7 @@ public class UpdateHandler extends RegisterPackageVersionBaseHandler {
                                 .makeServiceCall(super::registerPackageVersion)
                                 .done((registerPackageVersionRequest, registerPackageVersionResponse, client, resourceModel, context) -> ProgressEvent.progress(resourceModel, context))
                 )
-                .then(progress -> super.stabilize(proxy, proxyClient, progress))
+                .then(progress -> super.stabilize(proxy, proxyClient, progress, logger))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -2,8 +2,18 @@ package software.amazon.panorama.packageversion;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.ConflictException;
 import software.amazon.awssdk.services.panorama.model.DescribePackageVersionRequest;
 import software.amazon.awssdk.services.panorama.model.DescribePackageVersionResponse;
 import software.amazon.awssdk.services.panorama.model.PackageVersionStatus;
@@ -12,10 +22,12 @@ import software.amazon.awssdk.services.panorama.model.RegisterPackageVersionResp
 import software.amazon.awssdk.services.panorama.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +40,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -78,16 +92,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().registerPackageVersion(any(RegisterPackageVersionRequest.class)))
                 .thenReturn(RegisterPackageVersionResponse.builder().build());
 
+        final Instant registeredTime = Instant.ofEpochSecond(Instant.now().getEpochSecond());
         when(proxyClient.client().describePackageVersion(any(DescribePackageVersionRequest.class)))
                 .thenThrow(ResourceNotFoundException.builder().build())
-                .thenReturn(DescribePackageVersionResponse.builder()
-                        .packageId(TEST_PACKAGE_ID)
-                        .packageName(TEST_PACKAGE_NAME)
-                        .packageVersion(TEST_PACKAGE_VERSION)
-                        .patchVersion(TEST_PATCH_VERSION)
-                        .status(PackageVersionStatus.REGISTER_COMPLETED)
-                        .registeredTime(Instant.ofEpochSecond(1000000000L))
-                        .build());
+                .thenReturn(describeResponse(registeredTime));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -97,7 +105,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .packageVersion(TEST_PACKAGE_VERSION)
                 .patchVersion(TEST_PATCH_VERSION)
                 .status(PackageVersionStatus.REGISTER_COMPLETED.toString())
-                .registeredTime(1000000000)
+                .registeredTime((int) registeredTime.getEpochSecond())
                 .build();
 
         assertThat(response).isNotNull();
@@ -107,34 +115,187 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        assertThat(response.getCallbackContext().isRegistrationRequested()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationPolls()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getPackageVersionStatus()).isEqualTo(PackageVersionStatus.REGISTER_COMPLETED.toString());
+
+        // described to check it does not exist, to stabilize and for the final read
+        verify(proxyClient.client(), times(1)).registerPackageVersion(any(RegisterPackageVersionRequest.class));
+        verify(proxyClient.client(), times(3)).describePackageVersion(any(DescribePackageVersionRequest.class));
     }
 
     @Test
     public void handleRequest_resource_already_exists() {
         final CreateHandler handler = new CreateHandler();
 
-        final ResourceModel model = ResourceModel.builder()
-                .packageId(TEST_PACKAGE_ID)
-                .packageVersion(TEST_PACKAGE_VERSION)
-                .patchVersion(TEST_PATCH_VERSION)
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model())
                 .build();
 
+        when(proxyClient.client().describePackageVersion(any(DescribePackageVersionRequest.class)))
+                .thenReturn(describeResponse(Instant.ofEpochSecond(1000000000L)));
+
+        assertThrows(CfnAlreadyExistsException.class, () -> {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        });
+
+        // the service would register it again, changing which patch is the latest
+        verify(proxyClient.client(), times(1)).describePackageVersion(any(DescribePackageVersionRequest.class));
+        verify(proxyClient.client(), never()).registerPackageVersion(any(RegisterPackageVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_registration_conflict() {
+        final CreateHandler handler = new CreateHandler();
+
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-                .desiredResourceState(model)
+                .desiredResourceState(model())
                 .build();
 
+        // a version being deregistered is no longer described but cannot be registered yet
         when(proxyClient.client().describePackageVersion(any(DescribePackageVersionRequest.class)))
-                .thenReturn(DescribePackageVersionResponse.builder()
-                        .packageId(TEST_PACKAGE_ID)
-                        .packageName(TEST_PACKAGE_NAME)
-                        .packageVersion(TEST_PACKAGE_VERSION)
-                        .patchVersion(TEST_PATCH_VERSION)
-                        .status(PackageVersionStatus.REGISTER_COMPLETED)
-                        .registeredTime(Instant.ofEpochSecond(1000000000L))
-                        .build());
+                .thenThrow(ResourceNotFoundException.builder().build());
+        when(proxyClient.client().registerPackageVersion(any(RegisterPackageVersionRequest.class)))
+                .thenThrow(ConflictException.builder().build());
 
+        final CallbackContext callbackContext = new CallbackContext();
         assertThrows(CfnAlreadyExistsException.class, () -> {
-            handler.handleRequest(proxy, request, new software.amazon.panorama.packageversion.CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
         });
+
+        assertThat(callbackContext.isRegistrationRequested()).isFalse();
+        verify(proxyClient.client(), times(1)).describePackageVersion(any(DescribePackageVersionRequest.class));
+        verify(proxyClient.client(), times(1)).registerPackageVersion(any(RegisterPackageVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_reinvocation_does_not_register_again() {
+        final CreateHandler handler = new CreateHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model())
+                .build();
+        final Instant registeredTime = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setRegistrationRequested(true);
+
+        when(proxyClient.client().describePackageVersion(any(DescribePackageVersionRequest.class)))
+                .thenReturn(describeResponse(registeredTime));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // its own registration is not taken for an existing version
+        verify(proxyClient.client(), never()).registerPackageVersion(any(RegisterPackageVersionRequest.class));
+        verify(proxyClient.client(), times(2)).describePackageVersion(any(DescribePackageVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_concurrent_creates() throws Exception {
+        final Instant registeredTime = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+        final AtomicBoolean registered = new AtomicBoolean();
+        // the service describes the version once it is registered and accepts every registration of it
+        when(proxyClient.client().registerPackageVersion(any(RegisterPackageVersionRequest.class)))
+                .thenAnswer(invocation -> {
+                    registered.set(true);
+                    return RegisterPackageVersionResponse.builder().build();
+                });
+        when(proxyClient.client().describePackageVersion(any(DescribePackageVersionRequest.class)))
+                .thenAnswer(invocation -> {
+                    if (!registered.get()) {
+                        throw ResourceNotFoundException.builder().build();
+                    }
+                    return describeResponse(registeredTime);
+                });
+
+        final int stacks = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(stacks);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> creates = new ArrayList<>();
+        int succeeded = 0;
+        try {
+            for (int i = 0; i < stacks; i++) {
+                creates.add(executor.submit(() -> {
+                    start.await();
+                    final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                            .desiredResourceState(model())
+                            .build();
+                    return new CreateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                }));
+            }
+            start.countDown();
+
+            for (final Future<ProgressEvent<ResourceModel, CallbackContext>> create : creates) {
+                try {
+                    assertThat(create.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(CfnAlreadyExistsException.class);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // stacks describing the version before any registered it all succeed, the API offers no way to tell them
+        // apart; a stack which failed never registered the version
+        assertThat(succeeded).isBetween(1, stacks);
+        verify(proxyClient.client(), times(succeeded)).registerPackageVersion(any(RegisterPackageVersionRequest.class));
+        verify(proxyClient.client(), times(stacks + 2 * succeeded)).describePackageVersion(any(DescribePackageVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_callback_stabilization() {
+        final CreateHandler handler = new CreateHandler();
+        // the wait strategy of the proxy the rpdk wrapper builds, every wait is handed back to CloudFormation
+        final AmazonWebServicesClientProxy callbackProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+
+        when(proxyClient.client().registerPackageVersion(any(RegisterPackageVersionRequest.class)))
+                .thenReturn(RegisterPackageVersionResponse.builder().build());
+        final Instant registeredTime = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+        when(proxyClient.client().describePackageVersion(any(DescribePackageVersionRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build())
+                .thenReturn(describeResponse(registeredTime).toBuilder().status(PackageVersionStatus.REGISTER_PENDING).build())
+                .thenReturn(describeResponse(registeredTime));
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(callbackProxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model()).build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(first.getCallbackDelaySeconds()).isEqualTo((int) StabilizationScheduler.PENDING_INTERVAL.getBase().getSeconds());
+        assertThat(first.getCallbackContext().getStabilizationPolls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(callbackProxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(first.getResourceModel()).build(),
+                first.getCallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getCallbackContext().getStabilizationPolls()).isEqualTo(2);
+
+        // the check before registering, one poll per invocation and the final read
+        verify(proxyClient.client(), times(1)).registerPackageVersion(any(RegisterPackageVersionRequest.class));
+        verify(proxyClient.client(), times(4)).describePackageVersion(any(DescribePackageVersionRequest.class));
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .packageVersion(TEST_PACKAGE_VERSION)
+                .patchVersion(TEST_PATCH_VERSION)
+                .build();
+    }
+
+    private static DescribePackageVersionResponse describeResponse(final Instant registeredTime) {
+        return DescribePackageVersionResponse.builder()
+                .packageId(TEST_PACKAGE_ID)
+                .packageName(TEST_PACKAGE_NAME)
+                .packageVersion(TEST_PACKAGE_VERSION)
+                .patchVersion(TEST_PATCH_VERSION)
+                .status(PackageVersionStatus.REGISTER_COMPLETED)
+                .registeredTime(registeredTime)
+                .build();
     }
 }
@@ -0,0 +1,33 @@
+package software.amazon.panorama.packageversion;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.PanoramaClient;
+import software.amazon.awssdk.services.panorama.model.DescribePackageVersionRequest;
+import software.amazon.panorama.common.Priming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimerTest {
+
+    @Test
+    void testSteps_succeed() throws Exception {
+        // Priming.prime swallows failures, so run the steps directly
+        for (final Priming.Step step : Primer.steps()) {
+            step.run();
+        }
+    }
+
+    @Test
+    void testDescribeResponse_unmarshalsEveryMember() {
+        try (PanoramaClient client = Priming.localClient(Primer.DESCRIBE_PACKAGE_VERSION_RESPONSE)) {
+            final ResourceModel model = Translator.translateFromReadResponse(client.describePackageVersion(
+                    DescribePackageVersionRequest.builder().packageId("package-priming").packageVersion("1.0").build()));
+
+            assertThat(model.getPackageId()).isEqualTo("package-priming");
+            assertThat(model.getPatchVersion()).isEqualTo("priming");
+            assertThat(model.getIsLatestPatch()).isTrue();
+            assertThat(model.getStatus()).isEqualTo("REGISTER_COMPLETED");
+            assertThat(model.getRegisteredTime()).isEqualTo(1600000000);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package software.amazon.panorama.packageversion;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.panorama.model.PackageVersionStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationSchedulerTest {
+
+    @Test
+    void testNextDelay_backsOffWhilePending() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+        callbackContext.setPackageVersionStatus(PackageVersionStatus.REGISTER_PENDING.toString());
+
+        assertThat(scheduler.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(scheduler.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(scheduler.nextDelay(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(scheduler.nextDelay(4)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(scheduler.nextDelay(5)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(scheduler.nextDelay(6)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(callbackContext.getStabilizationElapsedSeconds()).isEqualTo(195);
+    }
+
+    @Test
+    void testNextDelay_resetsOnProgressHint() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+        callbackContext.setPackageVersionStatus(PackageVersionStatus.REGISTER_PENDING.toString());
+        callbackContext.setStatusDescription("Copying assets");
+
+        assertThat(scheduler.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(scheduler.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+
+        callbackContext.setStatusDescription("Validating assets");
+        assertThat(scheduler.nextDelay(3)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(callbackContext.getLastDelayStatusDescription()).isEqualTo("Validating assets");
+    }
+
+    @Test
+    void testNextDelay_otherStatusesUseDefault() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final StabilizationScheduler scheduler = new StabilizationScheduler(callbackContext);
+
+        assertThat(scheduler.nextDelay(1)).isEqualTo(StabilizationScheduler.DEFAULT_INTERVAL.getBase());
+        callbackContext.setPackageVersionStatus(PackageVersionStatus.DELETING.toString());
+        assertThat(scheduler.nextDelay(2)).isEqualTo(StabilizationScheduler.DEFAULT_INTERVAL.getBase());
+        assertThat(scheduler.nextDelay(3)).isEqualTo(StabilizationScheduler.DEFAULT_INTERVAL.getBase());
+    }
+
+    @Test
+    void testNextDelay_survivesReinvocation() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPackageVersionStatus(PackageVersionStatus.REGISTER_PENDING.toString());
+        new StabilizationScheduler(callbackContext).nextDelay(1);
+
+        // a re-invocation builds a new scheduler over the persisted context and keeps backing off
+        assertThat(new StabilizationScheduler(callbackContext).nextDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(callbackContext.getLastDelayStatus()).isEqualTo(PackageVersionStatus.REGISTER_PENDING.toString());
+        assertThat(callbackContext.getLastDelaySeconds()).isEqualTo(10);
+        assertThat(callbackContext.getStabilizationElapsedSeconds()).isEqualTo(15);
+    }
+
+    @Test
+    void testNextDelay_timesOut() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStabilizationElapsedSeconds((int) StabilizationScheduler.TIMEOUT.getSeconds());
+
+        assertThat(new StabilizationScheduler(callbackContext).nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+}